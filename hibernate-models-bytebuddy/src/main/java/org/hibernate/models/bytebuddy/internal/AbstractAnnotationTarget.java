@@ -9,6 +9,8 @@ import java.util.Map;
 
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
 import org.hibernate.models.internal.AnnotationTargetSupport;
+import org.hibernate.models.internal.RepeatedUsageCache;
+import org.hibernate.models.internal.util.LazyReference;
 
 import net.bytebuddy.description.annotation.AnnotationSource;
 
@@ -18,7 +20,8 @@ import net.bytebuddy.description.annotation.AnnotationSource;
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final ByteBuddyModelsContext modelContext;
 
-	private Map<Class<? extends Annotation>, ? extends Annotation> usageMap;
+	private final LazyReference<Map<Class<? extends Annotation>, ? extends Annotation>> usageMap = new LazyReference<>();
+	private final RepeatedUsageCache repeatedUsageCache = new RepeatedUsageCache();
 
 	public AbstractAnnotationTarget(ByteBuddyModelsContext modelContext) {
 		this.modelContext = modelContext;
@@ -32,15 +35,21 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
-		if ( usageMap == null ) {
-			usageMap = ByteBuddyBuilders.collectUsages( getAnnotationSource(), modelContext );
-		}
-		return usageMap;
+		return usageMap.get( this, AbstractAnnotationTarget::collectUsages );
+	}
+
+	private Map<Class<? extends Annotation>, ? extends Annotation> collectUsages() {
+		return ByteBuddyBuilders.collectUsages( getAnnotationSource(), modelContext );
 	}
 
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
+	@Override
+	public RepeatedUsageCache getRepeatedUsageCache() {
+		return repeatedUsageCache;
+	}
 }
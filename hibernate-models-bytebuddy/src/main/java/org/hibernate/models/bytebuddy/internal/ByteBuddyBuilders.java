@@ -12,7 +12,7 @@ import java.lang.annotation.Target;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import org.hibernate.models.bytebuddy.internal.values.ArrayValueConverter;
@@ -39,7 +39,7 @@ import org.hibernate.models.internal.util.CollectionHelper;
 import org.hibernate.models.internal.util.StringHelper;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
-import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.AnnotationUsageCreator;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
@@ -71,6 +71,24 @@ public class ByteBuddyBuilders {
 	 * @return The created ClassDetails; may be {@code null}.
 	 */
 	public static ClassDetails buildDetails(String name, ByteBuddyModelsContext modelsContext) {
+		return buildDetails( name, modelsContext, null );
+	}
+
+	/**
+	 * Form of {@linkplain #buildDetails(String, ByteBuddyModelsContext)} remembering the
+	 * names known to have no {@code package-info}, so that the type pool is probed for each
+	 * of them only once.
+	 *
+	 * @param name The class name
+	 * @param modelsContext The hibernate-models context
+	 * @param namesWithoutPackageInfo Names for which no {@code package-info} exists; may be {@code null}.
+	 *
+	 * @return The created ClassDetails; may be {@code null}.
+	 */
+	public static ClassDetails buildDetails(
+			String name,
+			ByteBuddyModelsContext modelsContext,
+			Set<String> namesWithoutPackageInfo) {
 		if ( StringHelper.isEmpty( name ) ) {
 			return null;
 		}
@@ -92,28 +110,43 @@ public class ByteBuddyBuilders {
 
 		final TypePool typePool = modelsContext.getTypePool();
 
-		try {
-			return new ClassDetailsImpl( typePool.describe( name ).resolve(), modelsContext );
+		final TypeDescription typeDescription = resolveIfPresent( typePool, name );
+		if ( typeDescription != null ) {
+			return new ClassDetailsImpl( typeDescription, modelsContext );
 		}
-		catch (Exception noClass) {
-			// continue to the next checks
+
+		if ( namesWithoutPackageInfo != null && namesWithoutPackageInfo.contains( name ) ) {
+			return null;
 		}
 
-		try {
-			// potentially handle package names
-			final String packageInfoName = name + ".package-info";
-			// just make sure it is resolvable
-			typePool.describe( packageInfoName ).resolve();
+		// potentially handle package names
+		final String packageInfoName = name + ".package-info";
+		if ( resolveIfPresent( typePool, packageInfoName ) != null ) {
 			// package-info is safe to load through using Class
 			return JdkBuilders.buildClassDetailsStatic( packageInfoName, modelsContext );
 		}
-		catch (Exception noClass) {
-			// continue to the next checks
-		}
 
+		if ( namesWithoutPackageInfo != null ) {
+			namesWithoutPackageInfo.add( name );
+		}
 		return null;
 	}
 
+	/**
+	 * Look the type up in the pool, returning {@code null} rather than throwing if it is not known.
+	 */
+	private static TypeDescription resolveIfPresent(TypePool typePool, String name) {
+		final TypePool.Resolution resolution;
+		try {
+			resolution = typePool.describe( name );
+		}
+		catch (RuntimeException e) {
+			// some ClassFileLocators report a missing class by throwing, rather than by an unresolved Resolution
+			return null;
+		}
+		return resolution.isResolved() ? resolution.resolve() : null;
+	}
+
 	/**
 	 * Build a MethodDetails from the Byte Buddy form.
 	 *
@@ -248,7 +281,11 @@ public class ByteBuddyBuilders {
 					annotationDescriptor,
 					modelsContext
 			);
-			consumer.accept( annotationType, usage );
+			// computing the interning key would decode every attribute value, defeating the lazy decoding
+			consumer.accept(
+					annotationType,
+					decodesLazily( annotationDescriptor ) ? usage : modelsContext.getAnnotationUsageInterner().intern( usage )
+			);
 		}
 	}
 
@@ -266,37 +303,32 @@ public class ByteBuddyBuilders {
 			AnnotationDescription annotationDescription,
 			AnnotationDescriptor<A> annotationDescriptor,
 			ModelsContext modelsContext) {
-		final Map<String, Object> attributeValues = extractAttributeValues(
+		final AnnotationUsageCreator<AnnotationDescription, ? extends A> usageCreator =
+				annotationDescriptor.findUsageCreator( AnnotationDescription.class );
+		if ( usageCreator != null ) {
+			return usageCreator.createUsage( annotationDescription, modelsContext );
+		}
+
+		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
+			return annotationDescriptor.createUsage( Collections.emptyMap(), modelsContext );
+		}
+
+		// attribute values are decoded as they are read
+		final LazyAttributeValues attributeValues = new LazyAttributeValues(
 				annotationDescription,
 				annotationDescriptor,
-				modelsContext
+				modelsContext.as( ByteBuddyModelsContext.class )
 		);
 		return annotationDescriptor.createUsage( attributeValues, modelsContext );
 	}
 
-	private static <A extends Annotation> Map<String, Object> extractAttributeValues(
-			AnnotationDescription annotationDescription,
-			AnnotationDescriptor<A> annotationDescriptor,
-			ModelsContext modelContext) {
-
-		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
-			return Collections.emptyMap();
-		}
-
-		final ConcurrentHashMap<String, Object> valueMap = new ConcurrentHashMap<>();
-		for ( int i = 0; i < annotationDescriptor.getAttributes().size(); i++ ) {
-			final AttributeDescriptor<?> attributeDescriptor = annotationDescriptor.getAttributes().get( i );
-			final ValueExtractor<?> extractor = modelContext
-					.as( ByteBuddyModelsContext.class )
-					.getValueExtractor( attributeDescriptor.getTypeDescriptor() );
-			final Object attributeValue = extractor.extractValue(
-					annotationDescription,
-					attributeDescriptor.getName(),
-					modelContext
-			);
-			valueMap.put( attributeDescriptor.getName(), attributeValue );
-		}
-		return valueMap;
+	/**
+	 * Whether {@linkplain #makeUsage} creates usages of the given annotation over
+	 * {@linkplain LazyAttributeValues lazily decoded} values.
+	 */
+	private static boolean decodesLazily(AnnotationDescriptor<?> annotationDescriptor) {
+		return annotationDescriptor.findUsageCreator( AnnotationDescription.class ) == null
+				&& !CollectionHelper.isEmpty( annotationDescriptor.getAttributes() );
 	}
 
 
@@ -4,8 +4,8 @@
  */
 package org.hibernate.models.bytebuddy.internal;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
 import org.hibernate.models.bytebuddy.spi.ValueExtractor;
@@ -35,7 +35,7 @@ public class ByteBuddyModelsContextImpl
 	private final AnnotationDescriptorRegistryStandard descriptorRegistry;
 
 	@SuppressWarnings("rawtypes")
-	private final Map<ValueTypeDescriptor, ValueExtractor> valueExtractors = new HashMap<>();
+	private final Map<ValueTypeDescriptor, ValueExtractor> valueExtractors = new ConcurrentHashMap<>();
 
 	public ByteBuddyModelsContextImpl(
 			TypePool typePool,
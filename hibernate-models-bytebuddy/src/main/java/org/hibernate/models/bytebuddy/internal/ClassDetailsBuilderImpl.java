@@ -4,6 +4,9 @@
  */
 package org.hibernate.models.bytebuddy.internal;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsBuilder;
@@ -14,6 +17,8 @@ import org.hibernate.models.spi.ModelsContext;
  */
 public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
 	private final ByteBuddyModelsContext modelContext;
+	// names for which the type pool knows no package-info
+	private final Set<String> namesWithoutPackageInfo = ConcurrentHashMap.newKeySet();
 
 	public ClassDetailsBuilderImpl(ByteBuddyModelsContext modelContext) {
 		this.modelContext = modelContext;
@@ -22,6 +27,6 @@ public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
 	@Override
 	public ClassDetails buildClassDetails(String name, ModelsContext modelsContext) {
 		assert modelsContext == modelContext;
-		return ByteBuddyBuilders.buildDetails( name, modelContext );
+		return ByteBuddyBuilders.buildDetails( name, modelContext, namesWithoutPackageInfo );
 	}
 }
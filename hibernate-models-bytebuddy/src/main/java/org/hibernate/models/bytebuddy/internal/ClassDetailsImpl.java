@@ -9,13 +9,20 @@ import java.util.List;
 
 import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
 import org.hibernate.models.internal.ClassDetailsSupport;
+import org.hibernate.models.internal.DerivedMemberState;
+import org.hibernate.models.internal.EffectiveUsageCache;
+import org.hibernate.models.internal.SupertypeClosure;
 import org.hibernate.models.internal.jdk.SerialJdkClassDetails;
 import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.ResolvedHierarchy;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
@@ -42,19 +49,25 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	private final TypeDescription typeDescription;
 
 	private final ClassDetails superClassDetails;
-	private TypeDetails genericSuperType;
-	private List<TypeDetails> implementedInterfaces;
-	private List<TypeVariableDetails> typeParameters;
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeDetails> implementedInterfaces;
+	private volatile List<TypeVariableDetails> typeParameters;
 
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
-	private List<RecordComponentDetails> recordComponents;
+	private final LazyReference<List<FieldDetails>> fields = new LazyReference<>();
+	private final LazyReference<List<MethodDetails>> methods = new LazyReference<>();
+	private final LazyReference<List<RecordComponentDetails>> recordComponents = new LazyReference<>();
+
+	private volatile DerivedMemberState derivedMemberState;
+	private final LazyReference<SupertypeClosure> supertypeClosure = new LazyReference<>();
+	private final EffectiveUsageCache effectiveUsageCache;
 
 	public ClassDetailsImpl(TypeDescription typeDescription, ByteBuddyModelsContext modelContext) {
 		super( modelContext );
 		assert !typeDescription.isPrimitive();
 		this.typeDescription = typeDescription;
 		this.superClassDetails = determineSuperType( typeDescription, modelContext );
+		this.effectiveUsageCache = new EffectiveUsageCache( this, modelContext );
+		this.derivedMemberState = new DerivedMemberState( modelContext );
 	}
 
 	@Override
@@ -104,24 +117,30 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 
 	@Override
 	public TypeDetails getGenericSuperType() {
+		TypeDetails genericSuperType = this.genericSuperType;
 		if ( genericSuperType == null && typeDescription.getSuperClass() != null ) {
 			genericSuperType = determineGenericSuperType( typeDescription, getModelContext() );
+			this.genericSuperType = genericSuperType;
 		}
 		return genericSuperType;
 	}
 
 	@Override
 	public List<TypeDetails> getImplementedInterfaces() {
+		List<TypeDetails> implementedInterfaces = this.implementedInterfaces;
 		if ( implementedInterfaces == null ) {
 			implementedInterfaces = determineInterfaces( typeDescription, getModelContext() );
+			this.implementedInterfaces = implementedInterfaces;
 		}
 		return implementedInterfaces;
 	}
 
 	@Override
 	public List<TypeVariableDetails> getTypeParameters() {
+		List<TypeVariableDetails> typeParameters = this.typeParameters;
 		if ( typeParameters == null ) {
-			this.typeParameters = determineTypeParameters( typeDescription, this, getModelContext() );
+			typeParameters = determineTypeParameters( typeDescription, this, getModelContext() );
+			this.typeParameters = typeParameters;
 		}
 		return typeParameters;
 	}
@@ -133,10 +152,7 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			fields = resolveFields();
-		}
-		return fields;
+		return fields.get( this, ClassDetailsImpl::resolveFields );
 	}
 
 	private List<FieldDetails> resolveFields() {
@@ -151,14 +167,12 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		membersChanged();
 	}
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			methods = resolveMethods();
-		}
-		return methods;
+		return methods.get( this, ClassDetailsImpl::resolveMethods );
 	}
 
 	private List<MethodDetails> resolveMethods() {
@@ -176,14 +190,43 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		membersChanged();
+	}
+
+	private void membersChanged() {
+		final DerivedMemberState cleared = derivedMemberState.cleared();
+		derivedMemberState = cleared;
+		cleared.announceChange();
+	}
+
+	@Override
+	public PersistableMembers getPersistableMembers() {
+		return derivedMemberState.getPersistableMembers( this );
+	}
+
+	@Override
+	public ResolvedHierarchy getResolvedHierarchy() {
+		return derivedMemberState.getResolvedHierarchy( this );
+	}
+
+	@Override
+	public ModelFingerprint getFingerprint(ModelsContext modelsContext) {
+		return derivedMemberState.getFingerprint( this, modelsContext );
+	}
+
+	@Override
+	public SupertypeClosure getSupertypeClosure() {
+		return supertypeClosure.get( this, SupertypeClosure::from );
+	}
+
+	@Override
+	public EffectiveUsageCache getEffectiveUsageCache() {
+		return effectiveUsageCache;
 	}
 
 	@Override
 	public List<RecordComponentDetails> getRecordComponents() {
-		if ( recordComponents == null ) {
-			recordComponents = resolveRecordComponents();
-		}
-		return recordComponents;
+		return recordComponents.get( this, ClassDetailsImpl::resolveRecordComponents );
 	}
 
 	private List<RecordComponentDetails> resolveRecordComponents() {
@@ -4,6 +4,8 @@
  */
 package org.hibernate.models.bytebuddy.internal;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.models.UnknownClassException;
 import org.hibernate.models.internal.AbstractClassDetailsRegistry;
@@ -17,6 +19,8 @@ import org.hibernate.models.spi.ClassDetailsBuilder;
  */
 public class ClassDetailsRegistryImpl extends AbstractClassDetailsRegistry {
 	private final ClassDetailsBuilderImpl classDetailsBuilder;
+	// names neither the type pool nor the JDK fallback could resolve
+	private final Set<String> unresolvableNames = ConcurrentHashMap.newKeySet();
 
 	public ClassDetailsRegistryImpl(ByteBuddyModelsContextImpl context) {
 		super( context );
@@ -30,19 +34,28 @@ public class ClassDetailsRegistryImpl extends AbstractClassDetailsRegistry {
 
 	@Override
 	protected ClassDetails createClassDetails(String name) {
+		if ( unresolvableNames.contains( name ) ) {
+			throw new UnknownClassException( "Unable to resolve ClassDetails for `" + name + "`" );
+		}
+
 		final ClassDetails fromByteBuddy = classDetailsBuilder.buildClassDetails( name, context );
 		if ( fromByteBuddy != null ) {
-			addClassDetails( name, fromByteBuddy );
-			return fromByteBuddy;
+			return addClassDetailsIfAbsent( name, fromByteBuddy );
 		}
 
-		final JdkClassDetails jdkClassDetails = JdkBuilders.DEFAULT_BUILDER.buildClassDetails( name, context );
+		final JdkClassDetails jdkClassDetails;
+		try {
+			jdkClassDetails = JdkBuilders.DEFAULT_BUILDER.buildClassDetails( name, context );
+		}
+		catch (UnknownClassException e) {
+			unresolvableNames.add( name );
+			throw e;
+		}
 		if ( jdkClassDetails != null ) {
-			addClassDetails( name, jdkClassDetails );
-			return jdkClassDetails;
+			return addClassDetailsIfAbsent( name, jdkClassDetails );
 		}
 
+		unresolvableNames.add( name );
 		throw new UnknownClassException( "Unable to resolve ClassDetails for `" + name + "`" );
 	}
-
 }
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.bytebuddy.internal;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.bytebuddy.spi.ByteBuddyModelsContext;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AttributeDescriptor;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
+
+/**
+ * The attribute values of an annotation usage, decoded from the
+ * {@linkplain AnnotationDescription Byte Buddy form} one attribute at a time, on first
+ * access, and memoized.  Most consumers only ever read one or two attributes of a usage,
+ * so this avoids resolving nested annotations, {@code Class} values and enum constants
+ * nobody looks at.
+ * <p/>
+ * Once every attribute value has been decoded - either because each was read or because
+ * the values were {@linkplain #materialize() materialized} - the map lets go of the
+ * Byte Buddy form.  Any mutation, or access to the full {@linkplain #entrySet() entry set},
+ * materializes the values first.
+ */
+public class LazyAttributeValues extends AbstractMap<String,Object> {
+	private final AnnotationDescriptor<?> annotationDescriptor;
+	private final ByteBuddyModelsContext modelsContext;
+	private final Map<String,Object> values;
+	// the names of the attributes decoded so far, tracked apart from the values as those may be null
+	private final Set<String> decoded;
+
+	// null once all values are decoded
+	private volatile AnnotationDescription annotationDescription;
+
+	public LazyAttributeValues(
+			AnnotationDescription annotationDescription,
+			AnnotationDescriptor<?> annotationDescriptor,
+			ByteBuddyModelsContext modelsContext) {
+		this.annotationDescription = annotationDescription;
+		this.annotationDescriptor = annotationDescriptor;
+		this.modelsContext = modelsContext;
+		this.values = new ConcurrentHashMap<>( determineProperSizing( annotationDescriptor.getAttributes().size() ) );
+		this.decoded = ConcurrentHashMap.newKeySet( annotationDescriptor.getAttributes().size() );
+	}
+
+	/**
+	 * Whether all values have been decoded and the Byte Buddy form released.
+	 */
+	public boolean isMaterialized() {
+		return annotationDescription == null;
+	}
+
+	/**
+	 * Decode all values not yet decoded, releasing the Byte Buddy form.
+	 */
+	public void materialize() {
+		final AnnotationDescription annotationDescription = this.annotationDescription;
+		if ( annotationDescription == null ) {
+			return;
+		}
+
+		final List<AttributeDescriptor<?>> attributes = annotationDescriptor.getAttributes();
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			if ( !decoded.contains( attributes.get( i ).getName() ) ) {
+				decode( attributes.get( i ), annotationDescription );
+			}
+		}
+		this.annotationDescription = null;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( decoded.contains( key ) ) {
+			return values.get( key );
+		}
+
+		final AnnotationDescription annotationDescription = this.annotationDescription;
+		if ( annotationDescription == null || !( key instanceof String name ) ) {
+			return values.get( key );
+		}
+
+		final AttributeDescriptor<?> attributeDescriptor = annotationDescriptor.findAttribute( name );
+		if ( attributeDescriptor == null ) {
+			return null;
+		}
+		final Object value = decode( attributeDescriptor, annotationDescription );
+		if ( decoded.size() == annotationDescriptor.getAttributes().size() ) {
+			this.annotationDescription = null;
+		}
+		return value;
+	}
+
+	private Object decode(AttributeDescriptor<?> attributeDescriptor, AnnotationDescription annotationDescription) {
+		final Object value = modelsContext
+				.getValueExtractor( attributeDescriptor.getTypeDescriptor() )
+				.extractValue( annotationDescription, attributeDescriptor.getName(), modelsContext );
+		final Object existing = value == null ? null : values.putIfAbsent( attributeDescriptor.getName(), value );
+		// recorded after the value, so a decoded name always finds its value
+		decoded.add( attributeDescriptor.getName() );
+		return existing == null ? value : existing;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		materialize();
+		return values.put( key, value );
+	}
+
+	@Override
+	public Object remove(Object key) {
+		materialize();
+		return values.remove( key );
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		materialize();
+		return values.entrySet();
+	}
+}
@@ -28,6 +28,7 @@ import org.hibernate.models.spi.TypeDetails;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.method.ParameterList;
 import net.bytebuddy.description.type.TypeDescription;
 
 /**
@@ -41,8 +42,9 @@ public class MethodDetailsImpl
 	private final TypeDetails type;
 	private final ClassDetails declaringType;
 
-	private final ClassDetails returnType;
-	private final List<ClassDetails> argumentTypes;
+	// resolved on first access
+	private volatile ClassDetails returnType;
+	private volatile List<ClassDetails> argumentTypes;
 
 	private final boolean isArray;
 	private final boolean isPlural;
@@ -59,14 +61,6 @@ public class MethodDetailsImpl
 		this.type = type;
 		this.declaringType = declaringType;
 
-		final ClassDetailsRegistry classDetailsRegistry = modelContext.getClassDetailsRegistry();
-		this.returnType = classDetailsRegistry.resolveClassDetails( methodDescription.getReturnType().getTypeName() );
-
-		this.argumentTypes = new ArrayList<>( methodDescription.getParameters().size() );
-		for ( int i = 0; i < methodDescription.getParameters().size(); i++ ) {
-			argumentTypes.add( classDetailsRegistry.resolveClassDetails( methodDescription.getParameters().get( i ).getType().getTypeName() ) );
-		}
-
 		switch ( methodKind ) {
 			case GETTER -> {
 				this.isArray = methodDescription.getReturnType().isArray();
@@ -98,11 +92,26 @@ public class MethodDetailsImpl
 
 	@Override
 	public ClassDetails getReturnType() {
+		ClassDetails returnType = this.returnType;
+		if ( returnType == null ) {
+			returnType = getModelContext().getClassDetailsRegistry().resolveClassDetails( methodDescription.getReturnType().getTypeName() );
+			this.returnType = returnType;
+		}
 		return returnType;
 	}
 
 	@Override
 	public List<ClassDetails> getArgumentTypes() {
+		List<ClassDetails> argumentTypes = this.argumentTypes;
+		if ( argumentTypes == null ) {
+			final ClassDetailsRegistry classDetailsRegistry = getModelContext().getClassDetailsRegistry();
+			final ParameterList<?> parameters = methodDescription.getParameters();
+			argumentTypes = new ArrayList<>( parameters.size() );
+			for ( int i = 0; i < parameters.size(); i++ ) {
+				argumentTypes.add( classDetailsRegistry.resolveClassDetails( parameters.get( i ).getType().getTypeName() ) );
+			}
+			this.argumentTypes = argumentTypes;
+		}
 		return argumentTypes;
 	}
 
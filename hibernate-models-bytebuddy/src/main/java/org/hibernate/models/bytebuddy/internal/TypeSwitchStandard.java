@@ -41,7 +41,8 @@ public class TypeSwitchStandard implements TypeSwitch<TypeDetails> {
 
 	public static TypeDetails switchType(TypeDefinition typeDescription, ClassDetails declaringType, ModelsContext modelsContext) {
 		final TypeSwitchStandard switchImpl = new TypeSwitchStandard( declaringType );
-		return TypeSwitcher.switchType( typeDescription, switchImpl, modelsContext );
+		final TypeDetails switched = TypeSwitcher.switchType( typeDescription, switchImpl, modelsContext );
+		return modelsContext.getTypeDetailsPool().intern( switched );
 	}
 
 
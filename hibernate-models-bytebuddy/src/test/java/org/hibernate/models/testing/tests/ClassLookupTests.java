@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.bytebuddy.internal.ByteBuddyModelsContextImpl;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.testing.shared.intg.ByteBuddyModelsContextFactory;
+
+import org.junit.jupiter.api.Test;
+
+import net.bytebuddy.pool.TypePool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for how often the type pool is consulted when resolving classes
+ */
+public class ClassLookupTests {
+	private static final String MISSING_NAME = "org.hibernate.models.testing.tests.DoesNotExist";
+
+	@Test
+	void testMissingClassLookups() {
+		final CountingTypePool typePool = new CountingTypePool( ByteBuddyModelsContextFactory.buildTypePool( SimpleEntity.class ) );
+		final ByteBuddyModelsContextImpl modelsContext = new ByteBuddyModelsContextImpl( typePool, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+
+		for ( int i = 0; i < 2; i++ ) {
+			try {
+				registry.resolveClassDetails( MISSING_NAME );
+				fail( "Expecting UnknownClassException" );
+			}
+			catch (UnknownClassException expected) {
+			}
+		}
+
+		// the second resolution is answered without consulting the type pool again
+		assertThat( typePool.describeCount( MISSING_NAME ) ).isEqualTo( 1 );
+		assertThat( typePool.describeCount( MISSING_NAME + ".package-info" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testMissingPackageInfoLookups() {
+		final CountingTypePool typePool = new CountingTypePool( ByteBuddyModelsContextFactory.buildTypePool( SimpleEntity.class ) );
+		final ByteBuddyModelsContextImpl modelsContext = new ByteBuddyModelsContextImpl( typePool, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsBuilder builder = modelsContext.getClassDetailsRegistry().getClassDetailsBuilder();
+
+		assertThat( builder.buildClassDetails( MISSING_NAME, modelsContext ) ).isNull();
+		assertThat( builder.buildClassDetails( MISSING_NAME, modelsContext ) ).isNull();
+
+		assertThat( typePool.describeCount( MISSING_NAME + ".package-info" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testResolvedClassLookups() {
+		final CountingTypePool typePool = new CountingTypePool( ByteBuddyModelsContextFactory.buildTypePool( SimpleEntity.class ) );
+		final ByteBuddyModelsContextImpl modelsContext = new ByteBuddyModelsContextImpl( typePool, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+
+		final ClassDetails classDetails = registry.resolveClassDetails( SimpleEntity.class.getName() );
+		assertThat( classDetails.getName() ).isEqualTo( SimpleEntity.class.getName() );
+		assertThat( registry.resolveClassDetails( SimpleEntity.class.getName() ) ).isSameAs( classDetails );
+
+		assertThat( typePool.describeCount( SimpleEntity.class.getName() ) ).isEqualTo( 1 );
+		assertThat( typePool.describeCount( SimpleEntity.class.getName() + ".package-info" ) ).isEqualTo( 0 );
+	}
+
+	@SuppressWarnings("unused")
+	public static class SimpleEntity {
+		private Integer id;
+	}
+
+	private static class CountingTypePool implements TypePool {
+		private final TypePool delegate;
+		private final Map<String, Integer> describeCounts = new ConcurrentHashMap<>();
+
+		private CountingTypePool(TypePool delegate) {
+			this.delegate = delegate;
+		}
+
+		private int describeCount(String name) {
+			return describeCounts.getOrDefault( name, 0 );
+		}
+
+		@Override
+		public Resolution describe(String name) {
+			describeCounts.merge( name, 1, Integer::sum );
+			return delegate.describe( name );
+		}
+
+		@Override
+		public void clear() {
+			delegate.clear();
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.bytebuddy.internal.ByteBuddyModelsContextImpl;
+import org.hibernate.models.bytebuddy.internal.LazyAttributeValues;
+import org.hibernate.models.bytebuddy.spi.ValueExtractor;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ValueTypeDescriptor;
+import org.hibernate.models.testing.shared.intg.ByteBuddyModelsContextFactory;
+
+import org.junit.jupiter.api.Test;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for {@linkplain LazyAttributeValues}
+ */
+public class LazyAttributeValuesTests {
+	private static final String ABSENT = "absent";
+
+	@Test
+	void testDecodeOnFirstAccess() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class );
+		final LazyAttributeValues values = modelsContext.lazyValues( Sampled.class );
+		assertThat( modelsContext.decodeCounts ).isEmpty();
+
+		assertThat( values.get( "name" ) ).isEqualTo( "sampled" );
+		assertThat( modelsContext.decodeCount( "name" ) ).isEqualTo( 1 );
+		assertThat( modelsContext.decodeCount( "detail" ) ).isEqualTo( 0 );
+		assertThat( modelsContext.decodeCount( "type" ) ).isEqualTo( 0 );
+		assertThat( values.isMaterialized() ).isFalse();
+	}
+
+	@Test
+	void testMemoization() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class );
+		final LazyAttributeValues values = modelsContext.lazyValues( Sampled.class );
+
+		final Object detail = values.get( "detail" );
+		assertThat( detail ).isNotNull();
+		assertThat( values.get( "detail" ) ).isSameAs( detail );
+		assertThat( modelsContext.decodeCount( "detail" ) ).isEqualTo( 1 );
+
+		// null values are remembered as well
+		assertThat( values.get( ABSENT ) ).isNull();
+		assertThat( values.get( ABSENT ) ).isNull();
+		assertThat( modelsContext.decodeCount( ABSENT ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testPutMaterializes() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class );
+		final LazyAttributeValues values = modelsContext.lazyValues( Sampled.class );
+		values.get( "name" );
+
+		values.put( "name", "changed" );
+		assertThat( values.isMaterialized() ).isTrue();
+		assertThat( values.get( "name" ) ).isEqualTo( "changed" );
+		for ( String name : new String[] { "name", "type", "detail", ABSENT } ) {
+			assertThat( modelsContext.decodeCount( name ) ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	void testEntrySetMaterializes() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class );
+		final LazyAttributeValues values = modelsContext.lazyValues( Sampled.class );
+
+		// the null value has no entry
+		assertThat( values.entrySet() ).hasSize( 3 );
+		assertThat( values.isMaterialized() ).isTrue();
+		for ( String name : new String[] { "name", "type", "detail", ABSENT } ) {
+			assertThat( modelsContext.decodeCount( name ) ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	void testReleaseOnceAllDecoded() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class );
+		final LazyAttributeValues values = modelsContext.lazyValues( Sampled.class );
+
+		values.get( "name" );
+		values.get( "type" );
+		values.get( ABSENT );
+		assertThat( values.isMaterialized() ).isFalse();
+
+		values.get( "detail" );
+		assertThat( values.isMaterialized() ).isTrue();
+		assertThat( values.get( "name" ) ).isEqualTo( "sampled" );
+		assertThat( modelsContext.decodeCount( "name" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testInterningKeepsValuesLazy() {
+		final CountingModelsContext modelsContext = new CountingModelsContext( Sampled.class, OtherSampled.class );
+		modelsContext.enableAnnotationUsageInterning();
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		final Sample sample = classDetailsRegistry.resolveClassDetails( Sampled.class.getName() )
+				.getDirectAnnotationUsage( Sample.class );
+		final Sample otherSample = classDetailsRegistry.resolveClassDetails( OtherSampled.class.getName() )
+				.getDirectAnnotationUsage( Sample.class );
+		assertThat( modelsContext.decodeCounts ).isEmpty();
+		assertThat( sample ).isNotSameAs( otherSample );
+
+		assertThat( sample.name() ).isEqualTo( "sampled" );
+		assertThat( modelsContext.decodeCount( "name" ) ).isEqualTo( 1 );
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	public @interface Detail {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Sample {
+		String name();
+		Class<?> type() default Object.class;
+		Detail detail() default @Detail("default");
+		String absent() default "";
+	}
+
+	@Sample(name = "sampled", type = Integer.class)
+	public static class Sampled {
+	}
+
+	@Sample(name = "sampled", type = Integer.class)
+	public static class OtherSampled {
+	}
+
+	/**
+	 * Counts the attribute values decoded, by attribute name.  The {@value #ABSENT} attribute
+	 * stands in for one which decodes to {@code null}.
+	 */
+	private static class CountingModelsContext extends ByteBuddyModelsContextImpl {
+		private final Map<String, Integer> decodeCounts = new ConcurrentHashMap<>();
+
+		private CountingModelsContext(Class<?>... modelClasses) {
+			super( ByteBuddyModelsContextFactory.buildTypePool( modelClasses ), SIMPLE_CLASS_LOADING, null );
+		}
+
+		private int decodeCount(String attributeName) {
+			return decodeCounts.getOrDefault( attributeName, 0 );
+		}
+
+		private LazyAttributeValues lazyValues(Class<?> sampled) {
+			final AnnotationDescription annotationDescription = getTypePool()
+					.describe( sampled.getName() )
+					.resolve()
+					.getDeclaredAnnotations()
+					.ofType( Sample.class );
+			final AnnotationDescriptor<Sample> descriptor = getAnnotationDescriptorRegistry().getDescriptor( Sample.class );
+			return new LazyAttributeValues( annotationDescription, descriptor, this );
+		}
+
+		@Override
+		public <V> ValueExtractor<V> getValueExtractor(ValueTypeDescriptor<V> valueTypeDescriptor) {
+			final ValueExtractor<V> delegate = super.getValueExtractor( valueTypeDescriptor );
+			return (annotation, attributeName, modelContext) -> {
+				decodeCounts.merge( attributeName, 1, Integer::sum );
+				return ABSENT.equals( attributeName ) ? null : delegate.extractValue( annotation, attributeName, modelContext );
+			};
+		}
+	}
+}
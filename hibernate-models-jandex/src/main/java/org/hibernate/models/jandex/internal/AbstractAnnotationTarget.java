@@ -8,6 +8,8 @@ import java.lang.annotation.Annotation;
 import java.util.Map;
 
 import org.hibernate.models.internal.AnnotationTargetSupport;
+import org.hibernate.models.internal.RepeatedUsageCache;
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.spi.ModelsContext;
 
 /**
@@ -16,7 +18,8 @@ import org.hibernate.models.spi.ModelsContext;
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final ModelsContext modelContext;
 
-	private Map<Class<? extends Annotation>, ? extends Annotation> usageMap;
+	private final LazyReference<Map<Class<? extends Annotation>, ? extends Annotation>> usageMap = new LazyReference<>();
+	private final RepeatedUsageCache repeatedUsageCache = new RepeatedUsageCache();
 
 	public AbstractAnnotationTarget(ModelsContext modelContext) {
 		this.modelContext = modelContext;
@@ -34,14 +37,21 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
-		if ( usageMap == null ) {
-			usageMap = AnnotationUsageBuilder.collectUsages( getJandexAnnotationTarget(), modelContext );
-		}
-		return usageMap;
+		return usageMap.get( this, AbstractAnnotationTarget::collectUsages );
+	}
+
+	private Map<Class<? extends Annotation>, ? extends Annotation> collectUsages() {
+		return AnnotationUsageBuilder.collectUsages( getJandexAnnotationTarget(), modelContext );
 	}
 
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
+	}
+
+	@Override
+	public RepeatedUsageCache getRepeatedUsageCache() {
+		return repeatedUsageCache;
 	}
 }
@@ -21,6 +21,7 @@ import org.hibernate.models.jandex.spi.JandexModelsContext;
 import org.hibernate.models.jandex.spi.JandexValueExtractor;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.AnnotationUsageCreator;
 import org.hibernate.models.spi.AttributeDescriptor;
 import org.hibernate.models.spi.ModelsContext;
 
@@ -84,7 +85,7 @@ public class AnnotationUsageBuilder {
 					annotationDescriptor,
 					modelsContext
 			);
-			consumer.accept( annotationType, usage );
+			consumer.accept( annotationType, modelsContext.getAnnotationUsageInterner().intern( usage ) );
 		}
 	}
 
@@ -92,6 +93,12 @@ public class AnnotationUsageBuilder {
 			AnnotationInstance jandexAnnotation,
 			AnnotationDescriptor<A> annotationDescriptor,
 			ModelsContext modelContext) {
+		final AnnotationUsageCreator<AnnotationInstance, ? extends A> usageCreator =
+				annotationDescriptor.findUsageCreator( AnnotationInstance.class );
+		if ( usageCreator != null ) {
+			return usageCreator.createUsage( jandexAnnotation, modelContext );
+		}
+
 		final Map<String, Object> attributeValues = extractAttributeValues(
 				jandexAnnotation,
 				annotationDescriptor,
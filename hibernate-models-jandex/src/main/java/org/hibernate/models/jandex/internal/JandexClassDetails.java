@@ -10,13 +10,20 @@ import java.util.List;
 
 import org.hibernate.models.DynamicClassException;
 import org.hibernate.models.internal.ClassDetailsSupport;
+import org.hibernate.models.internal.DerivedMemberState;
+import org.hibernate.models.internal.EffectiveUsageCache;
+import org.hibernate.models.internal.SupertypeClosure;
 import org.hibernate.models.internal.jdk.SerialJdkClassDetails;
 import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.ResolvedHierarchy;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
@@ -42,19 +49,25 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	private final ClassInfo classInfo;
 
 	private final ClassDetails superClass;
-	private TypeDetails genericSuperType;
-	private List<TypeDetails> implementedInterfaces;
-	private List<TypeVariableDetails> typeParameters;
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeDetails> implementedInterfaces;
+	private volatile List<TypeVariableDetails> typeParameters;
 
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
-	private List<RecordComponentDetails> recordComponents;
+	private final LazyReference<List<FieldDetails>> fields = new LazyReference<>();
+	private final LazyReference<List<MethodDetails>> methods = new LazyReference<>();
+	private final LazyReference<List<RecordComponentDetails>> recordComponents = new LazyReference<>();
+
+	private volatile DerivedMemberState derivedMemberState;
+	private final LazyReference<SupertypeClosure> supertypeClosure = new LazyReference<>();
+	private final EffectiveUsageCache effectiveUsageCache;
 
 	public JandexClassDetails(ClassInfo classInfo, ModelsContext modelContext) {
 		super( modelContext );
 		this.classInfo = classInfo;
 
 		this.superClass = determineSuperType( classInfo, modelContext );
+		this.effectiveUsageCache = new EffectiveUsageCache( this, modelContext );
+		this.derivedMemberState = new DerivedMemberState( modelContext );
 	}
 
 	@Override
@@ -104,53 +117,42 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 
 	@Override
 	public TypeDetails getGenericSuperType() {
+		TypeDetails genericSuperType = this.genericSuperType;
 		if ( genericSuperType == null && classInfo.superClassType() != null ) {
 			genericSuperType = determineGenericSuperType( classInfo, getModelContext() );
+			this.genericSuperType = genericSuperType;
 		}
 		return genericSuperType;
 	}
 
 	@Override
 	public List<TypeDetails> getImplementedInterfaces() {
+		List<TypeDetails> implementedInterfaces = this.implementedInterfaces;
 		if ( implementedInterfaces == null ) {
 			implementedInterfaces = determineInterfaces( classInfo, getModelContext() );
+			this.implementedInterfaces = implementedInterfaces;
 		}
 		return implementedInterfaces;
 	}
 
 	@Override
 	public List<TypeVariableDetails> getTypeParameters() {
+		List<TypeVariableDetails> typeParameters = this.typeParameters;
 		if ( typeParameters == null ) {
-			this.typeParameters = determineTypeParameters( classInfo, this, getModelContext() );
+			typeParameters = determineTypeParameters( classInfo, this, getModelContext() );
+			this.typeParameters = typeParameters;
 		}
 		return typeParameters;
 	}
 
 	@Override
 	public boolean isImplementor(Class<?> checkType) {
-		if ( getClassName().equals( checkType.getName() ) ) {
-			return true;
-		}
-
-		if ( superClass != null && superClass.isImplementor( checkType ) ) {
-			return true;
-		}
-
-		for ( TypeDetails intf : getImplementedInterfaces() ) {
-			if ( intf.isImplementor( checkType ) ) {
-				return true;
-			}
-		}
-
-		return false;
+		return getSupertypeClosure().contains( checkType.getName() );
 	}
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			fields = resolveFields();
-		}
-		return fields;
+		return fields.get( this, JandexClassDetails::resolveFields );
 	}
 
 	private List<FieldDetails> resolveFields() {
@@ -165,14 +167,12 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		membersChanged();
 	}
 
 	@Override
 	public List<RecordComponentDetails> getRecordComponents() {
-		if ( recordComponents == null ) {
-			recordComponents = resolveRecordComponents();
-		}
-		return recordComponents;
+		return recordComponents.get( this, JandexClassDetails::resolveRecordComponents );
 	}
 
 	private List<RecordComponentDetails> resolveRecordComponents() {
@@ -186,10 +186,7 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			methods = resolveMethods();
-		}
-		return methods;
+		return methods.get( this, JandexClassDetails::resolveMethods );
 	}
 
 	private List<MethodDetails> resolveMethods() {
@@ -207,6 +204,38 @@ public class JandexClassDetails extends AbstractAnnotationTarget implements Clas
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		membersChanged();
+	}
+
+	private void membersChanged() {
+		final DerivedMemberState cleared = derivedMemberState.cleared();
+		derivedMemberState = cleared;
+		cleared.announceChange();
+	}
+
+	@Override
+	public PersistableMembers getPersistableMembers() {
+		return derivedMemberState.getPersistableMembers( this );
+	}
+
+	@Override
+	public ResolvedHierarchy getResolvedHierarchy() {
+		return derivedMemberState.getResolvedHierarchy( this );
+	}
+
+	@Override
+	public ModelFingerprint getFingerprint(ModelsContext modelsContext) {
+		return derivedMemberState.getFingerprint( this, modelsContext );
+	}
+
+	@Override
+	public SupertypeClosure getSupertypeClosure() {
+		return supertypeClosure.get( this, SupertypeClosure::from );
+	}
+
+	@Override
+	public EffectiveUsageCache getEffectiveUsageCache() {
+		return effectiveUsageCache;
 	}
 
 	private Class<?> javaClass;
@@ -4,18 +4,42 @@
  */
 package org.hibernate.models.jandex.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
 import org.hibernate.models.UnknownClassException;
 import org.hibernate.models.internal.AbstractClassDetailsRegistry;
 import org.hibernate.models.internal.jdk.JdkBuilders;
+import org.hibernate.models.internal.util.AppendOnlyOrderedSet;
 import org.hibernate.models.internal.jdk.JdkClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsBuilder;
+import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.models.spi.ModelsContext;
 
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 
 /**
  * ClassDetailsRegistry using Jandex
+ * <p/>
+ * Hierarchy queries ({@linkplain #getDirectSubtypes}, {@linkplain #getDirectImplementors} and
+ * everything built on them) consult the Jandex index directly, so they do not depend on which classes
+ * have already been resolved.  Only the returned classes are materialized.  The index hits for a type are
+ * merged into the registry's own sets on first lookup, so later lookups cost no more than those of the
+ * other registries.  Classes registered outside the index (dynamic models, JDK fallbacks) are part of the
+ * results as well.
+ * <p/>
+ * When the whole index is known to be relevant, {@linkplain #populateAll} can be used to eagerly
+ * build all classes in parallel.
  *
  * @author Steve Ebersole
  */
@@ -23,6 +47,10 @@ public class JandexClassDetailsRegistry extends AbstractClassDetailsRegistry {
 	private final IndexView jandexIndex;
 	private final ClassDetailsBuilder classDetailsBuilder;
 
+	// the names whose index hits have been merged into directSubTypeMap / directImplementorMap
+	private final Set<String> mergedSubtypes = ConcurrentHashMap.newKeySet();
+	private final Set<String> mergedImplementors = ConcurrentHashMap.newKeySet();
+
 	public JandexClassDetailsRegistry(IndexView jandexIndex, ModelsContext context) {
 		super( context );
 		this.jandexIndex = jandexIndex;
@@ -43,16 +71,173 @@ public class JandexClassDetailsRegistry extends AbstractClassDetailsRegistry {
 	protected ClassDetails createClassDetails(String name) {
 		final ClassDetails fromJandex = classDetailsBuilder.buildClassDetails( name, context );
 		if ( fromJandex != null ) {
-			addClassDetails( name, fromJandex );
-			return fromJandex;
+			return addClassDetailsIfAbsent( name, fromJandex );
 		}
 
 		final JdkClassDetails jdkClassDetails = JdkBuilders.DEFAULT_BUILDER.buildClassDetails( name, context );
 		if ( jdkClassDetails != null ) {
-			addClassDetails( name, jdkClassDetails );
-			return jdkClassDetails;
+			return addClassDetailsIfAbsent( name, jdkClassDetails );
 		}
 
 		throw new UnknownClassException( "Unable to resolve ClassDetails for `" + name + "`" );
 	}
+
+	@Override
+	public Set<ClassDetails> getDirectSubtypes(String typeName) {
+		if ( !mergedSubtypes.contains( typeName ) ) {
+			mergeWithIndex(
+					typeName,
+					jandexIndex.getKnownDirectSubclasses( DotName.createSimple( typeName ) ),
+					directSubTypeMap,
+					mergedSubtypes
+			);
+		}
+		return super.getDirectSubtypes( typeName );
+	}
+
+	@Override
+	public Set<ClassDetails> getDirectImplementors(String interfaceName) {
+		if ( !mergedImplementors.contains( interfaceName ) ) {
+			mergeWithIndex(
+					interfaceName,
+					jandexIndex.getKnownDirectImplementors( DotName.createSimple( interfaceName ) ),
+					directImplementorMap,
+					mergedImplementors
+			);
+		}
+		return super.getDirectImplementors( interfaceName );
+	}
+
+	/**
+	 * Adds the index hits for the named type to the registry's own set, once - afterward the set is
+	 * kept current by registration alone, as the index does not change.  The type is only marked as
+	 * merged after all hits were added, so that a concurrent lookup never sees a partial set.
+	 */
+	private void mergeWithIndex(
+			String typeName,
+			Collection<ClassInfo> fromIndex,
+			Map<String, AppendOnlyOrderedSet<ClassDetails>> registered,
+			Set<String> merged) {
+		if ( !fromIndex.isEmpty() ) {
+			final AppendOnlyOrderedSet<ClassDetails> types = registered.computeIfAbsent(
+					typeName,
+					(name) -> new AppendOnlyOrderedSet<>()
+			);
+			for ( ClassInfo classInfo : fromIndex ) {
+				// resolving normally registers the class already, unless another thread is still doing so
+				types.add( resolveClassDetails( classInfo.name().toString() ) );
+			}
+		}
+		merged.add( typeName );
+	}
+
+	/**
+	 * Eagerly build the ClassDetails, along with their members and annotation usages, for all
+	 * classes known to the Jandex index, using the {@linkplain ForkJoinPool#getCommonPoolParallelism() common parallelism}.
+	 *
+	 * @see #populateAll(Predicate, int)
+	 */
+	public void populateAll() {
+		populateAll( null, ForkJoinPool.getCommonPoolParallelism() );
+	}
+
+	/**
+	 * Eagerly build the ClassDetails, along with their members and annotation usages, for all
+	 * classes known to the Jandex index which match the {@code filter}.
+	 * <p/>
+	 * Classes are built in generations - a class is built only after its super class and
+	 * interfaces - so that resolving the super types of a class never races with another
+	 * thread building them.  Threads may still meet on a shared class (a field type, e.g.);
+	 * that is safe because {@linkplain JandexClassDetails} and the annotation targets build
+	 * their members and usages outside any lock and publish only the first result.
+	 *
+	 * @param filter Optional filter limiting the classes to build; {@code null} builds all known classes
+	 * @param parallelism The number of threads to use; {@code 1} (or less) builds on the calling thread
+	 */
+	public void populateAll(Predicate<ClassInfo> filter, int parallelism) {
+		final List<List<ClassInfo>> generations = groupByGeneration( filter );
+		if ( parallelism <= 1 ) {
+			for ( List<ClassInfo> generation : generations ) {
+				generation.forEach( this::populate );
+			}
+			return;
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool( parallelism );
+		try {
+			for ( List<ClassInfo> generation : generations ) {
+				pool.submit( () -> generation.parallelStream().forEach( this::populate ) ).join();
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private List<List<ClassInfo>> groupByGeneration(Predicate<ClassInfo> filter) {
+		final Map<DotName, ClassInfo> candidates = new HashMap<>();
+		for ( ClassInfo classInfo : jandexIndex.getKnownClasses() ) {
+			if ( filter == null || filter.test( classInfo ) ) {
+				candidates.put( classInfo.name(), classInfo );
+			}
+		}
+
+		final Map<DotName, Integer> generationsByName = new HashMap<>();
+		final List<List<ClassInfo>> generations = new ArrayList<>();
+		for ( ClassInfo classInfo : candidates.values() ) {
+			final int generation = determineGeneration( classInfo, candidates, generationsByName );
+			while ( generations.size() <= generation ) {
+				generations.add( new ArrayList<>() );
+			}
+			generations.get( generation ).add( classInfo );
+		}
+		return generations;
+	}
+
+	private static int determineGeneration(
+			ClassInfo classInfo,
+			Map<DotName, ClassInfo> candidates,
+			Map<DotName, Integer> generationsByName) {
+		final Integer known = generationsByName.get( classInfo.name() );
+		if ( known != null ) {
+			return known;
+		}
+
+		int generation = 0;
+		if ( classInfo.superName() != null ) {
+			generation = dependentGeneration( classInfo.superName(), generation, candidates, generationsByName );
+		}
+		for ( DotName interfaceName : classInfo.interfaceNames() ) {
+			generation = dependentGeneration( interfaceName, generation, candidates, generationsByName );
+		}
+
+		generationsByName.put( classInfo.name(), generation );
+		return generation;
+	}
+
+	private static int dependentGeneration(
+			DotName dependencyName,
+			int generation,
+			Map<DotName, ClassInfo> candidates,
+			Map<DotName, Integer> generationsByName) {
+		final ClassInfo dependency = candidates.get( dependencyName );
+		if ( dependency == null ) {
+			// not part of the population, it will be resolved on demand
+			return generation;
+		}
+		return Math.max( generation, determineGeneration( dependency, candidates, generationsByName ) + 1 );
+	}
+
+	private void populate(ClassInfo classInfo) {
+		final ClassDetails classDetails = resolveClassDetails( classInfo.name().toString() );
+		classDetails.getGenericSuperType();
+		classDetails.getTypeParameters();
+		classDetails.getDirectAnnotationUsages();
+		classDetails.forEachMember( JandexClassDetailsRegistry::populateMember );
+	}
+
+	private static void populateMember(MemberDetails memberDetails) {
+		memberDetails.getType();
+		memberDetails.getDirectAnnotationUsages();
+	}
 }
@@ -45,8 +45,9 @@ public class JandexMethodDetails extends AbstractAnnotationTarget implements Met
 	private final TypeDetails type;
 	private final ClassDetails declaringType;
 
-	private final ClassDetails returnType;
-	private final List<ClassDetails> argumentTypes;
+	// resolved on first access
+	private volatile ClassDetails returnType;
+	private volatile List<ClassDetails> argumentTypes;
 
 	private final boolean isArray;
 	private final boolean isPlural;
@@ -63,14 +64,6 @@ public class JandexMethodDetails extends AbstractAnnotationTarget implements Met
 		this.type = type;
 		this.declaringType = declaringType;
 
-		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
-		this.returnType = classDetailsRegistry.resolveClassDetails( methodInfo.returnType().name().toString() );
-
-		this.argumentTypes = new ArrayList<>( methodInfo.parametersCount() );
-		for ( int i = 0; i < methodInfo.parametersCount(); i++ ) {
-			argumentTypes.add( classDetailsRegistry.resolveClassDetails( methodInfo.parameterType( i ).name().toString() ) );
-		}
-
 		switch ( methodKind ) {
 			case GETTER -> {
 				this.isArray = methodInfo.returnType().kind() == Type.Kind.ARRAY;
@@ -172,11 +165,25 @@ public class JandexMethodDetails extends AbstractAnnotationTarget implements Met
 
 	@Override
 	public ClassDetails getReturnType() {
+		ClassDetails returnType = this.returnType;
+		if ( returnType == null ) {
+			returnType = getModelContext().getClassDetailsRegistry().resolveClassDetails( methodInfo.returnType().name().toString() );
+			this.returnType = returnType;
+		}
 		return returnType;
 	}
 
 	@Override
 	public List<ClassDetails> getArgumentTypes() {
+		List<ClassDetails> argumentTypes = this.argumentTypes;
+		if ( argumentTypes == null ) {
+			final ClassDetailsRegistry classDetailsRegistry = getModelContext().getClassDetailsRegistry();
+			argumentTypes = new ArrayList<>( methodInfo.parametersCount() );
+			for ( int i = 0; i < methodInfo.parametersCount(); i++ ) {
+				argumentTypes.add( classDetailsRegistry.resolveClassDetails( methodInfo.parameterType( i ).name().toString() ) );
+			}
+			this.argumentTypes = argumentTypes;
+		}
 		return argumentTypes;
 	}
 
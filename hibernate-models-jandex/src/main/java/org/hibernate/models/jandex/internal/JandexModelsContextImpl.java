@@ -4,8 +4,8 @@
  */
 package org.hibernate.models.jandex.internal;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.models.internal.AbstractModelsContext;
 import org.hibernate.models.internal.MutableAnnotationDescriptorRegistry;
@@ -34,9 +34,9 @@ public class JandexModelsContextImpl extends AbstractModelsContext implements Ja
 	private final JandexClassDetailsRegistry classDetailsRegistry;
 
 	@SuppressWarnings("rawtypes")
-	private final Map<ValueTypeDescriptor, JandexValueConverter> valueConverters = new HashMap<>();
+	private final Map<ValueTypeDescriptor, JandexValueConverter> valueConverters = new ConcurrentHashMap<>();
 	@SuppressWarnings("rawtypes")
-	private final Map<ValueTypeDescriptor,JandexValueExtractor> valueExtractors = new HashMap<>();
+	private final Map<ValueTypeDescriptor,JandexValueExtractor> valueExtractors = new ConcurrentHashMap<>();
 
 	public JandexModelsContextImpl(
 			IndexView jandexIndex,
@@ -50,7 +50,8 @@ public class JandexTypeSwitchStandard implements JandexTypeSwitch<TypeDetails> {
 
 	public static TypeDetails switchType(Type type, ClassDetails declaringType, ModelsContext modelsContext) {
 		final JandexTypeSwitchStandard genericVariableSwitch = new JandexTypeSwitchStandard( declaringType );
-		return JandexTypeSwitcher.switchType( type, genericVariableSwitch, modelsContext );
+		final TypeDetails switched = JandexTypeSwitcher.switchType( type, genericVariableSwitch, modelsContext );
+		return modelsContext.getTypeDetailsPool().intern( switched );
 	}
 
 	private final ClassDetails declaringType;
@@ -32,6 +32,15 @@ public class JandexModelsContextFactoryImpl implements ModelsContextFactory {
 		return new JandexModelsContextImpl( jandexIndex, SIMPLE_CLASS_LOADING, registryPrimer );
 	}
 
+	@Override
+	public JandexModelsContextImpl createModelContext(
+			RegistryPrimer registryPrimer,
+			ClassLoading classLoading,
+			Class<?>... modelClasses) {
+		final Index jandexIndex = buildJandexIndex( classLoading, modelClasses );
+		return new JandexModelsContextImpl( jandexIndex, classLoading, registryPrimer );
+	}
+
 	public static Index buildJandexIndex(ClassLoading classLoadingAccess, Class<?>... modelClasses) {
 		final Indexer indexer = new Indexer();
 		BaseLineJavaTypes.forEachJavaType( (javaType) -> JandexIndexerHelper.apply( javaType, indexer, classLoadingAccess ) );
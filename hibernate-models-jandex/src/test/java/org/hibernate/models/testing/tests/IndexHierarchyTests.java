@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.jandex.internal.JandexClassDetailsRegistry;
+import org.hibernate.models.jandex.internal.JandexModelsContextImpl;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.shared.intg.JandexModelsContextFactoryImpl;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests for hierarchy queries backed by the Jandex index
+ */
+public class IndexHierarchyTests {
+	@Test
+	void testUnresolvedSubtypes() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Shape.class,
+				Polygon.class,
+				Square.class,
+				Circle.class
+		);
+		final ModelsContext modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		// nothing but the base has been resolved
+		classDetailsRegistry.resolveClassDetails( Polygon.class.getName() );
+		assertThat( classDetailsRegistry.findClassDetails( Square.class.getName() ) ).isNull();
+
+		assertThat( classDetailsRegistry.getDirectSubtypes( Polygon.class.getName() ) )
+				.extracting( ClassDetails::getName )
+				.containsExactly( Square.class.getName() );
+		assertThat( classDetailsRegistry.getDirectImplementors( Shape.class.getName() ) )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( Polygon.class.getName(), Circle.class.getName() );
+		assertThat( classDetailsRegistry.findConcreteTypes( Shape.class.getName(), false ) )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( Square.class.getName(), Circle.class.getName() );
+	}
+
+	@Test
+	void testWalkOnFreshContext() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Shape.class,
+				Polygon.class,
+				Square.class,
+				Circle.class
+		);
+		final ModelsContext modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		// no other lookup first - the walk itself has to consult the index
+		assertThat( classDetailsRegistry.findConcreteTypes( Shape.class.getName(), false ) )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( Square.class.getName(), Circle.class.getName() );
+	}
+
+	@Test
+	void testMergeWithRegistered() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Polygon.class,
+				Square.class
+		);
+		final ModelsContext modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails polygon = classDetailsRegistry.resolveClassDetails( Polygon.class.getName() );
+
+		final DynamicClassDetails triangle = new DynamicClassDetails( "Triangle", polygon, null, modelsContext );
+		classDetailsRegistry.as( MutableClassDetailsRegistry.class ).addClassDetails( "Triangle", triangle );
+
+		final Set<ClassDetails> subtypes = classDetailsRegistry.getDirectSubtypes( Polygon.class.getName() );
+		assertThat( subtypes )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( Square.class.getName(), "Triangle" );
+		// the index hits are merged once, into the registry's own set
+		assertThat( classDetailsRegistry.getDirectSubtypes( Polygon.class.getName() ) ).isSameAs( subtypes );
+
+		final DynamicClassDetails pentagon = new DynamicClassDetails( "Pentagon", polygon, null, modelsContext );
+		classDetailsRegistry.as( MutableClassDetailsRegistry.class ).addClassDetails( "Pentagon", pentagon );
+		assertThat( classDetailsRegistry.getDirectSubtypes( Polygon.class.getName() ) )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( Square.class.getName(), "Triangle", "Pentagon" );
+	}
+
+	@Test
+	void testPopulateAll() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Shape.class,
+				Polygon.class,
+				Square.class,
+				Circle.class
+		);
+		final ModelsContext modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		final JandexClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry()
+				.as( JandexClassDetailsRegistry.class );
+
+		classDetailsRegistry.populateAll(
+				(classInfo) -> !classInfo.name().toString().equals( Circle.class.getName() ),
+				4
+		);
+
+		assertThat( classDetailsRegistry.findClassDetails( Shape.class.getName() ) ).isNotNull();
+		assertThat( classDetailsRegistry.findClassDetails( Polygon.class.getName() ) ).isNotNull();
+		assertThat( classDetailsRegistry.findClassDetails( Circle.class.getName() ) ).isNull();
+
+		final ClassDetails square = classDetailsRegistry.findClassDetails( Square.class.getName() );
+		assertThat( square ).isNotNull();
+		assertThat( square.getSuperClass() ).isSameAs( classDetailsRegistry.findClassDetails( Polygon.class.getName() ) );
+		assertThat( square.findFieldByName( "side" ) ).isNotNull();
+	}
+
+	@Test
+	void testConcurrentPopulateAll() throws Exception {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex(
+				SIMPLE_CLASS_LOADING,
+				Shape.class,
+				Polygon.class,
+				Square.class,
+				Circle.class
+		);
+		final ModelsContext modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		final JandexClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry()
+				.as( JandexClassDetailsRegistry.class );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final List<Future<List<FieldDetails>>> results = new ArrayList<>();
+			for ( int i = 0; i < 2; i++ ) {
+				results.add( executor.submit( () -> {
+					classDetailsRegistry.populateAll( null, 4 );
+					return classDetailsRegistry.getClassDetails( Square.class.getName() ).getFields();
+				} ) );
+			}
+			// both populations published the same members
+			final List<FieldDetails> fields = results.get( 0 ).get( 10, TimeUnit.SECONDS );
+			assertThat( results.get( 1 ).get( 10, TimeUnit.SECONDS ) ).isSameAs( fields );
+			assertThat( fields ).hasSize( 1 );
+			assertThat( fields.get( 0 ).getDeclaringType() )
+					.isSameAs( classDetailsRegistry.getClassDetails( Square.class.getName() ) );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	interface Shape {
+	}
+
+	static abstract class Polygon implements Shape {
+	}
+
+	@SuppressWarnings("unused")
+	static class Square extends Polygon {
+		int side;
+	}
+
+	static class Circle implements Shape {
+	}
+}
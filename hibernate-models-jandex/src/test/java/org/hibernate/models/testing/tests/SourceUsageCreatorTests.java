@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
+import org.hibernate.models.internal.OrmAnnotationDescriptor;
+import org.hibernate.models.jandex.internal.JandexModelsContextImpl;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.shared.intg.JandexModelsContextFactoryImpl;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.Index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * Tests that usages are created from the {@linkplain AnnotationInstance Jandex form} when the
+ * concrete usage type accepts it
+ */
+public class SourceUsageCreatorTests {
+	@Test
+	void testCreatedFromAnnotationInstance() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex( SIMPLE_CLASS_LOADING, Labeled.class );
+		final JandexModelsContextImpl modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		modelsContext.getAnnotationDescriptorRegistry().register(
+				new OrmAnnotationDescriptor<>( Label.class, LabelAnnotation.class )
+		);
+
+		final Label usage = modelsContext.getClassDetailsRegistry()
+				.getClassDetails( Labeled.class.getName() )
+				.getDirectAnnotationUsage( Label.class );
+		assertThat( usage ).isInstanceOf( LabelAnnotation.class );
+		assertThat( ( (LabelAnnotation) usage ).createdFromSource ).isTrue();
+		assertThat( usage.value() ).isEqualTo( "labeled" );
+		assertThat( usage.priority() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void testDefaultedValues() {
+		final Index index = JandexModelsContextFactoryImpl.buildJandexIndex( SIMPLE_CLASS_LOADING, DefaultLabeled.class );
+		final JandexModelsContextImpl modelsContext = new JandexModelsContextImpl( index, SIMPLE_CLASS_LOADING, null );
+		modelsContext.getAnnotationDescriptorRegistry().register(
+				new OrmAnnotationDescriptor<>( Label.class, LabelAnnotation.class )
+		);
+
+		final Label usage = modelsContext.getClassDetailsRegistry()
+				.getClassDetails( DefaultLabeled.class.getName() )
+				.getDirectAnnotationUsage( Label.class );
+		assertThat( ( (LabelAnnotation) usage ).createdFromSource ).isTrue();
+		assertThat( usage.value() ).isEqualTo( "defaulted" );
+		assertThat( usage.priority() ).isEqualTo( 0 );
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Label {
+		String value();
+		int priority() default 0;
+	}
+
+	@Label(value = "labeled", priority = 3)
+	public static class Labeled {
+	}
+
+	@Label("defaulted")
+	public static class DefaultLabeled {
+	}
+
+	@SuppressWarnings({ "ClassExplicitlyAnnotation", "unused" })
+	public static class LabelAnnotation implements Label {
+		private String value;
+		private int priority;
+		private boolean createdFromSource;
+
+		public LabelAnnotation(ModelsContext modelsContext) {
+			priority = 0;
+		}
+
+		public LabelAnnotation(Label usage, ModelsContext modelsContext) {
+			value = usage.value();
+			priority = usage.priority();
+		}
+
+		public LabelAnnotation(Map<String,Object> attributeValues, ModelsContext modelsContext) {
+			value = (String) attributeValues.get( "value" );
+			priority = (int) attributeValues.get( "priority" );
+		}
+
+		public LabelAnnotation(AnnotationInstance annotation, ModelsContext modelsContext) {
+			value = annotation.value().asString();
+			priority = annotation.value( "priority" ) == null ? 0 : annotation.value( "priority" ).asInt();
+			createdFromSource = true;
+		}
+
+		@Override
+		public String value() {
+			return value;
+		}
+
+		@Override
+		public int priority() {
+			return priority;
+		}
+
+		@Override
+		public Class<? extends Annotation> annotationType() {
+			return Label.class;
+		}
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.models.testing.intg;
 
+import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.RegistryPrimer;
 
@@ -18,4 +19,17 @@ public interface ModelsContextFactory {
 	 * Create the ModelsContext to be used for tests
 	 */
 	ModelsContext createModelContext(RegistryPrimer registryPrimer, Class<?>... modelClasses);
+
+	/**
+	 * Create the ModelsContext to be used for tests, locating classes and resources
+	 * through the given ClassLoading - e.g. for
+	 * {@linkplain org.hibernate.models.testing.synthetic.SyntheticModel synthetic models}.
+	 *
+	 * @implNote The default implementation ignores the {@code classLoading} and delegates to
+	 * {@linkplain #createModelContext(RegistryPrimer, Class[])}, so that existing factories keep
+	 * working; factories able to honor the ClassLoading override it.
+	 */
+	default ModelsContext createModelContext(RegistryPrimer registryPrimer, ClassLoading classLoading, Class<?>... modelClasses) {
+		return createModelContext( registryPrimer, modelClasses );
+	}
 }
@@ -0,0 +1,336 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.synthetic;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal writer of Java class files, supporting just what the
+ * {@linkplain SyntheticModelGenerator synthetic models} need - fields, straight-line
+ * methods, generic signatures and runtime-visible annotations with simple values.
+ */
+class ClassFileWriter {
+	private static final int JAVA_17 = 61;
+
+	static final int ACC_PUBLIC = 0x0001;
+	static final int ACC_PRIVATE = 0x0002;
+	static final int ACC_SUPER = 0x0020;
+	static final int ACC_ABSTRACT = 0x0400;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	/**
+	 * An annotation usage to write, with {@code String}, {@code Integer}, {@code Long},
+	 * {@code Boolean} or enum attribute values.
+	 */
+	record AnnotationUsage(Class<? extends Annotation> annotationType, Map<String, Object> values) {
+	}
+
+	private final Bytes constantPool = new Bytes();
+	private final Map<String, Integer> constantIndexes = new HashMap<>();
+	private int constantCount = 1;
+
+	private final int access;
+	private final int thisClassIndex;
+	private final int superClassIndex;
+
+	private final Bytes fields = new Bytes();
+	private int fieldCount;
+	private final Bytes methods = new Bytes();
+	private int methodCount;
+	private final Bytes attributes = new Bytes();
+	private int attributeCount;
+
+	ClassFileWriter(int access, String internalName, String superInternalName) {
+		this.access = access | ACC_SUPER;
+		this.thisClassIndex = classConstant( internalName );
+		this.superClassIndex = classConstant( superInternalName );
+	}
+
+	void signature(String signature) {
+		writeSignature( attributes, signature );
+		attributeCount++;
+	}
+
+	void annotations(List<AnnotationUsage> usages) {
+		if ( !usages.isEmpty() ) {
+			writeAnnotations( attributes, usages );
+			attributeCount++;
+		}
+	}
+
+	void field(int access, String name, String descriptor, String signature, List<AnnotationUsage> usages) {
+		fields.u2( access ).u2( utf8( name ) ).u2( utf8( descriptor ) );
+		fields.u2( ( signature == null ? 0 : 1 ) + ( usages.isEmpty() ? 0 : 1 ) );
+		if ( signature != null ) {
+			writeSignature( fields, signature );
+		}
+		if ( !usages.isEmpty() ) {
+			writeAnnotations( fields, usages );
+		}
+		fieldCount++;
+	}
+
+	/**
+	 * A public no-arg constructor delegating to the super class constructor.
+	 */
+	void constructor(String superInternalName) {
+		final Bytes code = new Bytes()
+				.u1( 0x2A ) // aload_0
+				.u1( 0xB7 ).u2( methodRefConstant( superInternalName, "<init>", "()V" ) ) // invokespecial
+				.u1( 0xB1 ); // return
+		method( ACC_PUBLIC, "<init>", "()V", null, code, 1, 1 );
+	}
+
+	/**
+	 * A public getter returning the named field of this class.
+	 */
+	void getter(String owner, String name, String fieldName, String descriptor, String signature) {
+		final Bytes code = new Bytes()
+				.u1( 0x2A ) // aload_0
+				.u1( 0xB4 ).u2( fieldRefConstant( owner, fieldName, descriptor ) ) // getfield
+				.u1( returnOpcode( descriptor ) );
+		method( ACC_PUBLIC, name, "()" + descriptor, signature == null ? null : "()" + signature, code, slots( descriptor ), 1 );
+	}
+
+	/**
+	 * A public setter assigning the named field of this class.
+	 */
+	void setter(String owner, String name, String fieldName, String descriptor, String signature) {
+		final Bytes code = new Bytes()
+				.u1( 0x2A ) // aload_0
+				.u1( loadOpcode( descriptor ) )
+				.u1( 0xB5 ).u2( fieldRefConstant( owner, fieldName, descriptor ) ) // putfield
+				.u1( 0xB1 ); // return
+		final int slots = 1 + slots( descriptor );
+		method( ACC_PUBLIC, name, "(" + descriptor + ")V", signature == null ? null : "(" + signature + ")V", code, slots, slots );
+	}
+
+	private void method(
+			int access,
+			String name,
+			String descriptor,
+			String signature,
+			Bytes code,
+			int maxStack,
+			int maxLocals) {
+		methods.u2( access ).u2( utf8( name ) ).u2( utf8( descriptor ) );
+		methods.u2( signature == null ? 1 : 2 );
+		methods.u2( utf8( "Code" ) ).u4( 12 + code.size() );
+		methods.u2( maxStack ).u2( maxLocals ).u4( code.size() ).bytes( code );
+		// no exception table, no attributes
+		methods.u2( 0 ).u2( 0 );
+		if ( signature != null ) {
+			writeSignature( methods, signature );
+		}
+		methodCount++;
+	}
+
+	byte[] toByteArray() {
+		final Bytes classFile = new Bytes();
+		classFile.u4( 0xCAFEBABE ).u2( 0 ).u2( JAVA_17 );
+		classFile.u2( constantCount ).bytes( constantPool );
+		classFile.u2( access ).u2( thisClassIndex ).u2( superClassIndex );
+		// no interfaces
+		classFile.u2( 0 );
+		classFile.u2( fieldCount ).bytes( fields );
+		classFile.u2( methodCount ).bytes( methods );
+		classFile.u2( attributeCount ).bytes( attributes );
+		return classFile.toByteArray();
+	}
+
+	private void writeSignature(Bytes target, String signature) {
+		target.u2( utf8( "Signature" ) ).u4( 2 ).u2( utf8( signature ) );
+	}
+
+	private void writeAnnotations(Bytes target, List<AnnotationUsage> usages) {
+		final Bytes annotations = new Bytes().u2( usages.size() );
+		for ( AnnotationUsage usage : usages ) {
+			annotations.u2( utf8( descriptor( usage.annotationType() ) ) ).u2( usage.values().size() );
+			usage.values().forEach( (name, value) -> {
+				annotations.u2( utf8( name ) );
+				writeElementValue( annotations, value );
+			} );
+		}
+		target.u2( utf8( "RuntimeVisibleAnnotations" ) ).u4( annotations.size() ).bytes( annotations );
+	}
+
+	private void writeElementValue(Bytes target, Object value) {
+		if ( value instanceof String stringValue ) {
+			target.u1( 's' ).u2( utf8( stringValue ) );
+		}
+		else if ( value instanceof Integer intValue ) {
+			target.u1( 'I' ).u2( integerConstant( intValue ) );
+		}
+		else if ( value instanceof Long longValue ) {
+			target.u1( 'J' ).u2( longConstant( longValue ) );
+		}
+		else if ( value instanceof Boolean booleanValue ) {
+			target.u1( 'Z' ).u2( integerConstant( booleanValue ? 1 : 0 ) );
+		}
+		else if ( value instanceof Enum<?> enumValue ) {
+			target.u1( 'e' )
+					.u2( utf8( descriptor( enumValue.getDeclaringClass() ) ) )
+					.u2( utf8( enumValue.name() ) );
+		}
+		else {
+			throw new IllegalArgumentException( "Unsupported annotation attribute value - " + value );
+		}
+	}
+
+	static String descriptor(Class<?> type) {
+		return "L" + type.getName().replace( '.', '/' ) + ";";
+	}
+
+	private static int slots(String descriptor) {
+		return descriptor.equals( "J" ) || descriptor.equals( "D" ) ? 2 : 1;
+	}
+
+	private static int returnOpcode(String descriptor) {
+		return switch ( descriptor ) {
+			case "Z", "B", "C", "S", "I" -> 0xAC; // ireturn
+			case "J" -> 0xAD; // lreturn
+			case "F" -> 0xAE; // freturn
+			case "D" -> 0xAF; // dreturn
+			default -> 0xB0; // areturn
+		};
+	}
+
+	private static int loadOpcode(String descriptor) {
+		return switch ( descriptor ) {
+			case "Z", "B", "C", "S", "I" -> 0x1B; // iload_1
+			case "J" -> 0x1F; // lload_1
+			case "F" -> 0x23; // fload_1
+			case "D" -> 0x27; // dload_1
+			default -> 0x2B; // aload_1
+		};
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// constant pool
+
+	private int utf8(String value) {
+		final Integer existing = constantIndexes.get( "U" + value );
+		if ( existing != null ) {
+			return existing;
+		}
+		final byte[] encoded = value.getBytes( StandardCharsets.UTF_8 );
+		constantPool.u1( CONSTANT_UTF8 ).u2( encoded.length ).bytes( encoded );
+		return register( "U" + value, 1 );
+	}
+
+	private int integerConstant(int value) {
+		final Integer existing = constantIndexes.get( "I" + value );
+		if ( existing != null ) {
+			return existing;
+		}
+		constantPool.u1( CONSTANT_INTEGER ).u4( value );
+		return register( "I" + value, 1 );
+	}
+
+	private int longConstant(long value) {
+		final Integer existing = constantIndexes.get( "J" + value );
+		if ( existing != null ) {
+			return existing;
+		}
+		constantPool.u1( CONSTANT_LONG ).u4( (int) ( value >>> 32 ) ).u4( (int) value );
+		// long constants take up two entries
+		return register( "J" + value, 2 );
+	}
+
+	private int classConstant(String internalName) {
+		final Integer existing = constantIndexes.get( "C" + internalName );
+		if ( existing != null ) {
+			return existing;
+		}
+		final int nameIndex = utf8( internalName );
+		constantPool.u1( CONSTANT_CLASS ).u2( nameIndex );
+		return register( "C" + internalName, 1 );
+	}
+
+	private int nameAndTypeConstant(String name, String descriptor) {
+		final String key = "N" + name + ":" + descriptor;
+		final Integer existing = constantIndexes.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final int nameIndex = utf8( name );
+		final int descriptorIndex = utf8( descriptor );
+		constantPool.u1( CONSTANT_NAME_AND_TYPE ).u2( nameIndex ).u2( descriptorIndex );
+		return register( key, 1 );
+	}
+
+	private int fieldRefConstant(String owner, String name, String descriptor) {
+		return memberRefConstant( CONSTANT_FIELD_REF, owner, name, descriptor );
+	}
+
+	private int methodRefConstant(String owner, String name, String descriptor) {
+		return memberRefConstant( CONSTANT_METHOD_REF, owner, name, descriptor );
+	}
+
+	private int memberRefConstant(int tag, String owner, String name, String descriptor) {
+		final String key = "M" + tag + owner + "." + name + ":" + descriptor;
+		final Integer existing = constantIndexes.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final int classIndex = classConstant( owner );
+		final int nameAndTypeIndex = nameAndTypeConstant( name, descriptor );
+		constantPool.u1( tag ).u2( classIndex ).u2( nameAndTypeIndex );
+		return register( key, 1 );
+	}
+
+	private int register(String key, int entries) {
+		final int index = constantCount;
+		constantIndexes.put( key, index );
+		constantCount += entries;
+		return index;
+	}
+
+	/**
+	 * Big-endian byte buffer
+	 */
+	private static class Bytes extends ByteArrayOutputStream {
+		Bytes u1(int value) {
+			write( value );
+			return this;
+		}
+
+		Bytes u2(int value) {
+			write( value >>> 8 );
+			write( value );
+			return this;
+		}
+
+		Bytes u4(int value) {
+			write( value >>> 24 );
+			write( value >>> 16 );
+			write( value >>> 8 );
+			write( value );
+			return this;
+		}
+
+		Bytes bytes(byte[] value) {
+			write( value, 0, value.length );
+			return this;
+		}
+
+		Bytes bytes(Bytes value) {
+			write( value.buf, 0, value.count );
+			return this;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.synthetic;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.CachingClassLoading;
+import org.hibernate.models.spi.ClassLoading;
+
+/**
+ * A generated domain model - the class files of its classes, plus a ClassLoader
+ * defining them.
+ * <p/>
+ * The same class files back all the models backends - the JDK backend through
+ * {@linkplain #loadClasses() the loaded classes}; Jandex and Byte Buddy by indexing or
+ * locating {@linkplain #forEachClassFile the class files}, which are also available as
+ * resources from {@linkplain #getClassLoading() the ClassLoading}.
+ *
+ * @see SyntheticModelGenerator
+ */
+public class SyntheticModel {
+	private final SyntheticModelSpec spec;
+	private final List<String> classNames;
+	private final Map<String, byte[]> classFiles;
+	private final SyntheticClassLoader classLoader;
+	private final ClassLoading classLoading;
+
+	SyntheticModel(SyntheticModelSpec spec, List<String> classNames, Map<String, byte[]> classFiles) {
+		this.spec = spec;
+		this.classNames = Collections.unmodifiableList( classNames );
+		this.classFiles = Collections.unmodifiableMap( classFiles );
+		this.classLoader = new SyntheticClassLoader( classFiles );
+		this.classLoading = new CachingClassLoading( classLoader );
+	}
+
+	public SyntheticModelSpec getSpec() {
+		return spec;
+	}
+
+	/**
+	 * The names of the generated classes; super classes are listed before their subclasses.
+	 */
+	public List<String> getClassNames() {
+		return classNames;
+	}
+
+	/**
+	 * The class file of the named class, or {@code null} if not part of the model.
+	 */
+	public byte[] getClassFile(String className) {
+		return classFiles.get( className );
+	}
+
+	/**
+	 * Visit the name and class file of each generated class.
+	 */
+	public void forEachClassFile(BiConsumer<String, byte[]> consumer) {
+		for ( String className : classNames ) {
+			consumer.accept( className, classFiles.get( className ) );
+		}
+	}
+
+	/**
+	 * The ClassLoader defining the generated classes.
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * ClassLoading able to see the generated classes and their class files.
+	 */
+	public ClassLoading getClassLoading() {
+		return classLoading;
+	}
+
+	/**
+	 * Load all the generated classes, in {@linkplain #getClassNames() name order}.
+	 */
+	public Class<?>[] loadClasses() {
+		final Class<?>[] classes = new Class<?>[classNames.size()];
+		for ( int i = 0; i < classNames.size(); i++ ) {
+			try {
+				classes[i] = classLoader.loadClass( classNames.get( i ) );
+			}
+			catch (ClassNotFoundException e) {
+				throw new UnknownClassException( "Unable to load synthetic class - " + classNames.get( i ), e );
+			}
+		}
+		return classes;
+	}
+
+	private static class SyntheticClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classFiles;
+		private final URLStreamHandler urlHandler;
+
+		static {
+			registerAsParallelCapable();
+		}
+
+		private SyntheticClassLoader(Map<String, byte[]> classFiles) {
+			super( "synthetic-model", SyntheticModel.class.getClassLoader() );
+			this.classFiles = classFiles;
+			this.urlHandler = new ClassFileUrlHandler( classFiles );
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			final byte[] classFile = classFiles.get( name );
+			if ( classFile == null ) {
+				throw new ClassNotFoundException( name );
+			}
+			return defineClass( name, classFile, 0, classFile.length );
+		}
+
+		@Override
+		protected URL findResource(String name) {
+			if ( !name.endsWith( ".class" ) ) {
+				return null;
+			}
+			final String className = name.substring( 0, name.length() - 6 ).replace( '/', '.' );
+			if ( !classFiles.containsKey( className ) ) {
+				return null;
+			}
+			try {
+				return new URL( "synthetic", null, -1, "/" + name, urlHandler );
+			}
+			catch (MalformedURLException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+	}
+
+	private static class ClassFileUrlHandler extends URLStreamHandler {
+		private final Map<String, byte[]> classFiles;
+
+		private ClassFileUrlHandler(Map<String, byte[]> classFiles) {
+			this.classFiles = classFiles;
+		}
+
+		@Override
+		protected URLConnection openConnection(URL url) {
+			final String path = url.getPath();
+			final String className = path.substring( 1, path.length() - 6 ).replace( '/', '.' );
+			return new URLConnection( url ) {
+				@Override
+				public void connect() {
+				}
+
+				@Override
+				public InputStream getInputStream() {
+					return new ByteArrayInputStream( classFiles.get( className ) );
+				}
+			};
+		}
+	}
+}
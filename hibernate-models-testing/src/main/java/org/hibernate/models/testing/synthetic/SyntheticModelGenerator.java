@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.synthetic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.models.testing.orm.JpaAnnotations;
+
+import jakarta.persistence.FetchType;
+
+import static org.hibernate.models.testing.synthetic.ClassFileWriter.ACC_PRIVATE;
+import static org.hibernate.models.testing.synthetic.ClassFileWriter.ACC_PUBLIC;
+
+/**
+ * Generates {@linkplain SyntheticModel synthetic domain models}, of arbitrary size, for
+ * scale testing and benchmarking.
+ * <p/>
+ * The generated classes are annotated with {@linkplain JpaAnnotations JPA annotations} -
+ * every class is an {@code @Entity} and every hierarchy root has an {@code @Id}; other usages
+ * ({@code @Table}, {@code @Cacheable}, {@code @Basic}, {@code @Column}, {@code @JoinColumn},
+ * {@code @ElementCollection}) are applied according to the
+ * {@linkplain SyntheticModelSpec#annotationDensity annotation density}.
+ * <p/>
+ * Members are a mix of basic types, parameterized collection types, references to other
+ * classes of the model and, for generic hierarchy roots, a type variable which the direct
+ * subclasses bind to {@code String}.
+ */
+public class SyntheticModelGenerator {
+	private static final String OBJECT = "java/lang/Object";
+
+	private static final String[] BASIC_TYPES = {
+			"Ljava/lang/String;",
+			"Ljava/lang/Integer;",
+			"Ljava/lang/Long;",
+			"I",
+			"J",
+			"Z",
+			"Ljava/math/BigDecimal;",
+			"Ljava/time/LocalDate;"
+	};
+
+	// descriptor and signature
+	private static final String[][] PARAMETERIZED_TYPES = {
+			{ "Ljava/util/List;", "Ljava/util/List<Ljava/lang/String;>;" },
+			{ "Ljava/util/Set;", "Ljava/util/Set<Ljava/lang/Integer;>;" },
+			{ "Ljava/util/Map;", "Ljava/util/Map<Ljava/lang/String;Ljava/lang/Long;>;" }
+	};
+
+	/**
+	 * Generate the model described by the given spec.
+	 */
+	public static SyntheticModel generate(SyntheticModelSpec spec) {
+		return new SyntheticModelGenerator( spec ).generate();
+	}
+
+	private final SyntheticModelSpec spec;
+	private final Random random;
+	private final int hierarchySize;
+	private final boolean[] genericRoots;
+
+	private SyntheticModelGenerator(SyntheticModelSpec spec) {
+		this.spec = spec;
+		this.random = new Random( spec.getSeed() );
+		this.hierarchySize = hierarchySize( spec );
+		this.genericRoots = new boolean[spec.getClassCount()];
+	}
+
+	private static int hierarchySize(SyntheticModelSpec spec) {
+		if ( spec.getHierarchyDepth() <= 1 || spec.getFanOut() <= 0 ) {
+			return 1;
+		}
+		long size = 0;
+		long levelSize = 1;
+		for ( int level = 0; level < spec.getHierarchyDepth() && size < spec.getClassCount(); level++ ) {
+			size += levelSize;
+			levelSize *= spec.getFanOut();
+		}
+		return (int) Math.min( size, Math.max( spec.getClassCount(), 1 ) );
+	}
+
+	private SyntheticModel generate() {
+		final List<String> classNames = new ArrayList<>( spec.getClassCount() );
+		for ( int i = 0; i < spec.getClassCount(); i++ ) {
+			classNames.add( className( i ) );
+		}
+
+		final Map<String, byte[]> classFiles = new HashMap<>();
+		for ( int i = 0; i < spec.getClassCount(); i++ ) {
+			classFiles.put( classNames.get( i ), generateClass( i ) );
+		}
+		return new SyntheticModel( spec, classNames, classFiles );
+	}
+
+	private String className(int index) {
+		return spec.getPackageName() + ".Synthetic" + index;
+	}
+
+	private String internalName(int index) {
+		return className( index ).replace( '.', '/' );
+	}
+
+	private int superClassIndex(int index) {
+		final int position = index % hierarchySize;
+		if ( position == 0 ) {
+			return -1;
+		}
+		return index - position + ( position - 1 ) / spec.getFanOut();
+	}
+
+	private boolean hasSubclasses(int index) {
+		final int position = index % hierarchySize;
+		final int firstSubclassPosition = position * spec.getFanOut() + 1;
+		return hierarchySize > 1
+				&& firstSubclassPosition < hierarchySize
+				&& index - position + firstSubclassPosition < spec.getClassCount();
+	}
+
+	private byte[] generateClass(int index) {
+		final String internalName = internalName( index );
+		final int superClassIndex = superClassIndex( index );
+		final String superInternalName = superClassIndex < 0 ? OBJECT : internalName( superClassIndex );
+		final String simpleName = "Synthetic" + index;
+
+		final ClassFileWriter writer = new ClassFileWriter( ACC_PUBLIC, internalName, superInternalName );
+
+		if ( superClassIndex < 0 && hasSubclasses( index ) && chance( spec.getGenericFraction() ) ) {
+			genericRoots[index] = true;
+			writer.signature( "<T:Ljava/lang/Object;>Ljava/lang/Object;" );
+		}
+		else if ( superClassIndex >= 0 && genericRoots[superClassIndex] ) {
+			writer.signature( "L" + superInternalName + "<Ljava/lang/String;>;" );
+		}
+
+		final List<ClassFileWriter.AnnotationUsage> classUsages = new ArrayList<>();
+		classUsages.add( usage( JpaAnnotations.ENTITY.getAnnotationType(), "name", simpleName ) );
+		if ( chance( spec.getAnnotationDensity() ) ) {
+			classUsages.add( usage( JpaAnnotations.TABLE.getAnnotationType(), "name", "T_" + simpleName ) );
+		}
+		if ( chance( spec.getAnnotationDensity() ) ) {
+			classUsages.add( usage( JpaAnnotations.CACHEABLE.getAnnotationType() ) );
+		}
+		writer.annotations( classUsages );
+
+		writer.constructor( superInternalName );
+
+		if ( genericRoots[index] ) {
+			addMember( writer, internalName, "genericValue", "Ljava/lang/Object;", "TT;", Collections.emptyList() );
+		}
+
+		for ( int memberIndex = 0; memberIndex < spec.getMembersPerClass(); memberIndex++ ) {
+			if ( memberIndex == 0 && superClassIndex < 0 ) {
+				addMember(
+						writer,
+						internalName,
+						"id",
+						"Ljava/lang/Long;",
+						null,
+						List.of( usage( JpaAnnotations.ID.getAnnotationType() ) )
+				);
+			}
+			else {
+				generateMember( writer, internalName, "attribute" + memberIndex );
+			}
+		}
+
+		return writer.toByteArray();
+	}
+
+	private void generateMember(ClassFileWriter writer, String internalName, String name) {
+		final List<ClassFileWriter.AnnotationUsage> usages = new ArrayList<>();
+		final double kind = random.nextDouble();
+		if ( kind < spec.getAssociationFraction() ) {
+			final String target = "L" + internalName( random.nextInt( spec.getClassCount() ) ) + ";";
+			if ( chance( spec.getGenericFraction() ) ) {
+				if ( chance( spec.getAnnotationDensity() ) ) {
+					usages.add( usage( JpaAnnotations.ELEMENT_COLLECTION.getAnnotationType(), "fetch", FetchType.LAZY ) );
+				}
+				addMember( writer, internalName, name, "Ljava/util/Set;", "Ljava/util/Set<" + target + ">;", usages );
+			}
+			else {
+				if ( chance( spec.getAnnotationDensity() ) ) {
+					usages.add( usage( JpaAnnotations.JOIN_COLUMN.getAnnotationType(), "name", name + "_id" ) );
+				}
+				addMember( writer, internalName, name, target, null, usages );
+			}
+		}
+		else if ( kind < spec.getAssociationFraction() + spec.getGenericFraction() ) {
+			final String[] type = PARAMETERIZED_TYPES[random.nextInt( PARAMETERIZED_TYPES.length )];
+			if ( chance( spec.getAnnotationDensity() ) ) {
+				usages.add( usage( JpaAnnotations.ELEMENT_COLLECTION.getAnnotationType(), "fetch", FetchType.EAGER ) );
+			}
+			addMember( writer, internalName, name, type[0], type[1], usages );
+		}
+		else {
+			final String type = BASIC_TYPES[random.nextInt( BASIC_TYPES.length )];
+			if ( chance( spec.getAnnotationDensity() ) ) {
+				usages.add( usage( JpaAnnotations.BASIC.getAnnotationType(), "optional", random.nextBoolean() ) );
+			}
+			if ( chance( spec.getAnnotationDensity() ) ) {
+				usages.add( type.equals( "Ljava/lang/String;" )
+						? usage( JpaAnnotations.COLUMN.getAnnotationType(), "name", name, "length", 16 + random.nextInt( 512 ) )
+						: usage( JpaAnnotations.COLUMN.getAnnotationType(), "name", name, "nullable", random.nextBoolean() ) );
+			}
+			addMember( writer, internalName, name, type, null, usages );
+		}
+	}
+
+	private void addMember(
+			ClassFileWriter writer,
+			String internalName,
+			String name,
+			String descriptor,
+			String signature,
+			List<ClassFileWriter.AnnotationUsage> usages) {
+		writer.field( ACC_PRIVATE, name, descriptor, signature, usages );
+		if ( spec.isAccessors() ) {
+			final String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+			final String getterName = ( descriptor.equals( "Z" ) ? "is" : "get" ) + capitalized;
+			writer.getter( internalName, getterName, name, descriptor, signature );
+			writer.setter( internalName, "set" + capitalized, name, descriptor, signature );
+		}
+	}
+
+	private boolean chance(double probability) {
+		return random.nextDouble() < probability;
+	}
+
+	private static ClassFileWriter.AnnotationUsage usage(
+			Class<? extends Annotation> annotationType,
+			Object... namesAndValues) {
+		final Map<String, Object> values = new LinkedHashMap<>();
+		for ( int i = 0; i < namesAndValues.length; i += 2 ) {
+			values.put( (String) namesAndValues[i], namesAndValues[i + 1] );
+		}
+		return new ClassFileWriter.AnnotationUsage( annotationType, values );
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.synthetic;
+
+/**
+ * Describes a {@linkplain SyntheticModelGenerator synthetic domain model}.
+ * <p/>
+ * Classes are arranged in hierarchies of the given {@linkplain #hierarchyDepth depth}, each
+ * class having {@linkplain #fanOut fan-out} direct subclasses (the last hierarchy may be
+ * partial).  Generating from the same spec always produces the same model.
+ */
+public class SyntheticModelSpec {
+	private String packageName = "org.hibernate.models.testing.synthetic.model";
+	private int classCount = 100;
+	private int hierarchyDepth = 3;
+	private int fanOut = 2;
+	private int membersPerClass = 8;
+	private double genericFraction = 0.2;
+	private double associationFraction = 0.2;
+	private double annotationDensity = 0.5;
+	private boolean accessors = true;
+	private long seed = 42;
+
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * The package of the generated classes.
+	 */
+	public SyntheticModelSpec packageName(String packageName) {
+		this.packageName = packageName;
+		return this;
+	}
+
+	public int getClassCount() {
+		return classCount;
+	}
+
+	/**
+	 * The number of classes to generate.
+	 */
+	public SyntheticModelSpec classCount(int classCount) {
+		this.classCount = classCount;
+		return this;
+	}
+
+	public int getHierarchyDepth() {
+		return hierarchyDepth;
+	}
+
+	/**
+	 * The number of levels in each hierarchy; {@code 1} means no inheritance.
+	 */
+	public SyntheticModelSpec hierarchyDepth(int hierarchyDepth) {
+		this.hierarchyDepth = hierarchyDepth;
+		return this;
+	}
+
+	public int getFanOut() {
+		return fanOut;
+	}
+
+	/**
+	 * The number of direct subclasses of each non-leaf class.
+	 */
+	public SyntheticModelSpec fanOut(int fanOut) {
+		this.fanOut = fanOut;
+		return this;
+	}
+
+	public int getMembersPerClass() {
+		return membersPerClass;
+	}
+
+	/**
+	 * The number of fields declared by each class.
+	 */
+	public SyntheticModelSpec membersPerClass(int membersPerClass) {
+		this.membersPerClass = membersPerClass;
+		return this;
+	}
+
+	public double getGenericFraction() {
+		return genericFraction;
+	}
+
+	/**
+	 * The fraction of members with a parameterized type, and of hierarchy roots declaring
+	 * a type variable bound by their subclasses.
+	 */
+	public SyntheticModelSpec genericFraction(double genericFraction) {
+		this.genericFraction = genericFraction;
+		return this;
+	}
+
+	public double getAssociationFraction() {
+		return associationFraction;
+	}
+
+	/**
+	 * The fraction of members referring to other classes of the model.
+	 */
+	public SyntheticModelSpec associationFraction(double associationFraction) {
+		this.associationFraction = associationFraction;
+		return this;
+	}
+
+	public double getAnnotationDensity() {
+		return annotationDensity;
+	}
+
+	/**
+	 * The probability of each optional annotation usage being applied.
+	 */
+	public SyntheticModelSpec annotationDensity(double annotationDensity) {
+		this.annotationDensity = annotationDensity;
+		return this;
+	}
+
+	public boolean isAccessors() {
+		return accessors;
+	}
+
+	/**
+	 * Whether to generate a getter and setter for each field.
+	 */
+	public SyntheticModelSpec accessors(boolean accessors) {
+		this.accessors = accessors;
+		return this;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * The seed for the random choices made while generating.
+	 */
+	public SyntheticModelSpec seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "SyntheticModelSpec(classes=" + classCount
+				+ ", depth=" + hierarchyDepth
+				+ ", fanOut=" + fanOut
+				+ ", members=" + membersPerClass
+				+ ", seed=" + seed + ")";
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.diff.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.models.AnnotationAccessException;
+import org.hibernate.models.diff.spi.ModelChange;
+import org.hibernate.models.internal.StructuralFingerprinting;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import static org.hibernate.models.internal.AnnotationHelper.extractValue;
+import static org.hibernate.models.internal.StructuralFingerprinting.headerSignature;
+import static org.hibernate.models.internal.StructuralFingerprinting.memberSignature;
+import static org.hibernate.models.internal.StructuralFingerprinting.valueSignature;
+
+/**
+ * Computes the {@linkplain ModelChange structural differences} between two models, e.g.
+ * a {@linkplain org.hibernate.models.serial.spi.StorableContext restored} snapshot and a
+ * freshly built context.
+ * <p/>
+ * Classes are matched by name and first compared by their (memoized)
+ * {@linkplain ClassDetails#getFingerprint fingerprints}; only classes whose fingerprints
+ * differ are compared member by member, using the same canonical forms as the fingerprints.  Changes are produced lazily, class by class, in
+ * class name order.
+ */
+public class ModelDiffer {
+	private final ModelsContext previous;
+	private final ModelsContext current;
+
+	public ModelDiffer(ModelsContext previous, ModelsContext current) {
+		this.previous = previous;
+		this.current = current;
+	}
+
+	/**
+	 * Stream of the differences between the classes known to the two contexts.
+	 */
+	public Stream<ModelChange> diff() {
+		final TreeSet<String> classNames = new TreeSet<>();
+		previous.getClassDetailsRegistry().forEachClassDetails( (classDetails) -> collectName( classDetails, classNames ) );
+		current.getClassDetailsRegistry().forEachClassDetails( (classDetails) -> collectName( classDetails, classNames ) );
+		return classNames.stream().flatMap( this::diffClass );
+	}
+
+	private static void collectName(ClassDetails classDetails, Set<String> classNames) {
+		if ( classDetails.getName() != null ) {
+			classNames.add( classDetails.getName() );
+		}
+	}
+
+	/**
+	 * Stream of the differences for a single class.
+	 */
+	public Stream<ModelChange> diffClass(String className) {
+		final ClassDetails previousClass = previous.getClassDetailsRegistry().findClassDetails( className );
+		final ClassDetails currentClass = current.getClassDetailsRegistry().findClassDetails( className );
+
+		if ( previousClass == null ) {
+			return currentClass == null
+					? Stream.empty()
+					: Stream.of( new ModelChange.ClassAdded( className, currentClass ) );
+		}
+		if ( currentClass == null ) {
+			return Stream.of( new ModelChange.ClassRemoved( className, previousClass ) );
+		}
+
+		if ( previousClass.getFingerprint( previous ).equals( currentClass.getFingerprint( current ) ) ) {
+			return Stream.empty();
+		}
+
+		final List<ModelChange> changes = new ArrayList<>();
+		if ( !headerSignature( previousClass ).equals( headerSignature( currentClass ) ) ) {
+			changes.add( new ModelChange.ClassChanged( className, previousClass, currentClass ) );
+		}
+
+		diffUsages(
+				className,
+				previousClass,
+				currentClass,
+				StructuralFingerprinting.declaredClassUsages( previousClass, previous ),
+				StructuralFingerprinting.declaredClassUsages( currentClass, current ),
+				changes
+		);
+
+		diffMembers( className, previousClass.getFields(), currentClass.getFields(), MemberDetails::getName, changes );
+		diffMembers( className, previousClass.getMethods(), currentClass.getMethods(), StructuralFingerprinting::methodKey, changes );
+		diffMembers( className, previousClass.getRecordComponents(), currentClass.getRecordComponents(), MemberDetails::getName, changes );
+
+		return changes.stream();
+	}
+
+	private <M extends MemberDetails> void diffMembers(
+			String className,
+			List<M> previousMembers,
+			List<M> currentMembers,
+			Function<M, String> keyFunction,
+			List<ModelChange> changes) {
+		final Map<String, M> previousByKey = keyMembers( previousMembers, keyFunction );
+		final Map<String, M> currentByKey = keyMembers( currentMembers, keyFunction );
+
+		previousByKey.forEach( (key, previousMember) -> {
+			final M currentMember = currentByKey.get( key );
+			if ( currentMember == null ) {
+				changes.add( new ModelChange.MemberRemoved( className, previousMember ) );
+				return;
+			}
+
+			if ( !memberSignature( previousMember ).equals( memberSignature( currentMember ) ) ) {
+				changes.add( new ModelChange.MemberChanged( className, previousMember, currentMember ) );
+			}
+			diffUsages(
+					className,
+					previousMember,
+					currentMember,
+					previousMember.getDirectAnnotationUsages(),
+					currentMember.getDirectAnnotationUsages(),
+					changes
+			);
+		} );
+
+		currentByKey.forEach( (key, currentMember) -> {
+			if ( !previousByKey.containsKey( key ) ) {
+				changes.add( new ModelChange.MemberAdded( className, currentMember ) );
+			}
+		} );
+	}
+
+	private static <M extends MemberDetails> Map<String, M> keyMembers(List<M> members, Function<M, String> keyFunction) {
+		final Map<String, M> membersByKey = new LinkedHashMap<>();
+		for ( int i = 0; i < members.size(); i++ ) {
+			final M member = members.get( i );
+			if ( !member.isSynthetic() ) {
+				membersByKey.put( keyFunction.apply( member ), member );
+			}
+		}
+		return membersByKey;
+	}
+
+	private void diffUsages(
+			String className,
+			AnnotationTarget previousTarget,
+			AnnotationTarget currentTarget,
+			Iterable<? extends Annotation> previousUsages,
+			Iterable<? extends Annotation> currentUsages,
+			List<ModelChange> changes) {
+		final Map<String, Annotation> previousByType = keyUsages( previousUsages );
+		final Map<String, Annotation> currentByType = keyUsages( currentUsages );
+
+		previousByType.forEach( (typeName, previousUsage) -> {
+			final Annotation currentUsage = currentByType.get( typeName );
+			if ( currentUsage == null ) {
+				changes.add( new ModelChange.AnnotationRemoved( className, previousTarget, previousUsage ) );
+				return;
+			}
+
+			final List<ModelChange.AttributeChange> attributeChanges = diffAttributes( previousUsage, currentUsage );
+			if ( !attributeChanges.isEmpty() ) {
+				changes.add( new ModelChange.AnnotationChanged(
+						className,
+						previousTarget,
+						currentTarget,
+						previousUsage,
+						currentUsage,
+						attributeChanges
+				) );
+			}
+		} );
+
+		currentByType.forEach( (typeName, currentUsage) -> {
+			if ( !previousByType.containsKey( typeName ) ) {
+				changes.add( new ModelChange.AnnotationAdded( className, currentTarget, currentUsage ) );
+			}
+		} );
+	}
+
+	private static Map<String, Annotation> keyUsages(Iterable<? extends Annotation> usages) {
+		final Map<String, Annotation> usagesByType = new LinkedHashMap<>();
+		for ( Annotation usage : usages ) {
+			usagesByType.put( usage.annotationType().getName(), usage );
+		}
+		return usagesByType;
+	}
+
+	private List<ModelChange.AttributeChange> diffAttributes(Annotation previousUsage, Annotation currentUsage) {
+		final Map<String, AttributeDescriptor<?>> previousAttributes = attributes( previousUsage, previous );
+		final Map<String, AttributeDescriptor<?>> currentAttributes = attributes( currentUsage, current );
+
+		final Set<String> attributeNames = new LinkedHashSet<>( previousAttributes.keySet() );
+		attributeNames.addAll( currentAttributes.keySet() );
+
+		final List<ModelChange.AttributeChange> attributeChanges = new ArrayList<>();
+		for ( String attributeName : attributeNames ) {
+			final Object previousValue = attributeValue( previousUsage, previousAttributes.get( attributeName ) );
+			final Object currentValue = attributeValue( currentUsage, currentAttributes.get( attributeName ) );
+			if ( !Objects.equals( valueSignature( previousValue, previous ), valueSignature( currentValue, current ) ) ) {
+				attributeChanges.add( new ModelChange.AttributeChange( attributeName, previousValue, currentValue ) );
+			}
+		}
+		return attributeChanges;
+	}
+
+	private static Map<String, AttributeDescriptor<?>> attributes(Annotation usage, ModelsContext modelsContext) {
+		final AnnotationDescriptor<? extends Annotation> descriptor = modelsContext.getAnnotationDescriptorRegistry()
+				.getDescriptor( usage.annotationType() );
+		final Map<String, AttributeDescriptor<?>> attributes = new LinkedHashMap<>();
+		for ( AttributeDescriptor<?> attribute : descriptor.getAttributes() ) {
+			attributes.put( attribute.getName(), attribute );
+		}
+		return attributes;
+	}
+
+	private static Object attributeValue(Annotation usage, AttributeDescriptor<?> attribute) {
+		if ( attribute == null ) {
+			return null;
+		}
+		try {
+			return extractValue( usage, attribute );
+		}
+		catch (AnnotationAccessException e) {
+			// e.g. annotations internal to the JDK - treat as unchanged
+			return null;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Support for structurally comparing two {@linkplain org.hibernate.models.spi.ModelsContext contexts},
+ * e.g. a {@linkplain org.hibernate.models.serial.spi.StorableContext restored} snapshot and a freshly built one.
+ */
+package org.hibernate.models.diff;
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.diff.spi;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+/**
+ * A single structural difference between two models.
+ * <p/>
+ * Changes are reported at the most specific level - e.g. the usages of an added member
+ * are not reported separately.
+ *
+ * @see org.hibernate.models.diff.internal.ModelDiffer
+ */
+public sealed interface ModelChange {
+	/**
+	 * The name of the class to which the change applies.
+	 */
+	String className();
+
+	/**
+	 * A class which only exists in the current model.
+	 */
+	record ClassAdded(String className, ClassDetails current) implements ModelChange {
+	}
+
+	/**
+	 * A class which only exists in the previous model.
+	 */
+	record ClassRemoved(String className, ClassDetails previous) implements ModelChange {
+	}
+
+	/**
+	 * A class whose kind, super types or type parameters changed.
+	 */
+	record ClassChanged(String className, ClassDetails previous, ClassDetails current) implements ModelChange {
+	}
+
+	/**
+	 * A member which only exists in the current model.
+	 */
+	record MemberAdded(String className, MemberDetails current) implements ModelChange {
+	}
+
+	/**
+	 * A member which only exists in the previous model.
+	 */
+	record MemberRemoved(String className, MemberDetails previous) implements ModelChange {
+	}
+
+	/**
+	 * A member whose type or modifiers changed.
+	 */
+	record MemberChanged(String className, MemberDetails previous, MemberDetails current) implements ModelChange {
+	}
+
+	/**
+	 * An annotation usage which only exists in the current model.
+	 */
+	record AnnotationAdded(String className, AnnotationTarget target, Annotation usage) implements ModelChange {
+	}
+
+	/**
+	 * An annotation usage which only exists in the previous model.
+	 */
+	record AnnotationRemoved(String className, AnnotationTarget target, Annotation usage) implements ModelChange {
+	}
+
+	/**
+	 * An annotation usage whose attribute values changed.
+	 */
+	record AnnotationChanged(
+			String className,
+			AnnotationTarget previousTarget,
+			AnnotationTarget currentTarget,
+			Annotation previous,
+			Annotation current,
+			List<AttributeChange> attributeChanges) implements ModelChange {
+	}
+
+	/**
+	 * The change to a single attribute of an annotation usage.  A {@code null} value indicates
+	 * the attribute does not exist in that model.
+	 */
+	record AttributeChange(String name, Object previousValue, Object currentValue) {
+	}
+}
@@ -7,6 +7,7 @@ package org.hibernate.models.internal;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.Map;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.spi.AnnotationDescriptor;
@@ -31,6 +32,8 @@ public abstract class AbstractAnnotationDescriptor<A extends Annotation>
 	private final boolean inherited;
 	private final AnnotationDescriptor<?> repeatableContainer;
 
+	private Map<Class<? extends Annotation>, ? extends Annotation> metaAnnotationClosure;
+
 	public AbstractAnnotationDescriptor(
 			Class<A> annotationType,
 			EnumSet<Kind> allowableTargets,
@@ -67,6 +70,14 @@ public abstract class AbstractAnnotationDescriptor<A extends Annotation>
 		return repeatableContainer;
 	}
 
+	@Override
+	public Map<Class<? extends Annotation>, ? extends Annotation> getMetaAnnotationClosure() {
+		if ( metaAnnotationClosure == null ) {
+			metaAnnotationClosure = AnnotationHelper.collectMetaAnnotations( annotationType );
+		}
+		return metaAnnotationClosure;
+	}
+
 	@Override
 	public Collection<? extends Annotation> getDirectAnnotationUsages() {
 		return getUsageMap().values();
@@ -10,10 +10,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.util.AppendOnlyOrderedSet;
 import org.hibernate.models.internal.util.CollectionHelper;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ModelsContext;
@@ -35,9 +37,9 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	protected final Map<String, ClassDetails> classDetailsMap;
 
 	// subtype per type
-	protected final Map<String, Set<ClassDetails>> directSubTypeMap;
+	protected final Map<String, AppendOnlyOrderedSet<ClassDetails>> directSubTypeMap;
 	// implementor by interface
-	protected final Map<String, Set<ClassDetails>> directImplementorMap;
+	protected final Map<String, AppendOnlyOrderedSet<ClassDetails>> directImplementorMap;
 
 	protected AbstractClassDetailsRegistry(ModelsContext context) {
 		this( new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), context );
@@ -45,8 +47,8 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 
 	protected AbstractClassDetailsRegistry(
 			Map<String, ClassDetails> classDetailsMap,
-			Map<String, Set<ClassDetails>> directSubTypeMap,
-			Map<String, Set<ClassDetails>> directImplementorMap,
+			Map<String, AppendOnlyOrderedSet<ClassDetails>> directSubTypeMap,
+			Map<String, AppendOnlyOrderedSet<ClassDetails>> directImplementorMap,
 			ModelsContext context) {
 		this.classDetailsMap = classDetailsMap;
 		this.directSubTypeMap = directSubTypeMap;
@@ -75,13 +77,7 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 
 	@Override
 	public void forEachDirectSubtype(String typeName, ClassDetailsConsumer consumer) {
-		final List<ClassDetails> directSubTypes = getDirectSubTypes( typeName );
-		if ( directSubTypes == null ) {
-			return;
-		}
-		for ( int i = 0; i < directSubTypes.size(); i++ ) {
-			consumer.consume( directSubTypes.get( i ) );
-		}
+		forEach( getDirectSubtypes( typeName ), consumer );
 	}
 
 	@Override
@@ -92,9 +88,21 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 
 	@Override
 	public void forEachDirectImplementor(String interfaceName, ClassDetailsConsumer consumer) {
-		final Set<ClassDetails> directImplementors = getDirectImplementors( interfaceName );
-		if ( directImplementors != null ) {
-			directImplementors.forEach( consumer::consume );
+		forEach( getDirectImplementors( interfaceName ), consumer );
+	}
+
+	private static void forEach(Set<ClassDetails> classDetailsSet, ClassDetailsConsumer consumer) {
+		if ( classDetailsSet instanceof AppendOnlyOrderedSet<ClassDetails> registered ) {
+			// indexed access, allocating nothing
+			final int size = registered.size();
+			for ( int i = 0; i < size; i++ ) {
+				consumer.consume( registered.get( i ) );
+			}
+		}
+		else if ( !classDetailsSet.isEmpty() ) {
+			for ( ClassDetails classDetails : classDetailsSet ) {
+				consumer.consume( classDetails );
+			}
 		}
 	}
 
@@ -128,38 +136,57 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 			consumer.consume( baseDetails );
 		}
 
-		forEachDirectSubtype( base, (subType) -> {
-			consumer.consume( subType );
-			walkSubtypes( subType, consumer );
-		} );
+		walkSubtypes( base, consumer );
+		walkInterfaceImplementors( base, consumer );
+	}
 
-		forEachDirectImplementor( base, (implementor) -> {
-			consumer.consume( implementor );
-			walkInterfaceImplementors( implementor, consumer );
-		} );
+	// the walks go through getDirectSubtypes / getDirectImplementors, which subclasses may override to consult
+	// an index, but loop over the registry's own sets by position to not allocate an iterator per visited type
+
+	private void walkSubtypes(String typeName, ClassDetailsConsumer consumer) {
+		final Set<ClassDetails> subtypes = getDirectSubtypes( typeName );
+		if ( subtypes instanceof AppendOnlyOrderedSet<ClassDetails> registered ) {
+			final int size = registered.size();
+			for ( int i = 0; i < size; i++ ) {
+				visitSubtype( registered.get( i ), consumer );
+			}
+		}
+		else if ( !subtypes.isEmpty() ) {
+			for ( ClassDetails subtype : subtypes ) {
+				visitSubtype( subtype, consumer );
+			}
+		}
 	}
 
-	private void walkSubtypes(ClassDetails base, ClassDetailsConsumer consumer) {
-		forEachDirectSubtype( base.getName(), (subType) -> {
-			consumer.consume( subType );
-			walkSubtypes( subType, consumer );
-		} );
+	private void visitSubtype(ClassDetails subtype, ClassDetailsConsumer consumer) {
+		consumer.consume( subtype );
+		walkSubtypes( subtype.getName(), consumer );
 	}
 
-	private void walkInterfaceImplementors(ClassDetails implementor, ClassDetailsConsumer consumer) {
+	private void walkInterfaceImplementors(String typeName, ClassDetailsConsumer consumer) {
+		final Set<ClassDetails> implementors = getDirectImplementors( typeName );
+		if ( implementors instanceof AppendOnlyOrderedSet<ClassDetails> registered ) {
+			final int size = registered.size();
+			for ( int i = 0; i < size; i++ ) {
+				visitImplementor( registered.get( i ), consumer );
+			}
+		}
+		else if ( !implementors.isEmpty() ) {
+			for ( ClassDetails implementor : implementors ) {
+				visitImplementor( implementor, consumer );
+			}
+		}
+	}
+
+	private void visitImplementor(ClassDetails implementor, ClassDetailsConsumer consumer) {
+		consumer.consume( implementor );
 		if ( implementor.isInterface() ) {
 			// the direct interface implementor is itself an interface...
-			forEachDirectImplementor( implementor.getName(), (implementorImplementor) -> {
-				consumer.consume( implementorImplementor );
-				walkInterfaceImplementors( implementorImplementor, consumer );
-			} );
+			walkInterfaceImplementors( implementor.getName(), consumer );
 		}
 		else {
 			// the direct interface implementor is itself a class...
-			forEachDirectSubtype( implementor.getName(), (subtype) -> {
-				consumer.consume( subtype );
-				walkSubtypes( subtype, consumer );
-			} );
+			walkSubtypes( implementor.getName(), consumer );
 		}
 	}
 
@@ -175,6 +202,11 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 		}
 	}
 
+	@Override
+	public Spliterator<ClassDetails> classDetailsSpliterator() {
+		return classDetailsMap.values().spliterator();
+	}
+
 	@Override
 	public ClassDetails resolveClassDetails(String name) {
 		if ( name == null ) {
@@ -192,8 +224,8 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	protected ClassDetails createClassDetails(String name) {
 		try {
 			final ClassDetails created = getClassDetailsBuilder().buildClassDetails( name, context );
-			addClassDetails( name, created );
-			return created;
+			// another thread may have built the same class in the meantime
+			return addClassDetailsIfAbsent( name, created );
 		}
 		catch (UnknownClassException e) {
 			// see if it might be a package name...
@@ -214,26 +246,44 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	@Override
 	public void addClassDetails(String name, ClassDetails classDetails) {
 		classDetailsMap.put( name, classDetails );
+		registerHierarchy( classDetails );
+	}
 
+	@Override
+	public void addClassDetails(Map<String, ? extends ClassDetails> classDetailsByName) {
+		classDetailsMap.putAll( classDetailsByName );
+		classDetailsByName.values().forEach( this::registerHierarchy );
+	}
+
+	/**
+	 * Register the given {@code classDetails} unless another ClassDetails is already registered
+	 * under that name, which may happen when the same class is built concurrently.
+	 *
+	 * @return The registered ClassDetails - either {@code classDetails} or the one registered earlier
+	 */
+	protected ClassDetails addClassDetailsIfAbsent(String name, ClassDetails classDetails) {
+		final ClassDetails existing = classDetailsMap.putIfAbsent( name, classDetails );
+		if ( existing != null ) {
+			return existing;
+		}
+		registerHierarchy( classDetails );
+		return classDetails;
+	}
+
+	private void registerHierarchy(ClassDetails classDetails) {
 		if ( classDetails.getSuperClass() != null ) {
-			Set<ClassDetails> subTypes = directSubTypeMap.get( classDetails.getSuperClass().getName() );
-			//noinspection Java8MapApi
-			if ( subTypes == null ) {
-				subTypes = new LinkedHashSet<>();
-				directSubTypeMap.put( classDetails.getSuperClass().getName(), subTypes );
-			}
-			subTypes.add( classDetails );
+			directSubTypeMap.computeIfAbsent(
+					classDetails.getSuperClass().getName(),
+					(superTypeName) -> new AppendOnlyOrderedSet<>()
+			).add( classDetails );
 		}
 
 		final List<TypeDetails> implementedInterfaces = classDetails.getImplementedInterfaces();
 		if ( implementedInterfaces != null ) {
-			implementedInterfaces.forEach( (implementedInterface) -> {
-				final Set<ClassDetails> directImplementors = directImplementorMap.computeIfAbsent(
-						implementedInterface.getName(),
-						(interfaceName) -> new LinkedHashSet<>()
-				);
-				directImplementors.add( classDetails );
-			} );
+			implementedInterfaces.forEach( (implementedInterface) -> directImplementorMap.computeIfAbsent(
+					implementedInterface.getName(),
+					(interfaceName) -> new AppendOnlyOrderedSet<>()
+			).add( classDetails ) );
 		}
 	}
 
@@ -258,8 +308,7 @@ public abstract class AbstractClassDetailsRegistry implements MutableClassDetail
 	protected ClassDetails createClassDetails(String name, ClassDetailsCreator creator) {
 		try {
 			final ClassDetails created = creator.createClassDetails( name );
-			addClassDetails( name, created );
-			return created;
+			return addClassDetailsIfAbsent( name, created );
 		}
 		catch (UnknownClassException e) {
 			// see if it might be a package name...
@@ -5,12 +5,15 @@
 package org.hibernate.models.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationUsageInterner;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.RegistryPrimer;
+import org.hibernate.models.spi.TypeDetailsPool;
 
 /**
  * Base support for ModelsContext implementations
@@ -19,6 +22,10 @@ import org.hibernate.models.spi.RegistryPrimer;
  */
 public abstract class AbstractModelsContext implements ModelsContext {
 	private final ClassLoading classLoadingAccess;
+	private final TypeDetailsPool typeDetailsPool = new TypeDetailsPoolStandard();
+	private volatile AnnotationUsageInterner annotationUsageInterner = AnnotationUsageInterner.NO_INTERNING;
+	private final AtomicInteger usageModifications = new AtomicInteger();
+	private final AtomicInteger memberModifications = new AtomicInteger();
 
 	public AbstractModelsContext(ClassLoading classLoadingAccess) {
 		this.classLoadingAccess = classLoadingAccess;
@@ -35,6 +42,46 @@ public abstract class AbstractModelsContext implements ModelsContext {
 		return classLoadingAccess;
 	}
 
+	@Override
+	public TypeDetailsPool getTypeDetailsPool() {
+		return typeDetailsPool;
+	}
+
+	@Override
+	public AnnotationUsageInterner getAnnotationUsageInterner() {
+		return annotationUsageInterner;
+	}
+
+	/**
+	 * Opt in to sharing structurally equal annotation usages.  Only affects usages read
+	 * after this call, so it should be enabled before any classes are built.
+	 *
+	 * @see AnnotationUsageInterner
+	 */
+	public synchronized void enableAnnotationUsageInterning() {
+		if ( annotationUsageInterner == AnnotationUsageInterner.NO_INTERNING ) {
+			annotationUsageInterner = new AnnotationUsageInternerStandard( this );
+		}
+	}
+
+	/**
+	 * Counts changes to the annotation usages of the classes in this context and their members.
+	 * Changes are rare (XML overrides, e.g.), so a single counter is enough for the {@linkplain
+	 * EffectiveUsageCache effective usage caches} and {@linkplain DerivedMemberState#getFingerprint
+	 * memoized fingerprints} to tell that nothing changed.
+	 */
+	public AtomicInteger getUsageModifications() {
+		return usageModifications;
+	}
+
+	/**
+	 * Counts members added to the classes in this context, letting a {@linkplain ResolvedHierarchyImpl
+	 * resolved hierarchy} skip re-validating its super classes while nothing was added.
+	 */
+	public AtomicInteger getMemberModifications() {
+		return memberModifications;
+	}
+
 	protected void primeRegistries(RegistryPrimer registryPrimer) {
 		BaseLineJavaTypes.forEachJavaType( this::primeClassDetails );
 
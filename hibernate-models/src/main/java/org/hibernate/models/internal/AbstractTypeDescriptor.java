@@ -47,12 +47,12 @@ public abstract class AbstractTypeDescriptor<V> implements ValueTypeDescriptor<V
 			RenderingTarget target,
 			Renderer renderer,
 			ModelsContext modelContext) {
-		target.addLine( "%s = %s", name, attributeValue );
+		target.addLine( name + " = " + attributeValue );
 	}
 
 	@Override
 	public void render(Object attributeValue, RenderingTarget target, Renderer renderer, ModelsContext modelContext) {
-		target.addLine( "%s", attributeValue );
+		target.addLine( String.valueOf( attributeValue ) );
 	}
 
 	@Override
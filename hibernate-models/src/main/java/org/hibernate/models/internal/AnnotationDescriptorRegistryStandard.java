@@ -38,6 +38,12 @@ public class AnnotationDescriptorRegistryStandard
 
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> getDescriptor(Class<A> javaType) {
+		// check first, to not allocate the creator for each lookup
+		//noinspection unchecked
+		final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+		if ( existing != null ) {
+			return existing;
+		}
 		return resolveDescriptor( javaType, this::buildAdHocAnnotationDescriptor );
 	}
 
@@ -52,8 +58,10 @@ public class AnnotationDescriptorRegistryStandard
 		}
 
 		final AnnotationDescriptor<A> created = creator.createDescriptor( javaType );
-		descriptorMap.put( javaType, created );
-		return created;
+		// keep the descriptor of whoever got there first, in case of concurrent creation
+		//noinspection unchecked
+		final AnnotationDescriptor<A> raced = (AnnotationDescriptor<A>) descriptorMap.putIfAbsent( javaType, created );
+		return raced != null ? raced : created;
 	}
 
 	private <A extends Annotation> AnnotationDescriptor<A> buildAdHocAnnotationDescriptor(Class<A> javaType) {
@@ -67,9 +75,7 @@ public class AnnotationDescriptorRegistryStandard
 			containerDescriptor = null;
 		}
 
-		final AnnotationDescriptor<A> descriptor = buildAnnotationDescriptor( javaType, containerDescriptor );
-		descriptorMap.put( javaType, descriptor );
-		return descriptor;
+		return buildAnnotationDescriptor( javaType, containerDescriptor );
 	}
 
 	protected <A extends Annotation> AnnotationDescriptor<A> buildAnnotationDescriptor(
@@ -5,11 +5,15 @@
 package org.hibernate.models.internal;
 
 import java.lang.annotation.Annotation;
-import java.lang.annotation.Inherited;
-import java.lang.annotation.Target;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.models.AnnotationAccessException;
 import org.hibernate.models.spi.AnnotationTarget;
@@ -26,11 +30,44 @@ public class AnnotationHelper {
 	}
 
 	public static <A extends Annotation> boolean isInherited(Class<A> annotationType) {
-		return annotationType.isAnnotationPresent( Inherited.class );
+		return AnnotationTypeMetadata.of( annotationType ).isInherited();
 	}
 
 	public static <A extends Annotation> EnumSet<AnnotationTarget.Kind> extractTargets(Class<A> annotationType) {
-		return AnnotationTarget.Kind.from( annotationType.getAnnotation( Target.class ) );
+		return AnnotationTypeMetadata.of( annotationType ).getAllowableTargets();
+	}
+
+	/**
+	 * Collects the meta-annotations of the given annotation type at any depth - the annotations on
+	 * {@code annotationType}, the annotations on those annotation types, and so on.  Each meta-annotation
+	 * type is mapped to its usage nearest to {@code annotationType}.
+	 *
+	 * @apiNote The {@code java.lang.annotation} types are collected, but not walked.
+	 */
+	public static <A extends Annotation> Map<Class<? extends Annotation>, Annotation> collectMetaAnnotations(Class<A> annotationType) {
+		final Map<Class<? extends Annotation>, Annotation> result = new LinkedHashMap<>();
+		final Set<Class<? extends Annotation>> visited = new HashSet<>();
+		final ArrayDeque<Class<? extends Annotation>> queue = new ArrayDeque<>();
+		visited.add( annotationType );
+		queue.add( annotationType );
+
+		while ( !queue.isEmpty() ) {
+			final Annotation[] metaAnnotations = queue.poll().getAnnotations();
+			for ( int i = 0; i < metaAnnotations.length; i++ ) {
+				final Class<? extends Annotation> metaAnnotationType = metaAnnotations[i].annotationType();
+				// breadth-first, so the first usage we see is the nearest
+				result.putIfAbsent( metaAnnotationType, metaAnnotations[i] );
+				if ( visited.add( metaAnnotationType ) && !isLanguageAnnotation( metaAnnotationType ) ) {
+					queue.add( metaAnnotationType );
+				}
+			}
+		}
+
+		return result.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap( result );
+	}
+
+	private static boolean isLanguageAnnotation(Class<? extends Annotation> annotationType) {
+		return annotationType.getPackageName().equals( "java.lang.annotation" );
 	}
 
 	public static <A extends Annotation, R> R extractValue(A annotationUsage, AttributeDescriptor<R> attributeDescriptor) {
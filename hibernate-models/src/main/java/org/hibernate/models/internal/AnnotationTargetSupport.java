@@ -12,7 +12,9 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.MutableAnnotationTarget;
@@ -29,20 +31,39 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 	 */
 	Map<Class<? extends Annotation>,? extends Annotation> getUsageMap();
 
+	/**
+	 * Callback for whenever the usages on this target are changed through
+	 * the {@linkplain MutableAnnotationTarget} contract, allowing any state
+	 * derived from the usages to be dropped.
+	 * <p/>
+	 * The usages of a member are part of its declaring class's {@linkplain
+	 * org.hibernate.models.spi.ClassDetails#getFingerprint fingerprint}, so by default the change
+	 * is passed on to the declaring class.
+	 */
+	default void annotationUsagesChanged() {
+		if ( this instanceof MemberDetails member
+				&& member.getDeclaringType() instanceof ClassDetailsSupport declaringType ) {
+			declaringType.memberUsagesChanged();
+		}
+	}
+
 	@Override
 	default void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
 	@Override
 	default <X extends Annotation> void addAnnotationUsage(X annotationUsage) {
 		//noinspection unchecked,rawtypes
 		( (Map) getUsageMap() ).put( annotationUsage.annotationType(), annotationUsage );
+		annotationUsagesChanged();
 	}
 
 	@Override
 	default <X extends Annotation> void removeAnnotationUsage(AnnotationDescriptor<X> annotationType) {
 		getUsageMap().remove( annotationType.getAnnotationType() );
+		annotationUsagesChanged();
 	}
 
 	@Override
@@ -92,18 +113,50 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 		return AnnotationUsageHelper.getUsage( annotationType, getUsageMap(), modelContext );
 	}
 
+	/**
+	 * Cache of the flattened repeatable usages on this target, or {@code null}
+	 * if the implementation does not cache them.
+	 */
+	default RepeatedUsageCache getRepeatedUsageCache() {
+		return null;
+	}
+
 	@Override
 	default <A extends Annotation> A[] getRepeatedAnnotationUsages(
 			AnnotationDescriptor<A> type,
 			ModelsContext modelContext) {
+		final RepeatedUsageCache repeatedUsageCache = getRepeatedUsageCache();
+		if ( repeatedUsageCache != null ) {
+			return repeatedUsageCache.getUsageArray( type, getUsageMap() );
+		}
 		return AnnotationUsageHelper.getRepeatedUsages( type, getUsageMap(), modelContext );
 	}
 
+	@Override
+	default <A extends Annotation> List<A> getRepeatedAnnotationUsageList(
+			AnnotationDescriptor<A> type,
+			ModelsContext modelContext) {
+		final RepeatedUsageCache repeatedUsageCache = getRepeatedUsageCache();
+		if ( repeatedUsageCache != null ) {
+			return repeatedUsageCache.getUsages( type, getUsageMap() );
+		}
+		return List.of( AnnotationUsageHelper.getRepeatedUsages( type, getUsageMap(), modelContext ) );
+	}
+
 	@Override
 	default <A extends Annotation, C extends Annotation> void forEachRepeatedAnnotationUsages(
 			Class<A> repeatableType,
 			Class<C> containerType,
 			ModelsContext modelContext, Consumer<A> consumer) {
+		final RepeatedUsageCache repeatedUsageCache = getRepeatedUsageCache();
+		if ( repeatedUsageCache != null ) {
+			final AnnotationDescriptor<A> repeatableDescriptor = modelContext.getAnnotationDescriptorRegistry().getDescriptor( repeatableType );
+			final AnnotationDescriptor<?> containerDescriptor = repeatableDescriptor.getRepeatableContainer();
+			if ( containerDescriptor != null && containerDescriptor.getAnnotationType() == containerType ) {
+				repeatedUsageCache.getUsages( repeatableDescriptor, getUsageMap() ).forEach( consumer );
+				return;
+			}
+		}
 		AnnotationUsageHelper.forEachRepeatedAnnotationUsages( repeatableType, containerType, consumer, getUsageMap(), modelContext );
 	}
 
@@ -113,6 +166,11 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 			AnnotationDescriptor<A> repeatableDescriptor,
 			ModelsContext modelContext,
 			Consumer<A> consumer) {
+		final RepeatedUsageCache repeatedUsageCache = getRepeatedUsageCache();
+		if ( repeatedUsageCache != null ) {
+			repeatedUsageCache.getUsages( repeatableDescriptor, getUsageMap() ).forEach( consumer );
+			return;
+		}
 		AnnotationUsageHelper.forEachRepeatedAnnotationUsages( repeatableDescriptor, consumer, getUsageMap(), modelContext );
 	}
 
@@ -128,7 +186,8 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 		}
 
 		// next, check as a "meta annotation"
-		// 		- for each local usage, check that annotation's annotations for `Nationalized.class` (one level deep)
+		// 		- for each local usage, check that annotation's annotations for `Nationalized.class`, and
+		//		  their annotations and so on (stereotypes) using the descriptor's precomputed closure
 		final Map<Class<? extends Annotation>, ? extends Annotation> localUsageMap = getUsageMap();
 		for ( Map.Entry<Class<? extends Annotation>, ? extends Annotation> usageEntry : localUsageMap.entrySet() ) {
 			final Annotation usage = usageEntry.getValue();
@@ -139,12 +198,17 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 			}
 
 			final AnnotationDescriptor<? extends Annotation> usageDescriptor = modelContext.getAnnotationDescriptorRegistry().getDescriptor( usage.annotationType() );
+			if ( !usageDescriptor.isMetaAnnotatedWith( annotationType ) ) {
+				continue;
+			}
+
+			// prefer the descriptor's view of a direct meta-annotation
 			final A metaAnnotation = usageDescriptor.getDirectAnnotationUsage( annotationType );
 			if ( metaAnnotation != null ) {
 				return metaAnnotation;
 			}
-
-			// we only check one level deep
+			//noinspection unchecked
+			return (A) usageDescriptor.getMetaAnnotationClosure().get( annotationType );
 		}
 
 		return null;
@@ -154,10 +218,10 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 	default <A extends Annotation> List<? extends Annotation> getMetaAnnotated(
 			Class<A> metaAnnotationType,
 			ModelsContext modelContext) {
+		final AnnotationDescriptorRegistry descriptorRegistry = modelContext.getAnnotationDescriptorRegistry();
 		final List<Annotation> usages = new ArrayList<>();
 		forEachDirectAnnotationUsage( (usage) -> {
-			final Annotation metaUsage = usage.annotationType().getAnnotation( metaAnnotationType );
-			if ( metaUsage != null ) {
+			if ( descriptorRegistry.getDescriptor( usage.annotationType() ).isMetaAnnotatedWith( metaAnnotationType ) ) {
 				usages.add( usage );
 			}
 		} );
@@ -209,6 +273,7 @@ public interface AnnotationTargetSupport extends MutableAnnotationTarget {
 		( (Map) getUsageMap() ).put( containerType.getAnnotationType(), containerTypeUsage );
 		// remove any entry for the repeatable/singular form
 		getUsageMap().remove( repeatableType.getAnnotationType() );
+		annotationUsagesChanged();
 
 		return containerTypeUsage;
 	}
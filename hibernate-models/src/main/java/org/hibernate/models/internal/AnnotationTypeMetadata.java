@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.hibernate.models.internal.util.AnnotationAttributeTypeHelper;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ValueTypeDescriptor;
+
+/**
+ * The parts of an annotation descriptor which depend only on the annotation {@linkplain Class} -
+ * its attributes, allowable targets and whether it is inherited.  Computed once per annotation type
+ * and shared by the descriptors of all {@linkplain org.hibernate.models.spi.ModelsContext contexts};
+ * anything tied to a context (meta-annotation usages, e.g.) stays on the descriptors themselves.
+ */
+public final class AnnotationTypeMetadata {
+	private static final ClassValue<AnnotationTypeMetadata> METADATA = new ClassValue<>() {
+		@Override
+		protected AnnotationTypeMetadata computeValue(Class<?> type) {
+			//noinspection unchecked
+			return new AnnotationTypeMetadata( (Class<? extends Annotation>) type );
+		}
+	};
+
+	private final List<AttributeDescriptor<?>> attributeDescriptors;
+	private final EnumSet<AnnotationTarget.Kind> allowableTargets;
+	private final boolean inherited;
+
+	private AnnotationTypeMetadata(Class<? extends Annotation> annotationType) {
+		this.attributeDescriptors = extractAttributeDescriptors( annotationType );
+		this.allowableTargets = AnnotationTarget.Kind.from( annotationType.getAnnotation( Target.class ) );
+		this.inherited = annotationType.isAnnotationPresent( Inherited.class );
+	}
+
+	/**
+	 * Access the metadata for the given annotation type.
+	 */
+	public static AnnotationTypeMetadata of(Class<? extends Annotation> annotationType) {
+		return METADATA.get( annotationType );
+	}
+
+	/**
+	 * The (immutable) attribute descriptors, in {@linkplain Class#getDeclaredMethods() declaration} order.
+	 */
+	public List<AttributeDescriptor<?>> getAttributeDescriptors() {
+		return attributeDescriptors;
+	}
+
+	/**
+	 * The allowable targets.  The returned set is a copy, which the caller may modify.
+	 */
+	public EnumSet<AnnotationTarget.Kind> getAllowableTargets() {
+		return EnumSet.copyOf( allowableTargets );
+	}
+
+	/**
+	 * Whether the annotation is {@linkplain Inherited inherited}.
+	 */
+	public boolean isInherited() {
+		return inherited;
+	}
+
+	private static List<AttributeDescriptor<?>> extractAttributeDescriptors(Class<? extends Annotation> annotationType) {
+		final Method[] methods = annotationType.getDeclaredMethods();
+		final List<AttributeDescriptor<?>> attributeDescriptors = new ArrayList<>( methods.length );
+		for ( Method method : methods ) {
+			attributeDescriptors.add( createAttributeDescriptor( method ) );
+		}
+		return List.copyOf( attributeDescriptors );
+	}
+
+	private static <X> AttributeDescriptor<X> createAttributeDescriptor(Method method) {
+		//noinspection unchecked
+		final Class<X> attributeType = (Class<X>) method.getReturnType();
+
+		final ValueTypeDescriptor<X> typeDescriptor = AnnotationAttributeTypeHelper.resolveTypeDescriptor( attributeType );
+		// we already have the Method, no need to look it up again by name
+		return new AttributeDescriptorImpl<>( method, typeDescriptor );
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.AnnotationAccessException;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationUsageInterner;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ModelsContext;
+
+import static org.hibernate.models.internal.AnnotationHelper.extractValue;
+
+/**
+ * Standard {@linkplain AnnotationUsageInterner} implementation, keyed by the annotation type
+ * and the attribute values of the usage, nested usages being compared by their values as well.
+ * <p/>
+ * Mutable usages (e.g. those of {@linkplain OrmAnnotationDescriptor ORM descriptors}) are interned
+ * as well.  Canonical instances are tracked by identity, so that {@linkplain
+ * org.hibernate.models.spi.MutableAnnotationTarget#applyAnnotationUsage} can hand out a private copy
+ * instead of a shared instance.  Usages with attribute values which cannot be read are never shared.
+ * <p/>
+ * The pool holds strong references and lives as long as the owning {@linkplain ModelsContext}.
+ */
+public class AnnotationUsageInternerStandard implements AnnotationUsageInterner {
+	private final ModelsContext modelsContext;
+	private final Map<Key, Annotation> pool = new ConcurrentHashMap<>();
+	private final Set<Annotation> canonicalInstances = Collections.newSetFromMap( Collections.synchronizedMap( new IdentityHashMap<>() ) );
+
+	public AnnotationUsageInternerStandard(ModelsContext modelsContext) {
+		this.modelsContext = modelsContext;
+	}
+
+	@Override
+	public <A extends Annotation> A intern(A usage) {
+		if ( usage == null ) {
+			return null;
+		}
+
+		final Key key;
+		try {
+			key = key( usage );
+		}
+		catch (AnnotationAccessException e) {
+			// e.g. annotations internal to the JDK, from packages which are not exported
+			return usage;
+		}
+
+		final Annotation existing = pool.get( key );
+		if ( existing != null ) {
+			//noinspection unchecked
+			return (A) existing;
+		}
+		// registered before it is published through the pool, so that a shared instance is never mistaken for a private one
+		canonicalInstances.add( usage );
+		final Annotation raced = pool.putIfAbsent( key, usage );
+		if ( raced != null ) {
+			canonicalInstances.remove( usage );
+			//noinspection unchecked
+			return (A) raced;
+		}
+		return usage;
+	}
+
+	@Override
+	public boolean isShared(Annotation usage) {
+		return canonicalInstances.contains( usage );
+	}
+
+	/**
+	 * The number of canonical instances in the pool
+	 */
+	public int size() {
+		return pool.size();
+	}
+
+	private Key key(Annotation usage) {
+		final AnnotationDescriptor<? extends Annotation> descriptor = modelsContext.getAnnotationDescriptorRegistry()
+				.getDescriptor( usage.annotationType() );
+		final List<AttributeDescriptor<?>> attributes = descriptor.getAttributes();
+		final Object[] values = new Object[attributes.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = keyValue( extractValue( usage, attributes.get( i ) ) );
+		}
+		return new Key( usage.annotationType(), values );
+	}
+
+	private Object keyValue(Object value) {
+		if ( value instanceof Annotation nested ) {
+			return key( nested );
+		}
+		if ( value instanceof Annotation[] nestedArray ) {
+			final Object[] keys = new Object[nestedArray.length];
+			for ( int i = 0; i < nestedArray.length; i++ ) {
+				keys[i] = key( nestedArray[i] );
+			}
+			return keys;
+		}
+		return value;
+	}
+
+	private static final class Key {
+		private final Class<? extends Annotation> annotationType;
+		private final Object[] values;
+		private final int hash;
+
+		private Key(Class<? extends Annotation> annotationType, Object[] values) {
+			this.annotationType = annotationType;
+			this.values = values;
+			this.hash = 31 * annotationType.hashCode() + Arrays.deepHashCode( values );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Key key
+					&& hash == key.hash
+					&& annotationType == key.annotationType
+					&& Arrays.deepEquals( values, key.values );
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
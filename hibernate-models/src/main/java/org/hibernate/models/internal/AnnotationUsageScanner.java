@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.AnnotationUsageVisitor;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+
+/**
+ * Implementation of {@linkplain org.hibernate.models.spi.ClassDetailsRegistry#scanAnnotationUsages}.
+ * <p/>
+ * Each target's usages are iterated once, looking each up among the scanned annotation types,
+ * rather than probing the target once per scanned annotation type.
+ */
+public class AnnotationUsageScanner {
+	private final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorsByType;
+	// scanned repeatable annotations, keyed by their container type
+	private final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> repeatablesByContainerType;
+	private final AnnotationUsageVisitor visitor;
+
+	// set once the visitor asks to stop, so that other threads stop as well
+	private volatile boolean stopped;
+
+	public AnnotationUsageScanner(
+			Collection<? extends AnnotationDescriptor<?>> descriptors,
+			AnnotationUsageVisitor visitor) {
+		this.descriptorsByType = new HashMap<>();
+		this.repeatablesByContainerType = new HashMap<>();
+		for ( AnnotationDescriptor<?> descriptor : descriptors ) {
+			descriptorsByType.put( descriptor.getAnnotationType(), descriptor );
+			if ( descriptor.getRepeatableContainer() != null ) {
+				repeatablesByContainerType.put( descriptor.getRepeatableContainer().getAnnotationType(), descriptor );
+			}
+		}
+		this.visitor = visitor;
+	}
+
+	/**
+	 * Scan the classes from the given spliterator, and their members.  When {@code parallel},
+	 * both the visitor and the classes' lazily built state must be thread-safe - see
+	 * {@linkplain org.hibernate.models.spi.ClassDetailsRegistry#scanAnnotationUsages(Collection, AnnotationUsageVisitor, boolean)}.
+	 *
+	 * @return {@code true} if all classes were scanned; {@code false} if the visitor stopped the scan.
+	 */
+	public boolean scan(Spliterator<ClassDetails> classDetails, boolean parallel) {
+		if ( descriptorsByType.isEmpty() ) {
+			return true;
+		}
+		// allMatch stops at the first class for which the visitor asked to stop
+		return StreamSupport.stream( classDetails, parallel ).allMatch( this::scanClass );
+	}
+
+	/**
+	 * Scan the given class and its members.
+	 *
+	 * @return {@code false} if the visitor stopped the scan.
+	 */
+	public boolean scanClass(ClassDetails classDetails) {
+		return scanTarget( classDetails )
+				&& scanTargets( classDetails.getFields() )
+				&& scanTargets( classDetails.getMethods() )
+				&& scanTargets( classDetails.getRecordComponents() );
+	}
+
+	private boolean scanTargets(List<? extends AnnotationTarget> targets) {
+		for ( int i = 0; i < targets.size(); i++ ) {
+			if ( !scanTarget( targets.get( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean scanTarget(AnnotationTarget target) {
+		if ( stopped ) {
+			return false;
+		}
+
+		for ( Annotation usage : target.getDirectAnnotationUsages() ) {
+			final Class<? extends Annotation> usageType = usage.annotationType();
+
+			final AnnotationDescriptor<?> descriptor = descriptorsByType.get( usageType );
+			if ( descriptor != null && !visit( target, descriptor, usage ) ) {
+				return false;
+			}
+
+			final AnnotationDescriptor<?> repeatableDescriptor = repeatablesByContainerType.get( usageType );
+			if ( repeatableDescriptor != null && !visitRepetitions( target, repeatableDescriptor, usage ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean visitRepetitions(
+			AnnotationTarget target,
+			AnnotationDescriptor<?> repeatableDescriptor,
+			Annotation container) {
+		final AttributeDescriptor<Annotation[]> valuesAttribute = repeatableDescriptor.getRepeatableContainer().getAttribute( "value" );
+		final Annotation[] repetitions = AnnotationHelper.extractValue( container, valuesAttribute );
+		if ( repetitions != null ) {
+			for ( Annotation repetition : repetitions ) {
+				if ( !visit( target, repeatableDescriptor, repetition ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean visit(AnnotationTarget target, AnnotationDescriptor<?> descriptor, Annotation usage) {
+		if ( !visitor.visit( target, descriptor, usage ) ) {
+			stopped = true;
+			return false;
+		}
+		return true;
+	}
+}
@@ -31,8 +31,9 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 	private final Class<V> componentType;
 	private final Class<V[]> arrayType;
 
-	private JdkValueConverter<V[]> jdkValueConverter;
-	private JdkValueExtractor<V[]> jdkValueExtractor;
+	// racing initializations create equivalent, stateless instances
+	private volatile JdkValueConverter<V[]> jdkValueConverter;
+	private volatile JdkValueExtractor<V[]> jdkValueExtractor;
 
 	public ArrayTypeDescriptor(ValueTypeDescriptor<V> elementTypeDescriptor) {
 		this.elementTypeDescriptor = elementTypeDescriptor;
@@ -59,6 +60,7 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 
 	@Override
 	public JdkValueConverter<V[]> createJdkValueConverter(ModelsContext modelContext) {
+		JdkValueConverter<V[]> jdkValueConverter = this.jdkValueConverter;
 		if ( jdkValueConverter == null ) {
 			if ( !elementTypeDescriptor.getValueType().isAnnotation() ) {
 				// for arrays of anything other than nested annotations we can simply return the raw array
@@ -67,6 +69,7 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 			else {
 				jdkValueConverter = new JdkArrayValueConverter<>( elementTypeDescriptor );
 			}
+			this.jdkValueConverter = jdkValueConverter;
 		}
 
 		return jdkValueConverter;
@@ -74,6 +77,7 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 
 	@Override
 	public JdkValueExtractor<V[]> createJdkValueExtractor(ModelsContext modelContext) {
+		JdkValueExtractor<V[]> jdkValueExtractor = this.jdkValueExtractor;
 		if ( jdkValueExtractor == null ) {
 			if ( !elementTypeDescriptor.getValueType().isAnnotation() ) {
 				// for arrays of anything other than nested annotations we can simply return the raw array
@@ -82,6 +86,7 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 			else {
 				jdkValueExtractor = new JdkArrayValueExtractor<>( createJdkValueConverter( modelContext ) );
 			}
+			this.jdkValueExtractor = jdkValueExtractor;
 		}
 		return jdkValueExtractor;
 	}
@@ -107,7 +112,7 @@ public class ArrayTypeDescriptor<V> implements ValueTypeDescriptor<V[]> {
 		//noinspection unchecked
 		final V[] values = (V[]) attributeValue;
 
-		target.addLine( "%s = {", name );
+		target.addLine( name + " = {" );
 		target.indent( 2 );
 		for ( V value : values ) {
 			elementTypeDescriptor.render( value, target, renderer, modelContext );
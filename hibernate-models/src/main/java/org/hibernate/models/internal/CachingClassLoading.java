@@ -0,0 +1,357 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.spi.ClassLoading;
+
+/**
+ * ClassLoading which caches the outcome of lookups against one or more ClassLoaders.
+ * <ul>
+ *     <li>
+ *         Resolved classes are cached by name.  Both the ClassLoaders and the cached classes are
+ *         only weakly referenced, so this never pins a ClassLoader; once one is collected, lookups
+ *         simply skip it.
+ *     </li>
+ *     <li>
+ *         Names which could not be resolved are remembered in a bounded (least-recently-used)
+ *         cache so that repeated misses, e.g. when looking for a package-info, do not hit
+ *         the ClassLoaders and their exceptions again.
+ *     </li>
+ *     <li>
+ *         For {@linkplain URLClassLoader URL-based} ClassLoaders, the packages of their jars and
+ *         directories are indexed so that lookups go to the ClassLoader owning the package first.
+ *         All other ClassLoaders are still consulted, in order, if that fails.
+ *     </li>
+ * </ul>
+ * <p/>
+ * Lookups are counted; see {@linkplain #getStatistics()}.
+ */
+public class CachingClassLoading implements ClassLoading {
+	/**
+	 * The default number of missing names to remember
+	 */
+	public static final int DEFAULT_MISSING_NAMES_SIZE = 1024;
+
+	private final List<WeakReference<ClassLoader>> classLoaders;
+	private final Map<String, List<WeakReference<ClassLoader>>> classLoadersByPackage;
+
+	private final Map<String, WeakReference<Class<?>>> classCache = new ConcurrentHashMap<>();
+	private final Map<String, URL> resourceCache = new ConcurrentHashMap<>();
+	private final MissingNames missingClassNames;
+	private final MissingNames missingResourceNames;
+
+	private final LongAdder classLookups = new LongAdder();
+	private final LongAdder classCacheHits = new LongAdder();
+	private final LongAdder missingClassHits = new LongAdder();
+	private final LongAdder resourceLookups = new LongAdder();
+	private final LongAdder resourceCacheHits = new LongAdder();
+	private final LongAdder classLoaderCalls = new LongAdder();
+
+	public CachingClassLoading() {
+		this( CachingClassLoading.class.getClassLoader() );
+	}
+
+	public CachingClassLoading(ClassLoader... classLoaders) {
+		this( List.of( classLoaders ), DEFAULT_MISSING_NAMES_SIZE );
+	}
+
+	public CachingClassLoading(List<ClassLoader> classLoaders, int missingNamesSize) {
+		if ( classLoaders.isEmpty() ) {
+			throw new IllegalArgumentException( "At least one ClassLoader is required" );
+		}
+		final List<WeakReference<ClassLoader>> references = new ArrayList<>( classLoaders.size() );
+		for ( ClassLoader classLoader : classLoaders ) {
+			references.add( new WeakReference<>( classLoader ) );
+		}
+		this.classLoaders = List.copyOf( references );
+		this.classLoadersByPackage = indexPackages( this.classLoaders );
+		this.missingClassNames = new MissingNames( missingNamesSize );
+		this.missingResourceNames = new MissingNames( missingNamesSize );
+	}
+
+	@Override
+	public <T> Class<T> classForName(String name) {
+		final Class<T> found = findClassForName( name );
+		if ( found == null ) {
+			throw new UnknownClassException( "Unable to locate class - " + name );
+		}
+		return found;
+	}
+
+	@Override
+	public <T> Class<T> findClassForName(String name) {
+		classLookups.increment();
+
+		final WeakReference<Class<?>> cachedReference = classCache.get( name );
+		if ( cachedReference != null ) {
+			final Class<?> cached = cachedReference.get();
+			if ( cached != null ) {
+				classCacheHits.increment();
+				//noinspection unchecked
+				return (Class<T>) cached;
+			}
+		}
+
+		if ( missingClassNames.contains( name ) ) {
+			missingClassHits.increment();
+			return null;
+		}
+
+		for ( WeakReference<ClassLoader> reference : classLoadersFor( packageName( name, '.' ) ) ) {
+			final ClassLoader classLoader = reference.get();
+			if ( classLoader == null ) {
+				continue;
+			}
+			classLoaderCalls.increment();
+			try {
+				final Class<?> loaded = classLoader.loadClass( name );
+				classCache.put( name, new WeakReference<>( loaded ) );
+				//noinspection unchecked
+				return (Class<T>) loaded;
+			}
+			catch (ClassNotFoundException ignore) {
+			}
+		}
+
+		missingClassNames.add( name );
+		return null;
+	}
+
+	@Override
+	public URL locateResource(String resourceName) {
+		resourceLookups.increment();
+
+		final URL cached = resourceCache.get( resourceName );
+		if ( cached != null ) {
+			resourceCacheHits.increment();
+			return cached;
+		}
+
+		if ( missingResourceNames.contains( resourceName ) ) {
+			resourceCacheHits.increment();
+			return null;
+		}
+
+		final String normalizedName = resourceName.startsWith( "/" ) ? resourceName.substring( 1 ) : resourceName;
+		for ( WeakReference<ClassLoader> reference : classLoadersFor( packageName( normalizedName, '/' ).replace( '/', '.' ) ) ) {
+			final ClassLoader classLoader = reference.get();
+			if ( classLoader == null ) {
+				continue;
+			}
+			classLoaderCalls.increment();
+			final URL resource = classLoader.getResource( normalizedName );
+			if ( resource != null ) {
+				resourceCache.put( resourceName, resource );
+				return resource;
+			}
+		}
+
+		missingResourceNames.add( resourceName );
+		return null;
+	}
+
+	@Override
+	public <S> Collection<S> loadJavaServices(Class<S> serviceType) {
+		final Set<S> services = new LinkedHashSet<>();
+		final Set<Class<?>> serviceImplementations = new HashSet<>();
+		for ( WeakReference<ClassLoader> reference : classLoaders ) {
+			final ClassLoader classLoader = reference.get();
+			if ( classLoader == null ) {
+				continue;
+			}
+			for ( S service : ServiceLoader.load( serviceType, classLoader ) ) {
+				// the same implementation is often visible through multiple ClassLoaders
+				if ( serviceImplementations.add( service.getClass() ) ) {
+					services.add( service );
+				}
+			}
+		}
+		return services;
+	}
+
+	/**
+	 * Snapshot of the lookup counters
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(
+				classLookups.sum(),
+				classCacheHits.sum(),
+				missingClassHits.sum(),
+				resourceLookups.sum(),
+				resourceCacheHits.sum(),
+				classLoaderCalls.sum()
+		);
+	}
+
+	/**
+	 * Lookup counters for a {@linkplain CachingClassLoading}
+	 *
+	 * @param classLookups The number of class lookups
+	 * @param classCacheHits The number of class lookups answered from the cache of resolved classes
+	 * @param missingClassHits The number of class lookups answered from the cache of missing names
+	 * @param resourceLookups The number of resource lookups
+	 * @param resourceCacheHits The number of resource lookups answered from cache, whether found or missing
+	 * @param classLoaderCalls The number of calls made to the underlying ClassLoaders
+	 */
+	public record Statistics(
+			long classLookups,
+			long classCacheHits,
+			long missingClassHits,
+			long resourceLookups,
+			long resourceCacheHits,
+			long classLoaderCalls) {
+	}
+
+	private List<WeakReference<ClassLoader>> classLoadersFor(String packageName) {
+		if ( classLoaders.size() == 1 ) {
+			return classLoaders;
+		}
+
+		final List<WeakReference<ClassLoader>> owners = classLoadersByPackage.get( packageName );
+		if ( owners == null ) {
+			return classLoaders;
+		}
+		return owners;
+	}
+
+	private static String packageName(String name, char separator) {
+		final int lastSeparator = name.lastIndexOf( separator );
+		return lastSeparator < 0 ? "" : name.substring( 0, lastSeparator );
+	}
+
+	/**
+	 * Index the packages of the jars and directories of all URL-based ClassLoaders.  The
+	 * resulting lists contain the owning ClassLoaders first, followed by all others.
+	 */
+	private static Map<String, List<WeakReference<ClassLoader>>> indexPackages(List<WeakReference<ClassLoader>> classLoaders) {
+		if ( classLoaders.size() == 1 ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Set<WeakReference<ClassLoader>>> ownersByPackage = new HashMap<>();
+		for ( WeakReference<ClassLoader> reference : classLoaders ) {
+			if ( reference.get() instanceof URLClassLoader urlClassLoader ) {
+				for ( URL url : urlClassLoader.getURLs() ) {
+					final File file = toFile( url );
+					if ( file == null ) {
+						continue;
+					}
+					final Set<String> packageNames = new LinkedHashSet<>();
+					if ( file.isDirectory() ) {
+						collectDirectoryPackages( file, "", packageNames );
+					}
+					else if ( file.isFile() ) {
+						collectJarPackages( file, packageNames );
+					}
+					for ( String packageName : packageNames ) {
+						ownersByPackage.computeIfAbsent( packageName, (name) -> new LinkedHashSet<>() ).add( reference );
+					}
+				}
+			}
+		}
+
+		final Map<String, List<WeakReference<ClassLoader>>> classLoadersByPackage = new HashMap<>( ownersByPackage.size() );
+		ownersByPackage.forEach( (packageName, owners) -> {
+			final Set<WeakReference<ClassLoader>> ordered = new LinkedHashSet<>( owners );
+			ordered.addAll( classLoaders );
+			classLoadersByPackage.put( packageName, List.copyOf( ordered ) );
+		} );
+		return classLoadersByPackage;
+	}
+
+	private static File toFile(URL url) {
+		if ( !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			return new File( url.toURI() );
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void collectDirectoryPackages(File directory, String packageName, Set<String> packageNames) {
+		final File[] children = directory.listFiles();
+		if ( children == null ) {
+			return;
+		}
+		for ( File child : children ) {
+			if ( child.isDirectory() ) {
+				collectDirectoryPackages(
+						child,
+						packageName.isEmpty() ? child.getName() : packageName + "." + child.getName(),
+						packageNames
+				);
+			}
+			else {
+				packageNames.add( packageName );
+			}
+		}
+	}
+
+	private static void collectJarPackages(File file, Set<String> packageNames) {
+		try ( JarFile jarFile = new JarFile( file ) ) {
+			final Enumeration<JarEntry> entries = jarFile.entries();
+			while ( entries.hasMoreElements() ) {
+				final JarEntry entry = entries.nextElement();
+				if ( !entry.isDirectory() ) {
+					packageNames.add( packageName( entry.getName(), '/' ).replace( '/', '.' ) );
+				}
+			}
+		}
+		catch (IOException ignore) {
+			// not a jar, or not readable - the ClassLoader is simply not indexed for it
+		}
+	}
+
+	/**
+	 * Bounded, least-recently-used set of names
+	 */
+	private static class MissingNames {
+		private final Map<String, Boolean> names;
+
+		private MissingNames(int maxSize) {
+			this.names = Collections.synchronizedMap( new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+					return size() > maxSize;
+				}
+			} );
+		}
+
+		private boolean contains(String name) {
+			return names.get( name ) != null;
+		}
+
+		private void add(String name) {
+			names.put( name, Boolean.TRUE );
+		}
+	}
+}
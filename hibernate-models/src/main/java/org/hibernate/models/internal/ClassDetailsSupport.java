@@ -5,11 +5,14 @@
 package org.hibernate.models.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.internal.util.IndexedConsumer;
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.ModelsContext;
@@ -58,20 +61,75 @@ public interface ClassDetailsSupport extends MutableClassDetails, AnnotationTarg
 		}
 	}
 
+	/**
+	 * The {@linkplain SupertypeClosure supertype closure} of this class.
+	 *
+	 * @implNote Implementations are expected to cache the closure.  The default
+	 * implementation builds a new closure on each call.
+	 */
+	default SupertypeClosure getSupertypeClosure() {
+		return SupertypeClosure.from( this );
+	}
+
+	/**
+	 * Cache for the {@linkplain #getEffectiveAnnotationUsages effective usages} of this class,
+	 * or {@code null} if the implementation does not cache them.
+	 */
+	default EffectiveUsageCache getEffectiveUsageCache() {
+		return null;
+	}
+
 	@Override
-	default <A extends Annotation> A getAnnotationUsage(
-			AnnotationDescriptor<A> descriptor,
-			ModelsContext modelContext) {
-		final A localUsage = AnnotationUsageHelper.getUsage( descriptor, getUsageMap(),modelContext );
-		if ( localUsage != null ) {
-			return localUsage;
+	default void annotationUsagesChanged() {
+		final EffectiveUsageCache effectiveUsageCache = getEffectiveUsageCache();
+		if ( effectiveUsageCache != null ) {
+			effectiveUsageCache.invalidate();
+		}
+	}
+
+	/**
+	 * Callback for whenever the usages on one of the members of this class are changed.
+	 */
+	default void memberUsagesChanged() {
+		final EffectiveUsageCache effectiveUsageCache = getEffectiveUsageCache();
+		if ( effectiveUsageCache != null ) {
+			effectiveUsageCache.countModification();
 		}
+	}
 
-		if ( descriptor.isInherited() && getSuperClass() != null ) {
-			return getSuperClass().getAnnotationUsage( descriptor, modelContext );
+	/**
+	 * The {@linkplain #getEffectiveAnnotationUsages effective usages} of this class, keyed by annotation type.
+	 */
+	default Map<Class<? extends Annotation>, ? extends Annotation> getEffectiveUsageMap(ModelsContext modelContext) {
+		final EffectiveUsageCache effectiveUsageCache = getEffectiveUsageCache();
+		if ( effectiveUsageCache != null ) {
+			return effectiveUsageCache.getUsageMap( modelContext );
 		}
 
-		return null;
+		final ClassDetails superClass = getSuperClass();
+		if ( superClass == null ) {
+			return getUsageMap();
+		}
+		return EffectiveUsageCache.merge(
+				getUsageMap(),
+				superClass.getEffectiveAnnotationUsages( modelContext ),
+				modelContext
+		);
+	}
+
+	@Override
+	default Collection<? extends Annotation> getEffectiveAnnotationUsages(ModelsContext modelContext) {
+		return getEffectiveUsageMap( modelContext ).values();
+	}
+
+	@Override
+	default <A extends Annotation> A getAnnotationUsage(
+			AnnotationDescriptor<A> descriptor,
+			ModelsContext modelContext) {
+		if ( !descriptor.isInherited() ) {
+			return AnnotationUsageHelper.getUsage( descriptor, getUsageMap(), modelContext );
+		}
+		return AnnotationUsageHelper.getUsage( descriptor, getEffectiveUsageMap( modelContext ), modelContext );
 	}
 
 	@Override
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ClassQuery;
+import org.hibernate.models.spi.MemberQuery;
+import org.hibernate.models.spi.ModelsContext;
+
+/**
+ * Standard {@linkplain ClassQuery} implementation.
+ */
+public class ClassQueryImpl implements ClassQuery {
+	private final ModelsContext modelsContext;
+	private final List<Class<? extends Annotation>> annotationTypes;
+	private final List<String> supertypeNames;
+	private final boolean concreteOnly;
+	private final List<Predicate<ClassDetails>> filters;
+	private final boolean parallel;
+
+	public ClassQueryImpl(ModelsContext modelsContext) {
+		this( modelsContext, List.of(), List.of(), false, List.of(), false );
+	}
+
+	private ClassQueryImpl(
+			ModelsContext modelsContext,
+			List<Class<? extends Annotation>> annotationTypes,
+			List<String> supertypeNames,
+			boolean concreteOnly,
+			List<Predicate<ClassDetails>> filters,
+			boolean parallel) {
+		this.modelsContext = modelsContext;
+		this.annotationTypes = annotationTypes;
+		this.supertypeNames = supertypeNames;
+		this.concreteOnly = concreteOnly;
+		this.filters = filters;
+		this.parallel = parallel;
+	}
+
+	public ModelsContext getModelsContext() {
+		return modelsContext;
+	}
+
+	@Override
+	public ClassQuery annotatedWith(Class<? extends Annotation> annotationType) {
+		return new ClassQueryImpl(
+				modelsContext,
+				appended( annotationTypes, annotationType ),
+				supertypeNames,
+				concreteOnly,
+				filters,
+				parallel
+		);
+	}
+
+	@Override
+	public ClassQuery subtypesOf(String typeName) {
+		return new ClassQueryImpl(
+				modelsContext,
+				annotationTypes,
+				appended( supertypeNames, typeName ),
+				concreteOnly,
+				filters,
+				parallel
+		);
+	}
+
+	@Override
+	public ClassQuery concrete() {
+		return new ClassQueryImpl( modelsContext, annotationTypes, supertypeNames, true, filters, parallel );
+	}
+
+	@Override
+	public ClassQuery filter(Predicate<ClassDetails> predicate) {
+		return new ClassQueryImpl(
+				modelsContext,
+				annotationTypes,
+				supertypeNames,
+				concreteOnly,
+				appended( filters, predicate ),
+				parallel
+		);
+	}
+
+	@Override
+	public ClassQuery parallel() {
+		return new ClassQueryImpl( modelsContext, annotationTypes, supertypeNames, concreteOnly, filters, true );
+	}
+
+	@Override
+	public MemberQuery members() {
+		return new MemberQueryImpl( this );
+	}
+
+	@Override
+	public Stream<ClassDetails> stream() {
+		final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+		if ( supertypeNames.isEmpty() ) {
+			return StreamSupport.stream( registry.classDetailsSpliterator(), parallel ).filter( this::matches );
+		}
+
+		// the hierarchy index narrows the candidates to one hierarchy; any other
+		// supertype restriction is checked against the candidates' supertype closures
+		final String base = supertypeNames.get( 0 );
+		if ( parallel ) {
+			// splitting the work needs all the candidates up front
+			return registry.collectImplementors( base, true, null ).parallelStream().filter( this::matches );
+		}
+
+		// the walk feeds the candidates straight into the stream rather than into an intermediate
+		// set.  A type reached through more than one interface is visited more than once, though
+		return Stream.of( base )
+				.<ClassDetails>mapMulti( (name, candidates) -> registry.walkImplementors( name, true, candidates::accept ) )
+				.distinct()
+				.filter( this::matches );
+	}
+
+	private boolean matches(ClassDetails classDetails) {
+		if ( concreteOnly && ( classDetails.isAbstract() || classDetails.isInterface() ) ) {
+			return false;
+		}
+
+		for ( int i = 1; i < supertypeNames.size(); i++ ) {
+			// the closure includes the class itself
+			if ( !SupertypeClosure.of( classDetails ).contains( supertypeNames.get( i ) ) ) {
+				return false;
+			}
+		}
+
+		for ( int i = 0; i < annotationTypes.size(); i++ ) {
+			if ( !classDetails.hasAnnotationUsage( annotationTypes.get( i ), modelsContext ) ) {
+				return false;
+			}
+		}
+
+		for ( int i = 0; i < filters.size(); i++ ) {
+			if ( !filters.get( i ).test( classDetails ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	static <T> List<T> appended(List<T> list, T element) {
+		final List<T> result = new ArrayList<>( list.size() + 1 );
+		result.addAll( list );
+		result.add( element );
+		return List.copyOf( result );
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.internal.util.LazyReference;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.PersistableMembers;
+
+/**
+ * The state a {@linkplain ClassDetails} derives from its members.
+ * <p/>
+ * Owners hold a single (volatile) reference to an instance and replace it as a whole with a
+ * {@linkplain #cleared() cleared} one when a member is added, so readers either see all of the
+ * previous state or none of it.
+ */
+public final class DerivedMemberState {
+	// the counters of the owning context, null if it does not have any
+	private final AtomicInteger memberModifications;
+	private final AtomicInteger usageModifications;
+
+	private final LazyReference<PersistableMembers> persistableMembers = new LazyReference<>();
+	private final LazyReference<ResolvedHierarchyImpl> resolvedHierarchy = new LazyReference<>();
+	private volatile StampedFingerprint fingerprint;
+
+	public DerivedMemberState(ModelsContext modelsContext) {
+		if ( modelsContext instanceof AbstractModelsContext abstractContext ) {
+			this.memberModifications = abstractContext.getMemberModifications();
+			this.usageModifications = abstractContext.getUsageModifications();
+		}
+		else {
+			this.memberModifications = null;
+			this.usageModifications = null;
+		}
+	}
+
+	private DerivedMemberState(AtomicInteger memberModifications, AtomicInteger usageModifications) {
+		this.memberModifications = memberModifications;
+		this.usageModifications = usageModifications;
+	}
+
+	/**
+	 * The (empty) state replacing this one after the owner's members changed.
+	 */
+	public DerivedMemberState cleared() {
+		return new DerivedMemberState( memberModifications, usageModifications );
+	}
+
+	/**
+	 * Announce the change to the other classes of the context.  Must only be called once this
+	 * state is visible through the owner, so that a hierarchy validated afterwards is sure to see it.
+	 */
+	public void announceChange() {
+		if ( memberModifications != null ) {
+			memberModifications.incrementAndGet();
+		}
+	}
+
+	public PersistableMembers getPersistableMembers(ClassDetails owner) {
+		return persistableMembers.get( owner, PersistableMembersImpl::from );
+	}
+
+	public ResolvedHierarchyImpl getResolvedHierarchy(ClassDetails owner) {
+		final ResolvedHierarchyImpl current = resolvedHierarchy.peek();
+		if ( current != null && current.isCurrent() ) {
+			return current;
+		}
+		// replace a stale one only if no other thread already did
+		return resolvedHierarchy.publish( current, ResolvedHierarchyImpl.from( owner, memberModifications ) );
+	}
+
+	/**
+	 * The owner's {@linkplain ClassDetails#getFingerprint fingerprint}, memoized for the owning context
+	 * until usages change anywhere in it.  Fingerprints requested for another context are not memoized.
+	 */
+	public ModelFingerprint getFingerprint(ClassDetails owner, ModelsContext modelsContext) {
+		if ( usageModifications == null
+				|| !( modelsContext instanceof AbstractModelsContext abstractContext )
+				|| abstractContext.getUsageModifications() != usageModifications ) {
+			return StructuralFingerprinting.fingerprint( owner, modelsContext );
+		}
+
+		// read before fingerprinting, so that changes made meanwhile are seen next time
+		final int stamp = usageModifications.get();
+		final StampedFingerprint current = fingerprint;
+		if ( current != null && current.stamp() == stamp ) {
+			return current.fingerprint();
+		}
+		final ModelFingerprint computed = StructuralFingerprinting.fingerprint( owner, modelsContext );
+		fingerprint = new StampedFingerprint( stamp, computed );
+		return computed;
+	}
+
+	private record StampedFingerprint(int stamp, ModelFingerprint fingerprint) {
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+/**
+ * Per-class cache of the {@linkplain ClassDetails#getEffectiveAnnotationUsages effective}
+ * annotation usages - the usages directly on the class merged with the
+ * {@linkplain Inherited inherited} usages of its super classes.
+ * <p/>
+ * The merged map is built lazily and kept as an immutable snapshot.  A snapshot remains
+ * valid as long as the usages of the owning class are unchanged (see {@linkplain #invalidate()})
+ * and the super class still reports the same snapshot it was built from, which lets changes
+ * anywhere in the hierarchy be picked up.
+ * <p/>
+ * Checking the super classes still means walking the hierarchy, so a snapshot also records the
+ * {@linkplain AbstractModelsContext#getUsageModifications() modification count} of the owning context
+ * it was last checked against - as long as no usages changed anywhere in that context since, it is
+ * returned as-is and a lookup is a single map access.  Super classes are expected to belong to the
+ * same context; without a context counter every lookup checks the hierarchy.
+ */
+public class EffectiveUsageCache {
+	// the check-stamp of snapshots without a modification counter to check against
+	private static final int UNTRACKED = -1;
+
+	private final ClassDetailsSupport owner;
+	// shared by all caches of the owning context, may be null
+	private final AtomicInteger modifications;
+
+	private final AtomicInteger version = new AtomicInteger();
+	private volatile Snapshot snapshot;
+
+	public EffectiveUsageCache(ClassDetailsSupport owner, ModelsContext modelsContext) {
+		this.owner = owner;
+		this.modifications = modelsContext instanceof AbstractModelsContext abstractContext
+				? abstractContext.getUsageModifications()
+				: null;
+	}
+
+	/**
+	 * Signals that the usages directly on the owning class have changed.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+		snapshot = null;
+		if ( modifications != null ) {
+			modifications.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Signals that usages within the owning class changed without affecting its effective usages -
+	 * those of a member, e.g.  Only counted, for the sake of other state derived from usages.
+	 */
+	public void countModification() {
+		if ( modifications != null ) {
+			modifications.incrementAndGet();
+		}
+	}
+
+	/**
+	 * The effective usages, keyed by annotation type.
+	 */
+	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap(ModelsContext modelContext) {
+		return resolveSnapshot( modelContext ).usages;
+	}
+
+	private Snapshot resolveSnapshot(ModelsContext modelContext) {
+		// read before checking the hierarchy, so that changes made while checking are seen next time
+		final int modifications = this.modifications == null ? UNTRACKED : this.modifications.get();
+		final Snapshot current = snapshot;
+		if ( current != null && modifications != UNTRACKED && current.checkedAt == modifications ) {
+			return current;
+		}
+
+		final ClassDetails superClass = owner.getSuperClass();
+		final Snapshot superSnapshot = resolveSuperSnapshot( superClass, modelContext );
+
+		final int buildVersion = version.get();
+		if ( current != null && current.version == buildVersion && current.superSnapshot == superSnapshot ) {
+			current.checkedAt = modifications;
+			return current;
+		}
+
+		final Collection<? extends Annotation> inheritable;
+		if ( superSnapshot != null ) {
+			inheritable = superSnapshot.usages.values();
+		}
+		else if ( superClass != null ) {
+			inheritable = superClass.getEffectiveAnnotationUsages( modelContext );
+		}
+		else {
+			inheritable = Collections.emptyList();
+		}
+
+		final Snapshot built = new Snapshot(
+				buildVersion,
+				superSnapshot,
+				merge( owner.getUsageMap(), inheritable, modelContext ),
+				modifications
+		);
+		snapshot = built;
+		return built;
+	}
+
+	private static Snapshot resolveSuperSnapshot(ClassDetails superClass, ModelsContext modelContext) {
+		if ( superClass instanceof ClassDetailsSupport superSupport ) {
+			final EffectiveUsageCache superCache = superSupport.getEffectiveUsageCache();
+			if ( superCache != null ) {
+				return superCache.resolveSnapshot( modelContext );
+			}
+		}
+		// the super class does not track changes - consider its usages fixed
+		return null;
+	}
+
+	/**
+	 * Merge the {@code local} usages with the inheritable usages of the super class.
+	 */
+	public static Map<Class<? extends Annotation>, ? extends Annotation> merge(
+			Map<Class<? extends Annotation>, ? extends Annotation> local,
+			Collection<? extends Annotation> superUsages,
+			ModelsContext modelContext) {
+		if ( superUsages.isEmpty() ) {
+			return Collections.unmodifiableMap( new HashMap<>( local ) );
+		}
+
+		final AnnotationDescriptorRegistry descriptorRegistry = modelContext.getAnnotationDescriptorRegistry();
+		final Map<Class<? extends Annotation>, Annotation> result = new HashMap<>( local );
+		for ( Annotation superUsage : superUsages ) {
+			final Class<? extends Annotation> annotationType = superUsage.annotationType();
+			if ( local.containsKey( annotationType ) ) {
+				// the local usage hides the inherited one
+				continue;
+			}
+
+			final AnnotationDescriptor<? extends Annotation> descriptor = descriptorRegistry.getDescriptor( annotationType );
+			if ( !descriptor.isInherited() ) {
+				continue;
+			}
+
+			final AnnotationDescriptor<?> container = descriptor.getRepeatableContainer();
+			if ( container != null && local.containsKey( container.getAnnotationType() ) ) {
+				// a local container of the repeatable also hides the inherited usage
+				continue;
+			}
+
+			result.put( annotationType, superUsage );
+		}
+		return Collections.unmodifiableMap( result );
+	}
+
+	private static class Snapshot {
+		private final int version;
+		private final Snapshot superSnapshot;
+		private final Map<Class<? extends Annotation>, ? extends Annotation> usages;
+		private volatile int checkedAt;
+
+		private Snapshot(
+				int version,
+				Snapshot superSnapshot,
+				Map<Class<? extends Annotation>, ? extends Annotation> usages,
+				int checkedAt) {
+			this.version = version;
+			this.superSnapshot = superSnapshot;
+			this.usages = usages;
+			this.checkedAt = checkedAt;
+		}
+	}
+}
@@ -31,12 +31,12 @@ public class FloatTypeDescriptor extends AbstractTypeDescriptor<Float> {
 			String name, Object attributeValue, RenderingTarget target,
 			Renderer renderer,
 			ModelsContext modelContext) {
-		target.addLine( "%s = %sF", name, attributeValue );
+		target.addLine( name + " = " + attributeValue + "F" );
 	}
 
 	@Override
 	public void render(Object attributeValue, RenderingTarget target, Renderer renderer, ModelsContext modelContext) {
-		target.addLine( "%sF", attributeValue );
+		target.addLine( attributeValue + "F" );
 	}
 
 	@Override
@@ -31,12 +31,12 @@ public class LongTypeDescriptor extends AbstractTypeDescriptor<Long> {
 			String name, Object attributeValue, RenderingTarget target,
 			Renderer renderer,
 			ModelsContext modelContext) {
-		target.addLine( "%s = %sL", name, attributeValue );
+		target.addLine( name + " = " + attributeValue + "L" );
 	}
 
 	@Override
 	public void render(Object attributeValue, RenderingTarget target, Renderer renderer, ModelsContext modelContext) {
-		target.addLine( "%sL", attributeValue );
+		target.addLine( attributeValue + "L" );
 	}
 
 	@Override
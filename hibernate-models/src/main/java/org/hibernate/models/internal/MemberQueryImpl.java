@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MemberQuery;
+import org.hibernate.models.spi.PersistableMembers;
+
+import static org.hibernate.models.internal.ClassQueryImpl.appended;
+
+/**
+ * Standard {@linkplain MemberQuery} implementation.
+ */
+public class MemberQueryImpl implements MemberQuery {
+	private final ClassQueryImpl classQuery;
+	// empty means all kinds
+	private final Set<AnnotationTarget.Kind> kinds;
+	private final boolean persistableOnly;
+	private final List<String> attributeNames;
+	private final List<Class<? extends Annotation>> annotationTypes;
+	private final List<Predicate<MemberDetails>> filters;
+
+	public MemberQueryImpl(ClassQueryImpl classQuery) {
+		this( classQuery, EnumSet.noneOf( AnnotationTarget.Kind.class ), false, List.of(), List.of(), List.of() );
+	}
+
+	private MemberQueryImpl(
+			ClassQueryImpl classQuery,
+			Set<AnnotationTarget.Kind> kinds,
+			boolean persistableOnly,
+			List<String> attributeNames,
+			List<Class<? extends Annotation>> annotationTypes,
+			List<Predicate<MemberDetails>> filters) {
+		this.classQuery = classQuery;
+		this.kinds = kinds;
+		this.persistableOnly = persistableOnly;
+		this.attributeNames = attributeNames;
+		this.annotationTypes = annotationTypes;
+		this.filters = filters;
+	}
+
+	@Override
+	public MemberQuery fields() {
+		return withKind( AnnotationTarget.Kind.FIELD );
+	}
+
+	@Override
+	public MemberQuery methods() {
+		return withKind( AnnotationTarget.Kind.METHOD );
+	}
+
+	@Override
+	public MemberQuery recordComponents() {
+		return withKind( AnnotationTarget.Kind.RECORD_COMPONENT );
+	}
+
+	private MemberQuery withKind(AnnotationTarget.Kind kind) {
+		final EnumSet<AnnotationTarget.Kind> kinds = EnumSet.of( kind );
+		kinds.addAll( this.kinds );
+		return new MemberQueryImpl( classQuery, kinds, persistableOnly, attributeNames, annotationTypes, filters );
+	}
+
+	@Override
+	public MemberQuery persistable() {
+		return new MemberQueryImpl( classQuery, kinds, true, attributeNames, annotationTypes, filters );
+	}
+
+	@Override
+	public MemberQuery attributeNamed(String attributeName) {
+		return new MemberQueryImpl(
+				classQuery,
+				kinds,
+				true,
+				appended( attributeNames, attributeName ),
+				annotationTypes,
+				filters
+		);
+	}
+
+	@Override
+	public MemberQuery annotatedWith(Class<? extends Annotation> annotationType) {
+		return new MemberQueryImpl(
+				classQuery,
+				kinds,
+				persistableOnly,
+				attributeNames,
+				appended( annotationTypes, annotationType ),
+				filters
+		);
+	}
+
+	@Override
+	public MemberQuery filter(Predicate<MemberDetails> predicate) {
+		return new MemberQueryImpl(
+				classQuery,
+				kinds,
+				persistableOnly,
+				attributeNames,
+				annotationTypes,
+				appended( filters, predicate )
+		);
+	}
+
+	@Override
+	public MemberQuery parallel() {
+		return new MemberQueryImpl(
+				(ClassQueryImpl) classQuery.parallel(),
+				kinds,
+				persistableOnly,
+				attributeNames,
+				annotationTypes,
+				filters
+		);
+	}
+
+	@Override
+	public Stream<MemberDetails> stream() {
+		return classQuery.stream().flatMap( (classDetails) -> candidates( classDetails ).stream() ).filter( this::matches );
+	}
+
+	private List<MemberDetails> candidates(ClassDetails classDetails) {
+		final List<MemberDetails> candidates = new ArrayList<>();
+		if ( !persistableOnly ) {
+			if ( includes( AnnotationTarget.Kind.FIELD ) ) {
+				candidates.addAll( classDetails.getFields() );
+			}
+			if ( includes( AnnotationTarget.Kind.METHOD ) ) {
+				candidates.addAll( classDetails.getMethods() );
+			}
+			if ( includes( AnnotationTarget.Kind.RECORD_COMPONENT ) ) {
+				candidates.addAll( classDetails.getRecordComponents() );
+			}
+			return candidates;
+		}
+
+		final PersistableMembers persistableMembers = classDetails.getPersistableMembers();
+		if ( attributeNames.isEmpty() ) {
+			if ( includes( AnnotationTarget.Kind.FIELD ) ) {
+				candidates.addAll( persistableMembers.getFields() );
+			}
+			if ( includes( AnnotationTarget.Kind.METHOD ) ) {
+				candidates.addAll( persistableMembers.getGetters() );
+			}
+			if ( includes( AnnotationTarget.Kind.RECORD_COMPONENT ) ) {
+				candidates.addAll( persistableMembers.getRecordComponents() );
+			}
+			return candidates;
+		}
+
+		// look the members up by attribute name, rather than walking them all
+		final String attributeName = attributeNames.get( 0 );
+		if ( includes( AnnotationTarget.Kind.FIELD ) ) {
+			addIfFound( persistableMembers.findField( attributeName ), candidates );
+		}
+		if ( includes( AnnotationTarget.Kind.METHOD ) ) {
+			addIfFound( persistableMembers.findGetter( attributeName ), candidates );
+		}
+		if ( includes( AnnotationTarget.Kind.RECORD_COMPONENT ) ) {
+			addIfFound( persistableMembers.findRecordComponent( attributeName ), candidates );
+		}
+		return candidates;
+	}
+
+	private boolean includes(AnnotationTarget.Kind kind) {
+		return kinds.isEmpty() || kinds.contains( kind );
+	}
+
+	private static void addIfFound(MemberDetails member, List<MemberDetails> candidates) {
+		if ( member != null ) {
+			candidates.add( member );
+		}
+	}
+
+	private boolean matches(MemberDetails member) {
+		for ( int i = 1; i < attributeNames.size(); i++ ) {
+			if ( !attributeNames.get( i ).equals( member.resolveAttributeName() ) ) {
+				return false;
+			}
+		}
+
+		for ( int i = 0; i < annotationTypes.size(); i++ ) {
+			if ( !member.hasAnnotationUsage( annotationTypes.get( i ), classQuery.getModelsContext() ) ) {
+				return false;
+			}
+		}
+
+		for ( int i = 0; i < filters.size(); i++ ) {
+			if ( !filters.get( i ).test( member ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
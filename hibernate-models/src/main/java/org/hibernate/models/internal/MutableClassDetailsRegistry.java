@@ -4,6 +4,8 @@
  */
 package org.hibernate.models.internal;
 
+import java.util.Map;
+
 import org.hibernate.models.UnknownClassException;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
@@ -23,6 +25,13 @@ public interface MutableClassDetailsRegistry extends ClassDetailsRegistry {
 	 */
 	void addClassDetails(String name, ClassDetails classDetails);
 
+	/**
+	 * Adds all the given managed-class descriptors, keyed by registration name
+	 */
+	default void addClassDetails(Map<String, ? extends ClassDetails> classDetailsByName) {
+		classDetailsByName.forEach( this::addClassDetails );
+	}
+
 	/**
 	 * Resolve (find or create) ClassDetails by name.  If there is currently no
 	 * such registration, one is created using the specified {@code creator}.
@@ -10,7 +10,6 @@ import java.util.Locale;
 
 import org.hibernate.models.internal.jdk.JdkNestedValueConverter;
 import org.hibernate.models.internal.jdk.JdkNestedValueExtractor;
-import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.JdkValueConverter;
 import org.hibernate.models.spi.JdkValueExtractor;
 import org.hibernate.models.rendering.spi.Renderer;
@@ -25,13 +24,15 @@ import org.hibernate.models.spi.ModelsContext;
 public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDescriptor<A> {
 	private final Class<A> annotationType;
 
-	private AnnotationDescriptor<A> descriptor;
-
-	private JdkNestedValueConverter<A> jdkConverter;
-	private JdkNestedValueExtractor<A> jdkExtractor;
+	// the converter resolves the descriptor from the context it is given, so this
+	// type descriptor (and its attribute descriptors) can be shared across contexts
+	private final JdkNestedValueConverter<A> jdkConverter;
+	private final JdkNestedValueExtractor<A> jdkExtractor;
 
 	public NestedTypeDescriptor(Class<A> annotationType) {
 		this.annotationType = annotationType;
+		this.jdkConverter = new JdkNestedValueConverter<>( annotationType );
+		this.jdkExtractor = new JdkNestedValueExtractor<>( jdkConverter );
 	}
 
 	@Override
@@ -39,22 +40,12 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 		return annotationType;
 	}
 
-	private AnnotationDescriptor<A> resolveDescriptor(ModelsContext context) {
-		if ( descriptor == null ) {
-			descriptor = context.getAnnotationDescriptorRegistry().getDescriptor( annotationType );
-		}
-		return descriptor;
-	}
-
 	@Override
 	public JdkValueConverter<A> createJdkValueConverter(ModelsContext modelContext) {
 		return resolveJdkValueConverter( modelContext );
 	}
 
 	public JdkNestedValueConverter<A> resolveJdkValueConverter(ModelsContext modelContext) {
-		if ( jdkConverter == null ) {
-			jdkConverter = new JdkNestedValueConverter<>( resolveDescriptor( modelContext ) );
-		}
 		return jdkConverter;
 	}
 
@@ -64,9 +55,6 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 	}
 
 	public JdkValueExtractor<A> resolveJdkValueExtractor(ModelsContext modelContext) {
-		if ( jdkExtractor == null ) {
-			jdkExtractor = new JdkNestedValueExtractor<>( resolveJdkValueConverter( modelContext ) );
-		}
 		return jdkExtractor;
 	}
 
@@ -95,7 +83,7 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 	@Override
 	public A[] makeArray(int size, ModelsContext modelContext) {
 		//noinspection unchecked
-		return (A[]) Array.newInstance( resolveDescriptor( modelContext ).getAnnotationType(), size );
+		return (A[]) Array.newInstance( annotationType, size );
 	}
 
 	@Override
@@ -103,7 +91,7 @@ public class NestedTypeDescriptor<A extends Annotation> extends AbstractTypeDesc
 		return String.format(
 				Locale.ROOT,
 				"AttributeTypeDescriptor(%s)",
-				descriptor.getAnnotationType().getName()
+				annotationType.getName()
 		);
 	}
 }
@@ -10,8 +10,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationUsageCreator;
 import org.hibernate.models.spi.AttributeDescriptor;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.MutableAnnotationDescriptor;
@@ -30,9 +32,11 @@ public class OrmAnnotationDescriptor<A extends Annotation, C extends A>
 	private final Class<C> concreteClass;
 	private final List<AttributeDescriptor<?>> attributeDescriptors;
 
-	private DynamicCreator<A,C> dynamicCreator;
-	private JdkCreator<A,C> jdkCreator;
-	private DeTypedCreator<A,C> deTypedCreator;
+	// the creators only hold final state, so racing initializations are harmless
+	private volatile DynamicCreator<A,C> dynamicCreator;
+	private volatile JdkCreator<A,C> jdkCreator;
+	private volatile DeTypedCreator<A,C> deTypedCreator;
+	private final Map<Class<?>, SourceCreator<?,A,C>> sourceCreators = new ConcurrentHashMap<>();
 
 	public OrmAnnotationDescriptor(
 			Class<A> annotationType,
@@ -69,28 +73,51 @@ public class OrmAnnotationDescriptor<A extends Annotation, C extends A>
 
 	@Override
 	public C createUsage(ModelsContext context) {
+		DynamicCreator<A,C> dynamicCreator = this.dynamicCreator;
 		if ( dynamicCreator == null ) {
 			dynamicCreator = new DynamicCreator<>( getAnnotationType(), concreteClass );
+			this.dynamicCreator = dynamicCreator;
 		}
 		return dynamicCreator.createUsage( context );
 	}
 
 	@Override
 	public C createUsage(A jdkAnnotation, ModelsContext context) {
+		JdkCreator<A,C> jdkCreator = this.jdkCreator;
 		if ( jdkCreator == null ) {
 			jdkCreator = new JdkCreator<>( getAnnotationType(), concreteClass );
+			this.jdkCreator = jdkCreator;
 		}
 		return jdkCreator.createUsage( jdkAnnotation, context );
 	}
 
 	@Override
 	public A createUsage(Map<String,Object> attributeValues, ModelsContext context) {
+		DeTypedCreator<A,C> deTypedCreator = this.deTypedCreator;
 		if ( deTypedCreator == null ) {
 			deTypedCreator = new DeTypedCreator<>( getAnnotationType(), concreteClass );
+			this.deTypedCreator = deTypedCreator;
 		}
 		return deTypedCreator.createUsage( attributeValues, context );
 	}
 
+	/**
+	 * Supported when the {@linkplain #getMutableAnnotationType() concrete class} defines a
+	 * {@code (S, ModelsContext)} constructor.
+	 */
+	@Override
+	public <S> AnnotationUsageCreator<S, C> findUsageCreator(Class<S> sourceType) {
+		final SourceCreator<?,A,C> sourceCreator = sourceCreators.computeIfAbsent(
+				sourceType,
+				(type) -> new SourceCreator<>( type, concreteClass )
+		);
+		if ( sourceCreator.constructor == null ) {
+			return null;
+		}
+		//noinspection unchecked
+		return (SourceCreator<S,A,C>) sourceCreator;
+	}
+
 	@Override
 	public List<AttributeDescriptor<?>> getAttributes() {
 		return attributeDescriptors;
@@ -192,4 +219,41 @@ public class OrmAnnotationDescriptor<A extends Annotation, C extends A>
 			}
 		}
 	}
+
+	public static class SourceCreator<S, A extends Annotation, C extends A> implements AnnotationUsageCreator<S,C> {
+		// null when the concrete class does not support the source form
+		private final Constructor<C> constructor;
+
+		public SourceCreator(Class<S> sourceType, Class<C> concreteClass) {
+			this( resolveConstructor( sourceType, concreteClass ) );
+		}
+
+		private static <S, A extends Annotation, C extends A> Constructor<C> resolveConstructor(
+				Class<S> sourceType,
+				Class<C> concreteClass) {
+			try {
+				return concreteClass.getDeclaredConstructor( sourceType, ModelsContext.class );
+			}
+			catch (NoSuchMethodException | LinkageError e) {
+				// resolving the constructors links the parameter types of all of them, which fails
+				// when the source form of another backend is not on the classpath - either way the
+				// miss is remembered by the descriptor (as a creator without constructor)
+				return null;
+			}
+		}
+
+		public SourceCreator(Constructor<C> constructor) {
+			this.constructor = constructor;
+		}
+
+		@Override
+		public C createUsage(S source, ModelsContext context) {
+			try {
+				return constructor.newInstance( source, context );
+			}
+			catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+				throw new RuntimeException( e );
+			}
+		}
+	}
 }
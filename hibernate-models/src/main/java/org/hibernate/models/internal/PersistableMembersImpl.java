@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.RecordComponentDetails;
+
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
+
+/**
+ * Standard {@linkplain PersistableMembers} implementation.  Built once from the members
+ * of a class and never changed afterward; the owning {@linkplain ClassDetails} is expected
+ * to drop its reference whenever members are added.
+ */
+public class PersistableMembersImpl implements PersistableMembers {
+	/**
+	 * View with no persistable members
+	 */
+	public static final PersistableMembersImpl NO_MEMBERS = new PersistableMembersImpl(
+			new FieldDetails[0],
+			new String[0],
+			new MethodDetails[0],
+			new String[0],
+			new RecordComponentDetails[0],
+			new String[0]
+	);
+
+	private final FieldDetails[] fields;
+	private final String[] fieldAttributeNames;
+	private final MethodDetails[] getters;
+	private final String[] getterAttributeNames;
+	private final RecordComponentDetails[] recordComponents;
+	private final String[] recordComponentAttributeNames;
+
+	private final List<FieldDetails> fieldList;
+	private final List<MethodDetails> getterList;
+	private final List<RecordComponentDetails> recordComponentList;
+
+	private final Map<String, Slot> attributeIndex;
+
+	private PersistableMembersImpl(
+			FieldDetails[] fields,
+			String[] fieldAttributeNames,
+			MethodDetails[] getters,
+			String[] getterAttributeNames,
+			RecordComponentDetails[] recordComponents,
+			String[] recordComponentAttributeNames) {
+		this.fields = fields;
+		this.fieldAttributeNames = fieldAttributeNames;
+		this.getters = getters;
+		this.getterAttributeNames = getterAttributeNames;
+		this.recordComponents = recordComponents;
+		this.recordComponentAttributeNames = recordComponentAttributeNames;
+
+		this.fieldList = List.of( fields );
+		this.getterList = List.of( getters );
+		this.recordComponentList = List.of( recordComponents );
+
+		this.attributeIndex = buildAttributeIndex();
+	}
+
+	/**
+	 * Builds the view from the current members of the given class.
+	 */
+	public static PersistableMembersImpl from(ClassDetails classDetails) {
+		final List<FieldDetails> fields = new ArrayList<>();
+		final List<String> fieldNames = new ArrayList<>();
+		classDetails.forEachField( (i, field) -> {
+			if ( field.isPersistable() ) {
+				fields.add( field );
+				fieldNames.add( field.resolveAttributeName() );
+			}
+		} );
+
+		final List<MethodDetails> getters = new ArrayList<>();
+		final List<String> getterNames = new ArrayList<>();
+		classDetails.forEachAccessorMethod( (method) -> {
+			if ( method.isPersistable() ) {
+				getters.add( method );
+				getterNames.add( method.resolveAttributeName() );
+			}
+		} );
+
+		final List<RecordComponentDetails> components = new ArrayList<>();
+		final List<String> componentNames = new ArrayList<>();
+		classDetails.forEachRecordComponent( (i, component) -> {
+			if ( component.isPersistable() ) {
+				components.add( component );
+				componentNames.add( component.resolveAttributeName() );
+			}
+		} );
+
+		if ( fields.isEmpty() && getters.isEmpty() && components.isEmpty() ) {
+			return NO_MEMBERS;
+		}
+
+		return new PersistableMembersImpl(
+				fields.toArray( new FieldDetails[0] ),
+				fieldNames.toArray( new String[0] ),
+				getters.toArray( new MethodDetails[0] ),
+				getterNames.toArray( new String[0] ),
+				components.toArray( new RecordComponentDetails[0] ),
+				componentNames.toArray( new String[0] )
+		);
+	}
+
+	private Map<String, Slot> buildAttributeIndex() {
+		final int size = fields.length + getters.length + recordComponents.length;
+		if ( size == 0 ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Slot> index = new HashMap<>( determineProperSizing( size ) );
+		for ( int i = 0; i < fields.length; i++ ) {
+			final Slot slot = index.computeIfAbsent( fieldAttributeNames[i], (name) -> new Slot() );
+			if ( slot.field == null ) {
+				slot.field = fields[i];
+			}
+		}
+		for ( int i = 0; i < getters.length; i++ ) {
+			if ( getterAttributeNames[i] == null ) {
+				continue;
+			}
+			final Slot slot = index.computeIfAbsent( getterAttributeNames[i], (name) -> new Slot() );
+			if ( slot.getter == null ) {
+				slot.getter = getters[i];
+			}
+		}
+		for ( int i = 0; i < recordComponents.length; i++ ) {
+			final Slot slot = index.computeIfAbsent( recordComponentAttributeNames[i], (name) -> new Slot() );
+			if ( slot.recordComponent == null ) {
+				slot.recordComponent = recordComponents[i];
+			}
+		}
+		return index;
+	}
+
+	@Override
+	public List<FieldDetails> getFields() {
+		return fieldList;
+	}
+
+	@Override
+	public List<MethodDetails> getGetters() {
+		return getterList;
+	}
+
+	@Override
+	public List<RecordComponentDetails> getRecordComponents() {
+		return recordComponentList;
+	}
+
+	@Override
+	public Set<String> getAttributeNames() {
+		return Collections.unmodifiableSet( attributeIndex.keySet() );
+	}
+
+	@Override
+	public FieldDetails findField(String attributeName) {
+		final Slot slot = attributeIndex.get( attributeName );
+		return slot == null ? null : slot.field;
+	}
+
+	@Override
+	public MethodDetails findGetter(String attributeName) {
+		final Slot slot = attributeIndex.get( attributeName );
+		return slot == null ? null : slot.getter;
+	}
+
+	@Override
+	public RecordComponentDetails findRecordComponent(String attributeName) {
+		final Slot slot = attributeIndex.get( attributeName );
+		return slot == null ? null : slot.recordComponent;
+	}
+
+	@Override
+	public void forEachMember(Consumer<MemberDetails> consumer) {
+		for ( int i = 0; i < fields.length; i++ ) {
+			consumer.accept( fields[i] );
+		}
+		for ( int i = 0; i < getters.length; i++ ) {
+			consumer.accept( getters[i] );
+		}
+		for ( int i = 0; i < recordComponents.length; i++ ) {
+			consumer.accept( recordComponents[i] );
+		}
+	}
+
+	@Override
+	public void forEachAttribute(AttributeConsumer consumer) {
+		for ( int i = 0; i < fields.length; i++ ) {
+			consumer.accept( fieldAttributeNames[i], fields[i] );
+		}
+		for ( int i = 0; i < getters.length; i++ ) {
+			// as with the attribute index, getters not named after an attribute are skipped
+			if ( getterAttributeNames[i] != null ) {
+				consumer.accept( getterAttributeNames[i], getters[i] );
+			}
+		}
+		for ( int i = 0; i < recordComponents.length; i++ ) {
+			consumer.accept( recordComponentAttributeNames[i], recordComponents[i] );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PersistableMembers" + attributeIndex.keySet();
+	}
+
+	/**
+	 * The members contributing a particular attribute name.  Only mutated while
+	 * the index is being built.
+	 */
+	private static class Slot {
+		private FieldDetails field;
+		private MethodDetails getter;
+		private RecordComponentDetails recordComponent;
+	}
+}
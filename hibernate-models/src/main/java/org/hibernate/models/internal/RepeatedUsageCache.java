@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AttributeDescriptor;
+
+/**
+ * Per-target cache of flattened repeatable usages - the singular usage (e.g. {@code @NamedQuery})
+ * followed by the values of the container usage (e.g. {@code @NamedQueries}), keyed by the
+ * repeatable annotation type.
+ * <p/>
+ * The usage map itself is left untouched, so the container usage stays available to callers
+ * asking for it explicitly.  Entries remember the usages they were built from and are rebuilt
+ * when those no longer match the usage map.  Containers which are not JDK proxies are considered
+ * mutable, in which case the identity of their values array is checked as well.
+ */
+public class RepeatedUsageCache {
+	private volatile Map<Class<? extends Annotation>, Entry> entries = Collections.emptyMap();
+
+	/**
+	 * The flattened usages of the given repeatable, as an immutable list.
+	 */
+	public <A extends Annotation> List<A> getUsages(
+			AnnotationDescriptor<A> repeatableDescriptor,
+			Map<Class<? extends Annotation>, ? extends Annotation> usageMap) {
+		//noinspection unchecked
+		return (List<A>) resolveEntry( repeatableDescriptor, usageMap ).usages;
+	}
+
+	/**
+	 * The flattened usages of the given repeatable, as an array.  The array is a copy and may
+	 * be changed by the caller.
+	 */
+	public <A extends Annotation> A[] getUsageArray(
+			AnnotationDescriptor<A> repeatableDescriptor,
+			Map<Class<? extends Annotation>, ? extends Annotation> usageMap) {
+		final Entry entry = resolveEntry( repeatableDescriptor, usageMap );
+		//noinspection unchecked
+		final A[] result = (A[]) Array.newInstance( repeatableDescriptor.getAnnotationType(), entry.usages.size() );
+		return entry.usages.toArray( result );
+	}
+
+	private <A extends Annotation> Entry resolveEntry(
+			AnnotationDescriptor<A> repeatableDescriptor,
+			Map<Class<? extends Annotation>, ? extends Annotation> usageMap) {
+		final Class<A> repeatableType = repeatableDescriptor.getAnnotationType();
+		final Annotation singular = usageMap.get( repeatableType );
+
+		final AnnotationDescriptor<?> containerDescriptor = repeatableDescriptor.getRepeatableContainer();
+		final Annotation container = containerDescriptor == null
+				? null
+				: usageMap.get( containerDescriptor.getAnnotationType() );
+
+		final Entry existing = entries.get( repeatableType );
+		if ( existing != null && existing.matches( singular, container ) ) {
+			return existing;
+		}
+
+		final Entry created = buildEntry( singular, container, containerDescriptor );
+		final Map<Class<? extends Annotation>, Entry> copy = new HashMap<>( entries );
+		copy.put( repeatableType, created );
+		entries = copy;
+		return created;
+	}
+
+	private static Entry buildEntry(
+			Annotation singular,
+			Annotation container,
+			AnnotationDescriptor<?> containerDescriptor) {
+		if ( container == null ) {
+			return new Entry(
+					singular,
+					null,
+					null,
+					null,
+					singular == null ? List.of() : List.of( singular )
+			);
+		}
+
+		final AttributeDescriptor<Annotation[]> valuesAttribute = containerDescriptor.getAttribute( "value" );
+		final Annotation[] containerValues = AnnotationHelper.extractValue( container, valuesAttribute );
+		final int size = ( singular == null ? 0 : 1 ) + ( containerValues == null ? 0 : containerValues.length );
+		final Annotation[] flattened = new Annotation[size];
+		int position = 0;
+		if ( singular != null ) {
+			flattened[position++] = singular;
+		}
+		if ( CollectionHelper.isNotEmpty( containerValues ) ) {
+			System.arraycopy( containerValues, 0, flattened, position, containerValues.length );
+		}
+
+		return new Entry(
+				singular,
+				container,
+				isImmutable( container ) ? null : valuesAttribute,
+				containerValues,
+				List.of( flattened )
+		);
+	}
+
+	private static boolean isImmutable(Annotation container) {
+		// JDK annotations and AnnotationProxy instances
+		return Proxy.isProxyClass( container.getClass() );
+	}
+
+	private record Entry(
+			Annotation singular,
+			Annotation container,
+			AttributeDescriptor<Annotation[]> mutableValuesAttribute,
+			Annotation[] containerValues,
+			List<Annotation> usages) {
+		private boolean matches(Annotation singular, Annotation container) {
+			if ( this.singular != singular || this.container != container ) {
+				return false;
+			}
+			if ( mutableValuesAttribute == null ) {
+				return true;
+			}
+			return AnnotationHelper.extractValue( container, mutableValuesAttribute ) == containerValues;
+		}
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.spi.ArrayTypeDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
+import org.hibernate.models.spi.ResolvedHierarchy;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.spi.WildcardTypeDetails;
+
+import static org.hibernate.models.internal.util.CollectionHelper.arrayList;
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
+
+/**
+ * Standard {@linkplain ResolvedHierarchy} implementation.
+ * <p/>
+ * The hierarchy of a class is built from the (memoized) hierarchy of its super class by applying
+ * just the bindings of the class's {@linkplain ClassDetails#getGenericSuperType() generic super type}
+ * to the already resolved member types.  Members whose resolved type is unaffected by those bindings
+ * are shared with the super class hierarchy as-is.
+ */
+public class ResolvedHierarchyImpl implements ResolvedHierarchy {
+	private static final int UNTRACKED = -1;
+
+	private final ClassDetails classDetails;
+	private final ResolvedHierarchy superHierarchy;
+	private final Map<TypeVariableKey, TypeDetails> bindings;
+	private final List<ResolvedMember> members;
+	private final Map<MemberDetails, TypeDetails> memberTypeIndex;
+
+	// the super classes are only re-validated once members were added somewhere in the context
+	private final AtomicInteger memberModifications;
+	private volatile int validatedAt;
+
+	private ResolvedHierarchyImpl(
+			ClassDetails classDetails,
+			ResolvedHierarchy superHierarchy,
+			Map<TypeVariableKey, TypeDetails> bindings,
+			List<ResolvedMember> members,
+			AtomicInteger memberModifications,
+			int validatedAt) {
+		this.classDetails = classDetails;
+		this.superHierarchy = superHierarchy;
+		this.bindings = bindings;
+		this.members = members;
+		this.memberModifications = memberModifications;
+		this.validatedAt = validatedAt;
+
+		this.memberTypeIndex = new IdentityHashMap<>( members.size() );
+		for ( int i = 0; i < members.size(); i++ ) {
+			final ResolvedMember resolvedMember = members.get( i );
+			memberTypeIndex.put( resolvedMember.getMember(), resolvedMember.getType() );
+		}
+	}
+
+	/**
+	 * Builds the hierarchy for the given class, using the super class's {@linkplain ClassDetails#getResolvedHierarchy() hierarchy}.
+	 */
+	public static ResolvedHierarchyImpl from(ClassDetails classDetails) {
+		return from( classDetails, null );
+	}
+
+	/**
+	 * Builds the hierarchy for the given class, using the super class's {@linkplain ClassDetails#getResolvedHierarchy() hierarchy}.
+	 *
+	 * @param memberModifications The {@linkplain AbstractModelsContext#getMemberModifications() member modification}
+	 * counter of the context, or {@code null} to always re-validate the super classes
+	 */
+	public static ResolvedHierarchyImpl from(ClassDetails classDetails, AtomicInteger memberModifications) {
+		// read before resolving anything, so that a concurrent change is noticed next time
+		final int stamp = memberModifications == null ? UNTRACKED : memberModifications.get();
+
+		final ClassDetails superClass = resolveSuperClass( classDetails );
+		final ResolvedHierarchy superHierarchy = superClass == null ? null : superClass.getResolvedHierarchy();
+
+		final Map<TypeVariableKey, TypeDetails> localBindings = extractLocalBindings( classDetails );
+
+		final Map<TypeVariableKey, TypeDetails> bindings;
+		final List<ResolvedMember> members = new ArrayList<>();
+		if ( superHierarchy == null ) {
+			bindings = localBindings;
+		}
+		else {
+			if ( superHierarchy instanceof ResolvedHierarchyImpl superHierarchyImpl && !superHierarchyImpl.bindings.isEmpty() ) {
+				bindings = new HashMap<>( localBindings );
+				superHierarchyImpl.bindings.forEach( (key, bound) -> bindings.put( key, substitute( bound, localBindings ) ) );
+			}
+			else {
+				bindings = localBindings;
+			}
+
+			for ( ResolvedMember superMember : superHierarchy.getMembers() ) {
+				final TypeDetails substituted = substitute( superMember.getType(), localBindings );
+				members.add( substituted == superMember.getType()
+						? superMember
+						: new ResolvedMemberImpl( superMember.getMember(), substituted ) );
+			}
+		}
+
+		classDetails.forEachField( (i, field) -> members.add( new ResolvedMemberImpl( field, field.getType() ) ) );
+		classDetails.forEachAccessorMethod( (method) -> members.add( new ResolvedMemberImpl( method, method.getType() ) ) );
+		classDetails.forEachRecordComponent( (i, component) -> members.add( new ResolvedMemberImpl( component, component.getType() ) ) );
+
+		return new ResolvedHierarchyImpl(
+				classDetails,
+				superHierarchy,
+				bindings,
+				Collections.unmodifiableList( members ),
+				memberModifications,
+				stamp
+		);
+	}
+
+	private static ClassDetails resolveSuperClass(ClassDetails classDetails) {
+		final ClassDetails superClass = classDetails.getSuperClass();
+		if ( superClass == null
+				|| superClass == ClassDetails.OBJECT_CLASS_DETAILS
+				|| Object.class.getName().equals( superClass.getClassName() ) ) {
+			return null;
+		}
+		return superClass;
+	}
+
+	private static Map<TypeVariableKey, TypeDetails> extractLocalBindings(ClassDetails classDetails) {
+		final TypeDetails genericSuperType = classDetails.getGenericSuperType();
+		if ( genericSuperType == null || genericSuperType.getTypeKind() != TypeDetails.Kind.PARAMETERIZED_TYPE ) {
+			return Collections.emptyMap();
+		}
+
+		final ParameterizedTypeDetails parameterizedSuperType = genericSuperType.asParameterizedType();
+		final ClassDetails rawSuperClass = parameterizedSuperType.getRawClassDetails();
+		final List<TypeVariableDetails> typeParameters = rawSuperClass.getTypeParameters();
+		final List<TypeDetails> arguments = parameterizedSuperType.getArguments();
+		final int count = Math.min( typeParameters.size(), arguments.size() );
+		if ( count == 0 ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<TypeVariableKey, TypeDetails> bindings = new HashMap<>( determineProperSizing( count ) );
+		for ( int i = 0; i < count; i++ ) {
+			bindings.put( new TypeVariableKey( rawSuperClass, typeParameters.get( i ).getIdentifier() ), arguments.get( i ) );
+		}
+		return bindings;
+	}
+
+	/**
+	 * Replace the type variables in {@code type} according to the {@code bindings}, returning
+	 * {@code type} itself if nothing was replaced.
+	 */
+	private static TypeDetails substitute(TypeDetails type, Map<TypeVariableKey, TypeDetails> bindings) {
+		if ( type == null || bindings.isEmpty() ) {
+			return type;
+		}
+
+		switch ( type.getTypeKind() ) {
+			case TYPE_VARIABLE -> {
+				final TypeVariableDetails typeVariable = type.asTypeVariable();
+				if ( typeVariable.getDeclaringType() == null ) {
+					return type;
+				}
+				final TypeDetails bound = bindings.get( new TypeVariableKey( typeVariable.getDeclaringType(), typeVariable.getIdentifier() ) );
+				return bound == null ? type : bound;
+			}
+			case PARAMETERIZED_TYPE -> {
+				final ParameterizedTypeDetails parameterizedType = type.asParameterizedType();
+				final List<TypeDetails> arguments = parameterizedType.getArguments();
+				List<TypeDetails> substitutedArguments = null;
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					final TypeDetails argument = arguments.get( i );
+					final TypeDetails substituted = substitute( argument, bindings );
+					if ( substituted != argument && substitutedArguments == null ) {
+						substitutedArguments = arrayList( arguments.size() );
+						substitutedArguments.addAll( arguments.subList( 0, i ) );
+					}
+					if ( substitutedArguments != null ) {
+						substitutedArguments.add( substituted );
+					}
+				}
+				if ( substitutedArguments == null ) {
+					return type;
+				}
+				return new ParameterizedTypeDetailsImpl(
+						parameterizedType.getRawClassDetails(),
+						substitutedArguments,
+						parameterizedType.getOwner()
+				);
+			}
+			case ARRAY -> {
+				final ArrayTypeDetails arrayType = type.asArrayType();
+				final TypeDetails substituted = substitute( arrayType.getConstituentType(), bindings );
+				if ( substituted == arrayType.getConstituentType() ) {
+					return type;
+				}
+				return new ArrayTypeDetailsImpl( arrayType.getArrayClassDetails(), substituted );
+			}
+			case WILDCARD_TYPE -> {
+				final WildcardTypeDetails wildcardType = type.asWildcardType();
+				final TypeDetails substituted = substitute( wildcardType.getBound(), bindings );
+				if ( substituted == wildcardType.getBound() ) {
+					return type;
+				}
+				return new WildcardTypeDetailsImpl( substituted, wildcardType.isExtends() );
+			}
+			default -> {
+				return type;
+			}
+		}
+	}
+
+	/**
+	 * Whether this hierarchy still reflects the current hierarchy of the super class.
+	 */
+	public boolean isCurrent() {
+		final int stamp = memberModifications == null ? UNTRACKED : memberModifications.get();
+		if ( stamp != UNTRACKED && stamp == validatedAt ) {
+			return true;
+		}
+
+		final ClassDetails superClass = resolveSuperClass( classDetails );
+		final boolean current = superClass == null
+				? superHierarchy == null
+				: superClass.getResolvedHierarchy() == superHierarchy;
+		if ( current ) {
+			validatedAt = stamp;
+		}
+		return current;
+	}
+
+	@Override
+	public ClassDetails getClassDetails() {
+		return classDetails;
+	}
+
+	@Override
+	public ResolvedHierarchy getSuperHierarchy() {
+		return superHierarchy;
+	}
+
+	@Override
+	public List<ResolvedMember> getMembers() {
+		return members;
+	}
+
+	@Override
+	public TypeDetails resolveMemberType(MemberDetails member) {
+		return memberTypeIndex.get( member );
+	}
+
+	@Override
+	public TypeDetails resolveTypeVariable(TypeVariableDetails typeVariable) {
+		if ( typeVariable.getDeclaringType() == classDetails ) {
+			// not bound within the hierarchy, the variable itself is the answer
+			return typeVariable;
+		}
+		return bindings.get( new TypeVariableKey( typeVariable.getDeclaringType(), typeVariable.getIdentifier() ) );
+	}
+
+	@Override
+	public String toString() {
+		return "ResolvedHierarchy(" + classDetails.getName() + ")";
+	}
+
+	private record TypeVariableKey(ClassDetails declaringType, String identifier) {
+	}
+
+	private record ResolvedMemberImpl(MemberDetails member, TypeDetails type) implements ResolvedMember {
+		@Override
+		public MemberDetails getMember() {
+			return member;
+		}
+
+		@Override
+		public TypeDetails getType() {
+			return type;
+		}
+	}
+}
@@ -33,6 +33,7 @@ public class SimpleClassDetails implements ClassDetails {
 	private final Class<?> clazz;
 	private final ClassDetails superClassDetails;
 	private final TypeDetails genericSuperTypeDetails;
+	private SupertypeClosure supertypeClosure;
 
 	public SimpleClassDetails(Class<?> clazz) {
 		this( clazz, OBJECT_CLASS_DETAILS, null );
@@ -120,6 +121,13 @@ public class SimpleClassDetails implements ClassDetails {
 		return checkType.isAssignableFrom( clazz );
 	}
 
+	public SupertypeClosure getSupertypeClosure() {
+		if ( supertypeClosure == null ) {
+			supertypeClosure = SupertypeClosure.from( clazz );
+		}
+		return supertypeClosure;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// we do not care about the fields, methods nor record components of these simple types
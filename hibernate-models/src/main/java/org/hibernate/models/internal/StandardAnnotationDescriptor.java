@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.spi.AttributeDescriptor;
@@ -27,7 +28,7 @@ public class StandardAnnotationDescriptor<A extends Annotation> extends Abstract
 	private final List<AttributeDescriptor<?>> attributeDescriptors;
 	private final ModelsContext modelsContext;
 
-	private Map<Class<? extends Annotation>, ? extends Annotation> usagesMap;
+	private final LazyReference<Map<Class<? extends Annotation>, ? extends Annotation>> usagesMap = new LazyReference<>();
 
 	public StandardAnnotationDescriptor(
 			Class<A> annotationType,
@@ -47,10 +48,11 @@ public class StandardAnnotationDescriptor<A extends Annotation> extends Abstract
 
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap( getAnnotationType(), modelsContext );
-		}
-		return usagesMap;
+		return usagesMap.get( this, StandardAnnotationDescriptor::buildUsagesMap );
+	}
+
+	private Map<Class<? extends Annotation>, ? extends Annotation> buildUsagesMap() {
+		return buildUsagesMap( getAnnotationType(), modelsContext );
 	}
 
 	@Override
@@ -30,12 +30,12 @@ public class StringTypeDescriptor extends AbstractTypeDescriptor<String> {
 	public void render(
 			String name, Object attributeValue, RenderingTarget target,
 			Renderer renderer, ModelsContext modelContext) {
-		target.addLine( "%s = \"%s\"", name, attributeValue );
+		target.addLine( name + " = \"" + attributeValue + "\"" );
 	}
 
 	@Override
 	public void render(Object attributeValue, RenderingTarget target, Renderer renderer, ModelsContext modelContext) {
-		target.addLine( "\"%s\"", attributeValue );
+		target.addLine( "\"" + attributeValue + "\"" );
 	}
 
 	@Override
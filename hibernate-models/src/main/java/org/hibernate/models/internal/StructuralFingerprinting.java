@@ -0,0 +1,418 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.models.AnnotationAccessException;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
+import org.hibernate.models.spi.RecordComponentDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.spi.WildcardTypeDetails;
+
+import static org.hibernate.models.internal.AnnotationHelper.extractValue;
+
+/**
+ * Computes {@linkplain ModelFingerprint structural fingerprints}.
+ * <p/>
+ * Only information which every backend reports identically is included, in a canonical form -
+ * <ul>
+ *     <li>members are ordered by name (and argument types) rather than declaration order</li>
+ *     <li>synthetic members are skipped</li>
+ *     <li>only the Java language modifiers are considered</li>
+ *     <li>annotation attributes are ordered by name</li>
+ *     <li>{@linkplain java.lang.annotation.Inherited inherited} class annotations identical to the one on the super class are skipped</li>
+ *     <li>{@code java.lang.Object} as super type or type variable bound is treated as absent</li>
+ * </ul>
+ */
+public class StructuralFingerprinting {
+	private static final String OBJECT = Object.class.getName();
+
+	/**
+	 * Fingerprint of a single class - its name, kind, super types, type parameters, annotations and members.
+	 */
+	public static ModelFingerprint fingerprint(ClassDetails classDetails, ModelsContext modelsContext) {
+		final Hasher hasher = new Hasher();
+		new StructuralFingerprinting( hasher, modelsContext ).hashClass( classDetails );
+		return hasher.finish();
+	}
+
+	/**
+	 * Fingerprint of all classes currently known to the context's {@linkplain ModelsContext#getClassDetailsRegistry() registry}.
+	 */
+	public static ModelFingerprint fingerprint(ModelsContext modelsContext) {
+		final TreeMap<String, ClassDetails> classes = new TreeMap<>();
+		modelsContext.getClassDetailsRegistry().forEachClassDetails( (classDetails) -> {
+			if ( classDetails.getName() != null ) {
+				classes.put( classDetails.getName(), classDetails );
+			}
+		} );
+
+		final Hasher hasher = new Hasher();
+		for ( Map.Entry<String, ClassDetails> entry : classes.entrySet() ) {
+			final ModelFingerprint classFingerprint = entry.getValue().getFingerprint( modelsContext );
+			hasher.putString( entry.getKey() );
+			hasher.putLong( classFingerprint.mostSignificantBits() );
+			hasher.putLong( classFingerprint.leastSignificantBits() );
+		}
+		return hasher.finish();
+	}
+
+	private final Hasher hasher;
+	private final ModelsContext modelsContext;
+
+	private StructuralFingerprinting(Hasher hasher, ModelsContext modelsContext) {
+		this.hasher = hasher;
+		this.modelsContext = modelsContext;
+	}
+
+	private void hashClass(ClassDetails classDetails) {
+		hasher.putString( classDetails.getName() );
+		hasher.putString( headerSignature( classDetails ) );
+
+		hashClassAnnotations( classDetails );
+
+		final List<FieldDetails> fields = new ArrayList<>();
+		classDetails.forEachField( (i, field) -> {
+			if ( !field.isSynthetic() ) {
+				fields.add( field );
+			}
+		} );
+		fields.sort( Comparator.comparing( FieldDetails::getName ) );
+		hasher.putInt( fields.size() );
+		for ( FieldDetails field : fields ) {
+			hasher.putString( field.getName() );
+			hasher.putString( memberSignature( field ) );
+			hashAnnotations( field );
+		}
+
+		final List<MethodDetails> methods = new ArrayList<>();
+		classDetails.forEachMethod( (i, method) -> {
+			if ( !method.isSynthetic() ) {
+				methods.add( method );
+			}
+		} );
+		methods.sort( Comparator.comparing( StructuralFingerprinting::methodKey ) );
+		hasher.putInt( methods.size() );
+		for ( MethodDetails method : methods ) {
+			hasher.putString( methodKey( method ) );
+			hasher.putString( memberSignature( method ) );
+			hashAnnotations( method );
+		}
+
+		final List<RecordComponentDetails> recordComponents = new ArrayList<>();
+		classDetails.forEachRecordComponent( (i, component) -> recordComponents.add( component ) );
+		recordComponents.sort( Comparator.comparing( RecordComponentDetails::getName ) );
+		hasher.putInt( recordComponents.size() );
+		for ( RecordComponentDetails component : recordComponents ) {
+			hasher.putString( component.getName() );
+			hasher.putString( memberSignature( component ) );
+			hashAnnotations( component );
+		}
+	}
+
+	/**
+	 * Canonical rendering of the class itself, without its annotations and members - its kind,
+	 * super types and type parameters.
+	 */
+	public static String headerSignature(ClassDetails classDetails) {
+		final StringBuilder signature = new StringBuilder()
+				.append( classDetails.isInterface() ).append( ',' )
+				.append( classDetails.isAbstract() ).append( ',' )
+				.append( classDetails.isEnum() ).append( ',' )
+				.append( classDetails.isRecord() ).append( ';' );
+
+		final TypeDetails superType = classDetails.getGenericSuperType();
+		if ( superType != null && !OBJECT.equals( superType.determineRawClass().getName() ) ) {
+			appendType( superType, signature );
+		}
+		signature.append( ';' );
+
+		final List<TypeDetails> interfaces = classDetails.getImplementedInterfaces();
+		if ( interfaces != null ) {
+			for ( TypeDetails interfaceType : interfaces ) {
+				appendType( interfaceType, signature );
+				signature.append( ',' );
+			}
+		}
+		signature.append( ';' );
+
+		for ( TypeVariableDetails typeParameter : classDetails.getTypeParameters() ) {
+			signature.append( typeParameter.getIdentifier() );
+			for ( TypeDetails bound : typeParameter.getBounds() ) {
+				if ( !OBJECT.equals( bound.getName() ) ) {
+					signature.append( ':' );
+					appendType( bound, signature );
+				}
+			}
+			signature.append( ',' );
+		}
+		return signature.toString();
+	}
+
+	/**
+	 * Canonical rendering of a member, without its name and annotations - its Java language
+	 * modifiers and its type.
+	 */
+	public static String memberSignature(MemberDetails member) {
+		final int modifiers = switch ( member.getKind() ) {
+			case FIELD -> member.getModifiers() & Modifier.fieldModifiers();
+			case METHOD -> member.getModifiers() & Modifier.methodModifiers();
+			default -> 0;
+		};
+		final StringBuilder signature = new StringBuilder().append( modifiers ).append( ':' );
+		appendType( member.getType(), signature );
+		return signature.toString();
+	}
+
+	/**
+	 * Key identifying a method within its class - its name along with its argument types.
+	 */
+	public static String methodKey(MethodDetails method) {
+		final StringBuilder key = new StringBuilder( method.getName() ).append( '(' );
+		final List<ClassDetails> argumentTypes = method.getArgumentTypes();
+		for ( int i = 0; i < argumentTypes.size(); i++ ) {
+			if ( i > 0 ) {
+				key.append( ',' );
+			}
+			key.append( argumentTypes.get( i ).getName() );
+		}
+		return key.append( ')' ).toString();
+	}
+
+	/**
+	 * The annotation usages declared on the class, ordered by annotation type.  {@linkplain java.lang.annotation.Inherited Inherited}
+	 * usages identical to the one in effect for the super class are not included, since some backends report
+	 * those as if declared on the class itself.
+	 */
+	public static List<Annotation> declaredClassUsages(ClassDetails classDetails, ModelsContext modelsContext) {
+		return new StructuralFingerprinting( null, modelsContext ).declaredClassUsages( classDetails );
+	}
+
+	/**
+	 * Canonical rendering of an annotation (attribute) value.
+	 */
+	public static String valueSignature(Object value, ModelsContext modelsContext) {
+		final StringBuilder signature = new StringBuilder();
+		new StructuralFingerprinting( null, modelsContext ).appendValue( value, signature );
+		return signature.toString();
+	}
+
+	private List<Annotation> declaredClassUsages(ClassDetails classDetails) {
+		final ClassDetails superClass = classDetails.getSuperClass();
+		final List<Annotation> usages = sortedUsages( classDetails );
+		final List<Annotation> declared = new ArrayList<>( usages.size() );
+		for ( Annotation usage : usages ) {
+			final AnnotationDescriptor<Annotation> descriptor = descriptor( usage );
+			if ( descriptor.isInherited() && superClass != null ) {
+				final Annotation superUsage = superClass.getAnnotationUsage( descriptor, modelsContext );
+				if ( superUsage != null && valueSignature( superUsage ).equals( valueSignature( usage ) ) ) {
+					continue;
+				}
+			}
+			declared.add( usage );
+		}
+		return declared;
+	}
+
+	private void hashClassAnnotations(ClassDetails classDetails) {
+		final List<Annotation> declared = declaredClassUsages( classDetails );
+		hasher.putInt( declared.size() );
+		declared.forEach( (usage) -> hasher.putString( valueSignature( usage ) ) );
+	}
+
+	private void hashAnnotations(AnnotationTarget target) {
+		final List<Annotation> usages = sortedUsages( target );
+		hasher.putInt( usages.size() );
+		usages.forEach( (usage) -> hasher.putString( valueSignature( usage ) ) );
+	}
+
+	private static List<Annotation> sortedUsages(AnnotationTarget target) {
+		final List<Annotation> usages = new ArrayList<>( target.getDirectAnnotationUsages() );
+		usages.sort( Comparator.comparing( (usage) -> usage.annotationType().getName() ) );
+		return usages;
+	}
+
+	private <A extends Annotation> AnnotationDescriptor<A> descriptor(A usage) {
+		//noinspection unchecked
+		return (AnnotationDescriptor<A>) modelsContext.getAnnotationDescriptorRegistry().getDescriptor( usage.annotationType() );
+	}
+
+	private String valueSignature(Annotation usage) {
+		final StringBuilder signature = new StringBuilder();
+		appendAnnotation( usage, signature );
+		return signature.toString();
+	}
+
+	private void appendAnnotation(Annotation usage, StringBuilder signature) {
+		final AnnotationDescriptor<Annotation> descriptor = descriptor( usage );
+		final List<AttributeDescriptor<?>> attributes = new ArrayList<>( descriptor.getAttributes() );
+		attributes.sort( Comparator.comparing( AttributeDescriptor::getName ) );
+
+		signature.append( '@' ).append( usage.annotationType().getName() ).append( '(' );
+		for ( AttributeDescriptor<?> attribute : attributes ) {
+			signature.append( attribute.getName() ).append( '=' );
+			appendAttributeValue( usage, attribute, signature );
+			signature.append( ';' );
+		}
+		signature.append( ')' );
+	}
+
+	private void appendAttributeValue(Annotation usage, AttributeDescriptor<?> attribute, StringBuilder signature) {
+		final Object value;
+		try {
+			value = extractValue( usage, attribute );
+		}
+		catch (AnnotationAccessException e) {
+			// e.g. annotations internal to the JDK, from packages which are not exported
+			signature.append( '?' );
+			return;
+		}
+		appendValue( value, signature );
+	}
+
+	private void appendValue(Object value, StringBuilder signature) {
+		if ( value == null ) {
+			signature.append( "null" );
+		}
+		else if ( value instanceof Annotation nested ) {
+			appendAnnotation( nested, signature );
+		}
+		else if ( value instanceof Class<?> classValue ) {
+			signature.append( "class:" ).append( classValue.getName() );
+		}
+		else if ( value instanceof ClassDetails classDetailsValue ) {
+			signature.append( "class:" ).append( classDetailsValue.getName() );
+		}
+		else if ( value instanceof Enum<?> enumValue ) {
+			signature.append( enumValue.getDeclaringClass().getName() ).append( '.' ).append( enumValue.name() );
+		}
+		else if ( value instanceof String stringValue ) {
+			signature.append( '"' ).append( stringValue.replace( "\"", "\\\"" ) ).append( '"' );
+		}
+		else if ( value.getClass().isArray() ) {
+			final int length = Array.getLength( value );
+			signature.append( '{' );
+			for ( int i = 0; i < length; i++ ) {
+				appendValue( Array.get( value, i ), signature );
+				signature.append( ',' );
+			}
+			signature.append( '}' );
+		}
+		else {
+			signature.append( value.getClass().getSimpleName() ).append( ':' ).append( value );
+		}
+	}
+
+	/**
+	 * Canonical rendering of a type, with type variables reduced to their identifier.
+	 */
+	public static String typeSignature(TypeDetails type) {
+		final StringBuilder signature = new StringBuilder();
+		appendType( type, signature );
+		return signature.toString();
+	}
+
+	private static void appendType(TypeDetails type, StringBuilder signature) {
+		if ( type == null ) {
+			signature.append( "void" );
+			return;
+		}
+
+		switch ( type.getTypeKind() ) {
+			case ARRAY -> {
+				appendType( type.asArrayType().getConstituentType(), signature );
+				signature.append( "[]" );
+			}
+			case PARAMETERIZED_TYPE -> {
+				final ParameterizedTypeDetails parameterizedType = type.asParameterizedType();
+				signature.append( parameterizedType.getRawClassDetails().getName() ).append( '<' );
+				final List<TypeDetails> arguments = parameterizedType.getArguments();
+				for ( int i = 0; i < arguments.size(); i++ ) {
+					if ( i > 0 ) {
+						signature.append( ',' );
+					}
+					appendType( arguments.get( i ), signature );
+				}
+				signature.append( '>' );
+			}
+			case WILDCARD_TYPE -> {
+				final WildcardTypeDetails wildcardType = type.asWildcardType();
+				final TypeDetails bound = wildcardType.getBound();
+				signature.append( '?' );
+				if ( bound != null && !OBJECT.equals( bound.getName() ) ) {
+					signature.append( wildcardType.isExtends() ? "+" : "-" );
+					appendType( bound, signature );
+				}
+			}
+			case TYPE_VARIABLE -> signature.append( "T:" ).append( type.asTypeVariable().getIdentifier() );
+			case TYPE_VARIABLE_REFERENCE -> signature.append( "T:" ).append( type.asTypeVariableReference().getIdentifier() );
+			case VOID -> signature.append( "void" );
+			default -> signature.append( type.determineRawClass().getName() );
+		}
+	}
+
+	/**
+	 * Incremental 128-bit hashing of the fingerprint input
+	 */
+	private static class Hasher {
+		private final MessageDigest digest;
+		private final ByteBuffer scratch = ByteBuffer.allocate( Long.BYTES );
+
+		private Hasher() {
+			try {
+				digest = MessageDigest.getInstance( "MD5" );
+			}
+			catch (NoSuchAlgorithmException e) {
+				throw new ModelsException( "MD5 digest not available for computing fingerprints", e );
+			}
+		}
+
+		private void putString(String value) {
+			final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			putInt( bytes.length );
+			digest.update( bytes );
+		}
+
+		private void putInt(int value) {
+			scratch.clear();
+			scratch.putInt( value );
+			digest.update( scratch.array(), 0, Integer.BYTES );
+		}
+
+		private void putLong(long value) {
+			scratch.clear();
+			scratch.putLong( value );
+			digest.update( scratch.array(), 0, Long.BYTES );
+		}
+
+		private ModelFingerprint finish() {
+			final ByteBuffer result = ByteBuffer.wrap( digest.digest() );
+			return new ModelFingerprint( result.getLong(), result.getLong() );
+		}
+	}
+}
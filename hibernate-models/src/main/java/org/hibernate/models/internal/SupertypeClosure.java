@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * The names of a class along with all of its super classes and interfaces, transitively.
+ * Used to answer {@linkplain ClassDetails#isImplementor} and {@linkplain ClassDetails#isAssignableTo}
+ * with a single lookup.
+ * <p/>
+ * Closures are built from the (cached) closures of the direct super types, so each
+ * class in a hierarchy is only walked once.
+ */
+public final class SupertypeClosure {
+	private final Set<String> typeNames;
+
+	private SupertypeClosure(Set<String> typeNames) {
+		this.typeNames = typeNames;
+	}
+
+	/**
+	 * Access the closure for the given class, using its cached closure if one is available.
+	 */
+	public static SupertypeClosure of(ClassDetails classDetails) {
+		if ( classDetails instanceof ClassDetailsSupport classDetailsSupport ) {
+			return classDetailsSupport.getSupertypeClosure();
+		}
+		if ( classDetails instanceof SimpleClassDetails simpleClassDetails ) {
+			return simpleClassDetails.getSupertypeClosure();
+		}
+		return from( classDetails );
+	}
+
+	/**
+	 * Build the closure for the given class from its super class and implemented interfaces.
+	 */
+	public static SupertypeClosure from(ClassDetails classDetails) {
+		final Set<String> typeNames = new HashSet<>();
+		addNames( classDetails, typeNames );
+
+		final ClassDetails superClass = classDetails.getSuperClass();
+		if ( superClass != null ) {
+			typeNames.addAll( of( superClass ).typeNames );
+		}
+
+		final List<TypeDetails> interfaces = classDetails.getImplementedInterfaces();
+		if ( interfaces != null ) {
+			for ( int i = 0; i < interfaces.size(); i++ ) {
+				final ClassDetails interfaceDetails = interfaces.get( i ).determineRawClass();
+				if ( interfaceDetails != null ) {
+					typeNames.addAll( of( interfaceDetails ).typeNames );
+				}
+			}
+		}
+
+		return new SupertypeClosure( typeNames );
+	}
+
+	/**
+	 * Build the closure for the given Java type using reflection.
+	 */
+	public static SupertypeClosure from(Class<?> javaType) {
+		final Set<String> typeNames = new HashSet<>();
+		collectJavaTypeNames( javaType, typeNames );
+		return new SupertypeClosure( typeNames );
+	}
+
+	private static void addNames(ClassDetails classDetails, Set<String> typeNames) {
+		if ( classDetails.getName() != null ) {
+			typeNames.add( classDetails.getName() );
+		}
+		if ( classDetails.getClassName() != null ) {
+			typeNames.add( classDetails.getClassName() );
+		}
+	}
+
+	private static void collectJavaTypeNames(Class<?> javaType, Set<String> typeNames) {
+		if ( javaType == null || !typeNames.add( javaType.getName() ) ) {
+			return;
+		}
+		collectJavaTypeNames( javaType.getSuperclass(), typeNames );
+		for ( Class<?> interfaceType : javaType.getInterfaces() ) {
+			collectJavaTypeNames( interfaceType, typeNames );
+		}
+	}
+
+	/**
+	 * Whether the type with the given name is part of the closure.
+	 */
+	public boolean contains(String typeName) {
+		return typeNames.contains( typeName );
+	}
+
+	/**
+	 * Whether the given type is part of the closure.
+	 */
+	public boolean contains(ClassDetails classDetails) {
+		return contains( classDetails.getName() )
+				|| classDetails.getClassName() != null && contains( classDetails.getClassName() );
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.spi.ArrayTypeDetails;
+import org.hibernate.models.spi.ClassBasedTypeDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeDetailsPool;
+import org.hibernate.models.spi.TypeVariableDetails;
+import org.hibernate.models.spi.WildcardTypeDetails;
+
+/**
+ * Standard {@linkplain TypeDetailsPool} implementation, keyed by a structural signature of the type.
+ * <p/>
+ * References to a recursive type variable (e.g. the {@code T} in {@code T extends Comparable<T>}) are
+ * described by their identifier only, which terminates the signature and keeps the references pointing
+ * at the type variable they were built with.  Types containing a reference to a type variable which is
+ * not itself part of the type, as well as parameterized types with an owner, are never pooled.
+ * <p/>
+ * The pool holds strong references and lives as long as the owning {@linkplain org.hibernate.models.spi.ModelsContext}.
+ */
+public class TypeDetailsPoolStandard implements TypeDetailsPool {
+	private final Map<Key, TypeDetails> pool = new ConcurrentHashMap<>();
+
+	@Override
+	public TypeDetails intern(TypeDetails typeDetails) {
+		if ( typeDetails == null ) {
+			return null;
+		}
+
+		final StringBuilder signature = new StringBuilder();
+		if ( !appendSignature( typeDetails, signature, new ArrayDeque<>() ) ) {
+			return typeDetails;
+		}
+
+		final TypeDetails existing = pool.putIfAbsent( new Key( typeDetails.getClass(), signature.toString() ), typeDetails );
+		return existing == null ? typeDetails : existing;
+	}
+
+	/**
+	 * The number of canonical instances in the pool
+	 */
+	public int size() {
+		return pool.size();
+	}
+
+	private static boolean appendSignature(TypeDetails type, StringBuilder signature, ArrayDeque<String> typeVariables) {
+		if ( type == null ) {
+			signature.append( '*' );
+			return true;
+		}
+
+		switch ( type.getTypeKind() ) {
+			case CLASS, PRIMITIVE, VOID -> {
+				signature.append( type.getTypeKind().ordinal() ).append( ':' );
+				appendClassName( ( (ClassBasedTypeDetails) type ).getClassDetails(), signature );
+				return true;
+			}
+			case ARRAY -> {
+				final ArrayTypeDetails arrayType = type.asArrayType();
+				signature.append( '[' );
+				appendClassName( arrayType.getArrayClassDetails(), signature );
+				signature.append( '/' );
+				return appendSignature( arrayType.getConstituentType(), signature, typeVariables );
+			}
+			case PARAMETERIZED_TYPE -> {
+				final ParameterizedTypeDetails parameterizedType = type.asParameterizedType();
+				if ( parameterizedType.getOwner() != null ) {
+					return false;
+				}
+				appendClassName( parameterizedType.getRawClassDetails(), signature );
+				return appendList( parameterizedType.getArguments(), '<', '>', signature, typeVariables );
+			}
+			case WILDCARD_TYPE -> {
+				final WildcardTypeDetails wildcardType = type.asWildcardType();
+				signature.append( wildcardType.isExtends() ? "?+" : "?-" );
+				return appendSignature( wildcardType.getBound(), signature, typeVariables );
+			}
+			case TYPE_VARIABLE -> {
+				final TypeVariableDetails typeVariable = type.asTypeVariable();
+				signature.append( "T:" );
+				appendClassName( typeVariable.getDeclaringType(), signature );
+				signature.append( '#' ).append( typeVariable.getIdentifier() );
+				typeVariables.push( typeVariable.getIdentifier() );
+				try {
+					return appendList( typeVariable.getBounds(), '(', ')', signature, typeVariables );
+				}
+				finally {
+					typeVariables.pop();
+				}
+			}
+			case TYPE_VARIABLE_REFERENCE -> {
+				final String identifier = type.asTypeVariableReference().getIdentifier();
+				if ( !typeVariables.contains( identifier ) ) {
+					// the reference would point outside the type being pooled
+					return false;
+				}
+				signature.append( "R#" ).append( identifier );
+				return true;
+			}
+			default -> {
+				return false;
+			}
+		}
+	}
+
+	private static boolean appendList(
+			List<TypeDetails> types,
+			char open,
+			char close,
+			StringBuilder signature,
+			ArrayDeque<String> typeVariables) {
+		signature.append( open );
+		if ( types != null ) {
+			for ( int i = 0; i < types.size(); i++ ) {
+				if ( i > 0 ) {
+					signature.append( ',' );
+				}
+				if ( !appendSignature( types.get( i ), signature, typeVariables ) ) {
+					return false;
+				}
+			}
+		}
+		signature.append( close );
+		return true;
+	}
+
+	private static void appendClassName(ClassDetails classDetails, StringBuilder signature) {
+		signature.append( classDetails == null ? "?" : classDetails.getName() );
+	}
+
+	private record Key(Class<?> implementationType, String signature) {
+	}
+}
@@ -9,17 +9,31 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.hibernate.models.internal.AnnotationTargetSupport;
+import org.hibernate.models.internal.RepeatedUsageCache;
 import org.hibernate.models.spi.ModelsContext;
 
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractAnnotationTarget implements AnnotationTargetSupport {
 	private final ModelsContext modelContext;
-	private final Map<Class<? extends Annotation>, ? extends Annotation> usageMap = new HashMap<>();
+	private final Map<Class<? extends Annotation>, ? extends Annotation> usageMap;
+	private final RepeatedUsageCache repeatedUsageCache = new RepeatedUsageCache();
 
 	public AbstractAnnotationTarget(ModelsContext modelContext) {
 		this.modelContext = modelContext;
+		this.usageMap = new HashMap<>();
+	}
+
+	/**
+	 * Form used when the number of annotation usages is known up front, e.g. from
+	 * {@linkplain DynamicModelBuilder}, sizing the usage container accordingly.
+	 */
+	protected AbstractAnnotationTarget(ModelsContext modelContext, int expectedUsageCount) {
+		this.modelContext = modelContext;
+		this.usageMap = new HashMap<>( determineProperSizing( expectedUsageCount ) );
 	}
 
 	public ModelsContext getModelContext() {
@@ -34,5 +48,11 @@ public abstract class AbstractAnnotationTarget implements AnnotationTargetSuppor
 	@Override
 	public void clearAnnotationUsages() {
 		usageMap.clear();
+		annotationUsagesChanged();
+	}
+
+	@Override
+	public RepeatedUsageCache getRepeatedUsageCache() {
+		return repeatedUsageCache;
 	}
 }
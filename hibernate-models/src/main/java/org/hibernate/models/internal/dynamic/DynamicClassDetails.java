@@ -11,11 +11,17 @@ import java.util.List;
 import org.hibernate.models.DynamicClassException;
 import org.hibernate.models.internal.ClassDetailsSupport;
 import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.DerivedMemberState;
+import org.hibernate.models.internal.EffectiveUsageCache;
+import org.hibernate.models.internal.SupertypeClosure;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.ResolvedHierarchy;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
@@ -39,6 +45,10 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 	private List<FieldDetails> fields;
 	private List<MethodDetails> methods;
 
+	private DerivedMemberState derivedMemberState;
+	private SupertypeClosure supertypeClosure;
+	private final EffectiveUsageCache effectiveUsageCache;
+
 	private Class<?> javaType;
 
 	public DynamicClassDetails(String name, ModelsContext modelsContext) {
@@ -78,6 +88,29 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 		this.superClass = superClass;
 		this.genericSuperType = genericSuperType;
 		this.javaType = javaType;
+		this.effectiveUsageCache = new EffectiveUsageCache( this, modelsContext );
+		this.derivedMemberState = new DerivedMemberState( modelsContext );
+	}
+
+	/**
+	 * Form used by {@linkplain DynamicModelBuilder}, sizing the usage container for the given number of usages.
+	 */
+	DynamicClassDetails(
+			String name,
+			String className,
+			boolean isAbstract,
+			ClassDetails superClass,
+			TypeDetails genericSuperType,
+			int expectedUsageCount,
+			ModelsContext modelsContext) {
+		super( modelsContext, expectedUsageCount );
+		this.name = name;
+		this.className = className;
+		this.isAbstract = isAbstract;
+		this.superClass = superClass;
+		this.genericSuperType = genericSuperType;
+		this.effectiveUsageCache = new EffectiveUsageCache( this, modelsContext );
+		this.derivedMemberState = new DerivedMemberState( modelsContext );
 	}
 
 	@Override
@@ -158,6 +191,20 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 			this.fields = new ArrayList<>();
 		}
 		this.fields.add( fieldDetails );
+		membersChanged();
+	}
+
+	/**
+	 * Adds all the given fields at once.
+	 */
+	public void addFields(List<? extends FieldDetails> fieldDetailsList) {
+		if ( fields == null ) {
+			this.fields = new ArrayList<>( fieldDetailsList );
+		}
+		else {
+			this.fields.addAll( fieldDetailsList );
+		}
+		membersChanged();
 	}
 
 	@Override
@@ -179,6 +226,41 @@ public class DynamicClassDetails extends AbstractAnnotationTarget implements Cla
 			this.methods = new ArrayList<>();
 		}
 		this.methods.add( methodDetails );
+		membersChanged();
+	}
+
+	private void membersChanged() {
+		final DerivedMemberState cleared = derivedMemberState.cleared();
+		derivedMemberState = cleared;
+		cleared.announceChange();
+	}
+
+	@Override
+	public PersistableMembers getPersistableMembers() {
+		return derivedMemberState.getPersistableMembers( this );
+	}
+
+	@Override
+	public ResolvedHierarchy getResolvedHierarchy() {
+		return derivedMemberState.getResolvedHierarchy( this );
+	}
+
+	@Override
+	public ModelFingerprint getFingerprint(ModelsContext modelsContext) {
+		return derivedMemberState.getFingerprint( this, modelsContext );
+	}
+
+	@Override
+	public SupertypeClosure getSupertypeClosure() {
+		if ( supertypeClosure == null ) {
+			supertypeClosure = SupertypeClosure.from( this );
+		}
+		return supertypeClosure;
+	}
+
+	@Override
+	public EffectiveUsageCache getEffectiveUsageCache() {
+		return effectiveUsageCache;
 	}
 
 	/**
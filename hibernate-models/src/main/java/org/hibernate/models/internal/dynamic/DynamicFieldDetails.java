@@ -70,6 +70,29 @@ public class DynamicFieldDetails extends AbstractAnnotationTarget implements Fie
 		assert isPersistable();
 	}
 
+	/**
+	 * Form used by {@linkplain DynamicModelBuilder}, sizing the usage container for the given number of usages.
+	 */
+	DynamicFieldDetails(
+			String name,
+			TypeDetails type,
+			ClassDetails declaringType,
+			int modifierFlags,
+			boolean isArray,
+			boolean isPlural,
+			int expectedUsageCount,
+			ModelsContext modelsContext) {
+		super( modelsContext, expectedUsageCount );
+		this.name = name;
+		this.type = type;
+		this.declaringType = declaringType;
+		this.modifierFlags = modifierFlags;
+		this.isArray = isArray;
+		this.isPlural = isPlural;
+
+		assert isPersistable();
+	}
+
 	@Override
 	public String getName() {
 		return name;
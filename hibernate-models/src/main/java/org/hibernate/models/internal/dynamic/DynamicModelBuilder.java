@@ -0,0 +1,332 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal.dynamic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.TypeDetails;
+
+import static org.hibernate.models.internal.ModifierUtils.DYNAMIC_ATTRIBUTE_MODIFIERS;
+import static org.hibernate.models.internal.util.CollectionHelper.arrayList;
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
+
+/**
+ * Builds many {@linkplain DynamicClassDetails dynamic classes} at once, e.g. from external
+ * schema definitions.
+ * <p/>
+ * Classes, their attributes and annotation usages are first described through
+ * {@linkplain #defineClass} and the returned {@linkplain ClassBuilder}.  {@linkplain #build()}
+ * then
+ * <ol>
+ *     <li>validates all type references (super classes and attribute types) at once, reporting every unknown name</li>
+ *     <li>creates all the classes, then adds their fields - with fields and usage containers sized up front</li>
+ *     <li>registers all the classes with the {@linkplain org.hibernate.models.spi.ClassDetailsRegistry registry} as one batch</li>
+ * </ol>
+ * Type references may point to other classes of the same batch, in any order, or to classes known
+ * to the registry.
+ */
+public class DynamicModelBuilder {
+	private final ModelsContext modelsContext;
+	private final Map<String, ClassBuilder> classBuilders = new LinkedHashMap<>();
+
+	public DynamicModelBuilder(ModelsContext modelsContext) {
+		this.modelsContext = modelsContext;
+	}
+
+	/**
+	 * Describe a dynamic class with the given name.
+	 *
+	 * @throws ModelsException if a class with that name was already defined on this builder
+	 */
+	public ClassBuilder defineClass(String name) {
+		final ClassBuilder classBuilder = new ClassBuilder( name );
+		if ( classBuilders.putIfAbsent( name, classBuilder ) != null ) {
+			throw new ModelsException( "Dynamic class already defined - " + name );
+		}
+		return classBuilder;
+	}
+
+	/**
+	 * Build and register all the defined classes.
+	 *
+	 * @return The built classes, in the order they were defined
+	 *
+	 * @throws UnknownClassException if any of the referenced types is unknown
+	 */
+	public List<DynamicClassDetails> build() {
+		final List<DynamicClassDetails> result = new BuildProcess( resolveReferencedTypes() ).build();
+
+		final Map<String, DynamicClassDetails> registrations = new LinkedHashMap<>( determineProperSizing( result.size() ) );
+		for ( DynamicClassDetails classDetails : result ) {
+			registrations.put( classDetails.getName(), classDetails );
+		}
+		modelsContext.getClassDetailsRegistry()
+				.as( MutableClassDetailsRegistry.class )
+				.addClassDetails( registrations );
+
+		classBuilders.clear();
+		return result;
+	}
+
+	/**
+	 * Resolve every type referenced from the batch which is not itself part of the batch,
+	 * collecting all unknown names into a single failure.
+	 */
+	private Map<String, ClassDetails> resolveReferencedTypes() {
+		final Set<String> referencedNames = new LinkedHashSet<>();
+		for ( ClassBuilder classBuilder : classBuilders.values() ) {
+			if ( classBuilder.superClassName != null ) {
+				referencedNames.add( classBuilder.superClassName );
+			}
+			for ( AttributeBuilder attributeBuilder : classBuilder.attributes ) {
+				referencedNames.add( attributeBuilder.typeName );
+			}
+		}
+		referencedNames.removeAll( classBuilders.keySet() );
+
+		final Map<String, ClassDetails> referencedTypes = new HashMap<>( determineProperSizing( referencedNames.size() ) );
+		final List<String> unknownNames = new ArrayList<>();
+		for ( String referencedName : referencedNames ) {
+			try {
+				referencedTypes.put( referencedName, modelsContext.getClassDetailsRegistry().resolveClassDetails( referencedName ) );
+			}
+			catch (UnknownClassException e) {
+				unknownNames.add( referencedName );
+			}
+		}
+
+		if ( !unknownNames.isEmpty() ) {
+			throw new UnknownClassException( "Unknown types referenced from dynamic model - " + unknownNames );
+		}
+		return referencedTypes;
+	}
+
+	/**
+	 * State of a single {@linkplain #build()} call.  Built in two passes - first every class
+	 * is created, super classes before their subclasses regardless of definition order; then
+	 * the attributes are added, at which point any class of the batch may be referenced.
+	 */
+	private class BuildProcess {
+		private final Map<String, ClassDetails> referencedTypes;
+		private final Map<String, DynamicClassDetails> built = new HashMap<>( determineProperSizing( classBuilders.size() ) );
+		private final Map<String, TypeDetails> attributeTypes = new HashMap<>();
+		private final Set<String> superClassChain = new LinkedHashSet<>();
+
+		private BuildProcess(Map<String, ClassDetails> referencedTypes) {
+			this.referencedTypes = referencedTypes;
+		}
+
+		private List<DynamicClassDetails> build() {
+			final List<DynamicClassDetails> result = arrayList( classBuilders.size() );
+			for ( ClassBuilder classBuilder : classBuilders.values() ) {
+				result.add( buildClass( classBuilder ) );
+			}
+			for ( DynamicClassDetails classDetails : result ) {
+				applyAttributes( classBuilders.get( classDetails.getName() ), classDetails );
+			}
+			return result;
+		}
+
+		private DynamicClassDetails buildClass(ClassBuilder classBuilder) {
+			final DynamicClassDetails existing = built.get( classBuilder.name );
+			if ( existing != null ) {
+				return existing;
+			}
+
+			final ClassDetails superClass;
+			if ( classBuilder.superClassName == null ) {
+				superClass = null;
+			}
+			else {
+				if ( !superClassChain.add( classBuilder.name ) ) {
+					throw new ModelsException( "Circular super class reference in dynamic model - " + superClassChain );
+				}
+				final ClassBuilder superClassBuilder = classBuilders.get( classBuilder.superClassName );
+				superClass = superClassBuilder == null
+						? referencedTypes.get( classBuilder.superClassName )
+						: buildClass( superClassBuilder );
+				superClassChain.remove( classBuilder.name );
+			}
+
+			final DynamicClassDetails classDetails = new DynamicClassDetails(
+					classBuilder.name,
+					classBuilder.className,
+					classBuilder.isAbstract,
+					superClass,
+					superClass == null ? null : new ClassTypeDetailsImpl( superClass, TypeDetails.Kind.CLASS ),
+					classBuilder.usages.size(),
+					modelsContext
+			);
+			classBuilder.usages.forEach( classDetails::addAnnotationUsage );
+			built.put( classBuilder.name, classDetails );
+			return classDetails;
+		}
+
+		private void applyAttributes(ClassBuilder classBuilder, DynamicClassDetails classDetails) {
+			if ( classBuilder.attributes.isEmpty() ) {
+				return;
+			}
+
+			final List<FieldDetails> fields = arrayList( classBuilder.attributes.size() );
+			for ( AttributeBuilder attributeBuilder : classBuilder.attributes ) {
+				final DynamicFieldDetails field = new DynamicFieldDetails(
+						attributeBuilder.name,
+						attributeType( attributeBuilder.typeName ),
+						classDetails,
+						DYNAMIC_ATTRIBUTE_MODIFIERS,
+						attributeBuilder.isArray,
+						attributeBuilder.isPlural,
+						attributeBuilder.usages.size(),
+						modelsContext
+				);
+				attributeBuilder.usages.forEach( field::addAnnotationUsage );
+				fields.add( field );
+			}
+			classDetails.addFields( fields );
+		}
+
+		private TypeDetails attributeType(String typeName) {
+			final TypeDetails existing = attributeTypes.get( typeName );
+			if ( existing != null ) {
+				return existing;
+			}
+			final ClassDetails batchType = built.get( typeName );
+			final TypeDetails type = new ClassTypeDetailsImpl(
+					batchType == null ? referencedTypes.get( typeName ) : batchType,
+					TypeDetails.Kind.CLASS
+			);
+			attributeTypes.put( typeName, type );
+			return type;
+		}
+	}
+
+	/**
+	 * Describes a single dynamic class.
+	 */
+	public class ClassBuilder {
+		private final String name;
+		private String className;
+		private boolean isAbstract;
+		private String superClassName;
+		private final List<Annotation> usages = new ArrayList<>();
+		private final List<AttributeBuilder> attributes = new ArrayList<>();
+
+		private ClassBuilder(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * The name of the physical Java class, if one.
+		 */
+		public ClassBuilder className(String className) {
+			this.className = className;
+			return this;
+		}
+
+		public ClassBuilder isAbstract(boolean isAbstract) {
+			this.isAbstract = isAbstract;
+			return this;
+		}
+
+		/**
+		 * The name of the super class - either another class of this batch or one known to the registry.
+		 */
+		public ClassBuilder superClass(String superClassName) {
+			this.superClassName = superClassName;
+			return this;
+		}
+
+		/**
+		 * Add the given usage to the class.
+		 */
+		public ClassBuilder addAnnotationUsage(Annotation usage) {
+			usages.add( usage );
+			return this;
+		}
+
+		/**
+		 * Create a usage of the given annotation on the class, returning it for configuration.
+		 */
+		public <A extends Annotation> A applyAnnotationUsage(AnnotationDescriptor<A> descriptor) {
+			final A usage = descriptor.createUsage( modelsContext );
+			usages.add( usage );
+			return usage;
+		}
+
+		/**
+		 * Describe an attribute of the class.
+		 *
+		 * @param name The attribute name
+		 * @param typeName The name of the attribute type - either a class of this batch or one known to the registry
+		 */
+		public AttributeBuilder applyAttribute(String name, String typeName) {
+			final AttributeBuilder attributeBuilder = new AttributeBuilder( name, typeName );
+			attributes.add( attributeBuilder );
+			return attributeBuilder;
+		}
+	}
+
+	/**
+	 * Describes a single attribute of a dynamic class.
+	 */
+	public class AttributeBuilder {
+		private final String name;
+		private final String typeName;
+		private boolean isArray;
+		private boolean isPlural;
+		private List<Annotation> usages = Collections.emptyList();
+
+		private AttributeBuilder(String name, String typeName) {
+			this.name = name;
+			this.typeName = typeName;
+		}
+
+		public AttributeBuilder isArray(boolean isArray) {
+			this.isArray = isArray;
+			return this;
+		}
+
+		public AttributeBuilder isPlural(boolean isPlural) {
+			this.isPlural = isPlural;
+			return this;
+		}
+
+		/**
+		 * Add the given usage to the attribute.
+		 */
+		public AttributeBuilder addAnnotationUsage(Annotation usage) {
+			if ( usages.isEmpty() ) {
+				usages = new ArrayList<>( 2 );
+			}
+			usages.add( usage );
+			return this;
+		}
+
+		/**
+		 * Create a usage of the given annotation on the attribute, returning it for configuration.
+		 */
+		public <A extends Annotation> A applyAnnotationUsage(AnnotationDescriptor<A> descriptor) {
+			final A usage = descriptor.createUsage( modelsContext );
+			addAnnotationUsage( usage );
+			return usage;
+		}
+	}
+}
@@ -10,6 +10,8 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import org.hibernate.models.internal.AnnotationTargetSupport;
+import org.hibernate.models.internal.RepeatedUsageCache;
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.ModelsContext;
 
@@ -23,7 +25,8 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 	private final Supplier<Annotation[]> annotationSupplier;
 	private final ModelsContext modelContext;
 
-	private Map<Class<? extends Annotation>, ? extends Annotation> usagesMap;
+	private final LazyReference<Map<Class<? extends Annotation>, ? extends Annotation>> usagesMap = new LazyReference<>();
+	private final RepeatedUsageCache repeatedUsageCache = new RepeatedUsageCache();
 
 	public AbstractJdkAnnotationTarget(
 			Supplier<Annotation[]> annotationSupplier,
@@ -38,10 +41,7 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 
 	@Override
 	public Map<Class<? extends Annotation>, ? extends Annotation> getUsageMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap();
-		}
-		return usagesMap;
+		return usagesMap.get( this, AbstractJdkAnnotationTarget::buildUsagesMap );
 	}
 
 	private Map<Class<? extends Annotation>, ? extends Annotation> buildUsagesMap() {
@@ -51,7 +51,10 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 			final AnnotationDescriptor<Annotation> descriptor = (AnnotationDescriptor<Annotation>) modelContext
 					.getAnnotationDescriptorRegistry()
 					.getDescriptor( annotation.annotationType() );
-			result.put( annotation.annotationType(), descriptor.createUsage( annotation, modelContext ) );
+			result.put(
+					annotation.annotationType(),
+					modelContext.getAnnotationUsageInterner().intern( descriptor.createUsage( annotation, modelContext ) )
+			);
 		}
 		return result;
 	}
@@ -59,11 +62,18 @@ public abstract class AbstractJdkAnnotationTarget implements AnnotationTargetSup
 	@Override
 	public void clearAnnotationUsages() {
 		getUsageMap().clear();
+		annotationUsagesChanged();
 	}
 
 	@Override
 	public <X extends Annotation> void addAnnotationUsage(X annotationUsage) {
 		//noinspection unchecked,rawtypes
 		( (Map) getUsageMap() ).put( annotationUsage.annotationType(), annotationUsage );
+		annotationUsagesChanged();
+	}
+
+	@Override
+	public RepeatedUsageCache getRepeatedUsageCache() {
+		return repeatedUsageCache;
 	}
 }
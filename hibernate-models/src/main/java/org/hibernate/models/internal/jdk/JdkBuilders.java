@@ -70,13 +70,11 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 		}
 		catch (UnknownClassException e) {
 			// see if it might be a package name...
-			try {
-				final Class<Object> packageInfoClass = modelsContext.getClassLoading().classForName( name + ".package-info" );
-				return buildClassDetailsStatic( packageInfoClass, modelsContext );
-			}
-			catch (UnknownClassException noPackage) {
+			final Class<Object> packageInfoClass = modelsContext.getClassLoading().findClassForName( name + ".package-info" );
+			if ( packageInfoClass == null ) {
 				throw e;
 			}
+			return buildClassDetailsStatic( packageInfoClass, modelsContext );
 		}
 	}
 
@@ -124,6 +122,20 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 			Method method,
 			ClassDetails declaringType,
 			ModelsContext modelsContext) {
+		final JdkMethodDetails accessorDetails = buildAccessorDetails( method, declaringType, modelsContext );
+		if ( accessorDetails != null ) {
+			return accessorDetails;
+		}
+		return new JdkMethodDetails( method, MethodDetails.MethodKind.OTHER, null, declaringType, modelsContext );
+	}
+
+	/**
+	 * Build the details for the method if it is a getter or setter; otherwise return {@code null}.
+	 */
+	public static JdkMethodDetails buildAccessorDetails(
+			Method method,
+			ClassDetails declaringType,
+			ModelsContext modelsContext) {
 		if ( method.getParameterCount() == 0 ) {
 			// could be a getter
 			final Class<?> returnType = method.getReturnType();
@@ -146,7 +158,7 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 			return buildSetterDetails( method, declaringType, modelsContext );
 		}
 
-		return new JdkMethodDetails( method, MethodDetails.MethodKind.OTHER, null, declaringType, modelsContext );
+		return null;
 	}
 
 	public static JdkMethodDetails buildGetterDetails(
@@ -163,7 +175,7 @@ public class JdkBuilders implements ClassDetailsBuilder, Serializable {
 	}
 
 	private static TypeDetails toTypeDetails(Type genericType, ModelsContext modelsContext) {
-		return new JdkTrackingTypeSwitcher( modelsContext ).switchType( genericType );
+		return JdkTrackingTypeSwitcher.standardSwitchType( genericType, modelsContext );
 	}
 
 	public static JdkMethodDetails buildSetterDetails(
@@ -12,23 +12,35 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.models.internal.ClassDetailsSupport;
+import org.hibernate.models.internal.DerivedMemberState;
+import org.hibernate.models.internal.EffectiveUsageCache;
+import org.hibernate.models.internal.SupertypeClosure;
 import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.internal.util.LazyReference;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.ResolvedHierarchy;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.TypeDetails;
 import org.hibernate.models.spi.TypeVariableDetails;
 
+import static org.hibernate.models.internal.jdk.JdkBuilders.buildAccessorDetails;
 import static org.hibernate.models.internal.jdk.JdkBuilders.buildMethodDetails;
 import static org.hibernate.models.internal.util.CollectionHelper.arrayList;
+import static org.hibernate.models.internal.util.CollectionHelper.determineProperSizing;
 
 /**
  * ClassDetails implementation based on a {@link Class} reference
@@ -40,13 +52,20 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 	private final Class<?> managedClass;
 
 	private final ClassDetails superClass;
-	private List<TypeDetails> interfaces;
-	private TypeDetails genericSuperType;
-	private List<TypeVariableDetails> typeParameters;
+	private volatile List<TypeDetails> interfaces;
+	private volatile TypeDetails genericSuperType;
+	private volatile List<TypeVariableDetails> typeParameters;
 
-	private List<FieldDetails> fields;
-	private List<MethodDetails> methods;
-	private List<RecordComponentDetails> recordComponents;
+	private final LazyReference<List<FieldDetails>> fields = new LazyReference<>();
+	private final LazyReference<List<RecordComponentDetails>> recordComponents = new LazyReference<>();
+	// methods and accessorMethods are published together, guarded by `this`
+	private volatile List<MethodDetails> methods;
+	// getters and setters only, built when the other methods are not (yet) needed
+	private volatile List<MethodDetails> accessorMethods;
+
+	private volatile DerivedMemberState derivedMemberState;
+	private final LazyReference<SupertypeClosure> supertypeClosure = new LazyReference<>();
+	private final EffectiveUsageCache effectiveUsageCache;
 
 	public JdkClassDetails(
 			Class<?> managedClass,
@@ -62,6 +81,8 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		this.name = name;
 		this.managedClass = managedClass;
 		this.superClass = determineSuperClass( managedClass, modelContext );
+		this.effectiveUsageCache = new EffectiveUsageCache( this, modelContext );
+		this.derivedMemberState = new DerivedMemberState( modelContext );
 	}
 
 	private static ClassDetails determineSuperClass(Class<?> managedClass, ModelsContext modelContext) {
@@ -133,16 +154,20 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 
 	@Override
 	public TypeDetails getGenericSuperType() {
+		TypeDetails genericSuperType = this.genericSuperType;
 		if ( genericSuperType == null && managedClass.getGenericSuperclass() != null ) {
 			genericSuperType = new JdkTrackingTypeSwitcher( getModelContext() ).switchType( managedClass.getGenericSuperclass() );
+			this.genericSuperType = genericSuperType;
 		}
 		return genericSuperType;
 	}
 
 	@Override
 	public List<TypeDetails> getImplementedInterfaces() {
+		List<TypeDetails> interfaces = this.interfaces;
 		if ( interfaces == null ) {
 			interfaces = collectInterfaces();
+			this.interfaces = interfaces;
 		}
 		return interfaces;
 	}
@@ -164,8 +189,10 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 
 	@Override
 	public List<TypeVariableDetails> getTypeParameters() {
+		List<TypeVariableDetails> typeParameters = this.typeParameters;
 		if ( typeParameters == null ) {
 			typeParameters = collectTypeParameters();
+			this.typeParameters = typeParameters;
 		}
 		return typeParameters;
 	}
@@ -191,43 +218,141 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			final Field[] reflectionFields = managedClass.getDeclaredFields();
-			this.fields = arrayList( reflectionFields.length );
-			for ( int i = 0; i < reflectionFields.length; i++ ) {
-				final Field reflectionField = reflectionFields[i];
-				if ( reflectionField.isSynthetic() ) {
-					continue;
-				}
-				fields.add( new JdkFieldDetails( reflectionField, this, getModelContext() ) );
+		return fields.get( this, JdkClassDetails::buildFields );
+	}
+
+	private List<FieldDetails> buildFields() {
+		final Field[] reflectionFields = managedClass.getDeclaredFields();
+		final List<FieldDetails> result = arrayList( reflectionFields.length );
+		for ( int i = 0; i < reflectionFields.length; i++ ) {
+			final Field reflectionField = reflectionFields[i];
+			if ( reflectionField.isSynthetic() ) {
+				continue;
 			}
+			result.add( new JdkFieldDetails( reflectionField, this, getModelContext() ) );
 		}
-		return fields;
+		return result;
 	}
 
 	@Override
 	public void addField(FieldDetails fieldDetails) {
 		getFields().add( fieldDetails );
+		membersChanged();
 	}
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
+		final List<MethodDetails> methods = this.methods;
+		if ( methods != null ) {
+			return methods;
+		}
+
+		final List<MethodDetails> accessorMethods = this.accessorMethods;
+		// reuse the accessors already handed out.  getDeclaredMethods() returns new Method copies
+		// in no particular order, so they are matched by (structural) equality
+		final Map<Method, MethodDetails> accessorsByMethod;
+		if ( accessorMethods == null ) {
+			accessorsByMethod = Map.of();
+		}
+		else {
+			accessorsByMethod = new HashMap<>( determineProperSizing( accessorMethods.size() ) );
+			for ( int i = 0; i < accessorMethods.size(); i++ ) {
+				accessorsByMethod.put( accessorMethods.get( i ).toJavaMember(), accessorMethods.get( i ) );
+			}
+		}
+
+		final Method[] reflectionMethods = managedClass.getDeclaredMethods();
+		final List<MethodDetails> built = arrayList( reflectionMethods.length );
+		for ( int i = 0; i < reflectionMethods.length; i++ ) {
+			if ( reflectionMethods[i].isSynthetic() ) {
+				continue;
+			}
+			final MethodDetails accessor = accessorsByMethod.get( reflectionMethods[i] );
+			built.add( accessor != null ? accessor : buildMethodDetails( reflectionMethods[i], this, getModelContext() ) );
+		}
+		synchronized ( this ) {
+			if ( this.methods == null ) {
+				if ( this.accessorMethods != accessorMethods ) {
+					// the accessors were published while we were building, start over to reuse them
+					return getMethods();
+				}
+				this.methods = built;
+				this.accessorMethods = null;
+			}
+			return this.methods;
+		}
+	}
+
+	@Override
+	public void forEachAccessorMethod(Consumer<MethodDetails> consumer) {
+		if ( methods != null ) {
+			ClassDetailsSupport.super.forEachAccessorMethod( consumer );
+			return;
+		}
+
+		List<MethodDetails> accessorMethods = this.accessorMethods;
+		if ( accessorMethods == null ) {
 			final Method[] reflectionMethods = managedClass.getDeclaredMethods();
-			this.methods = arrayList( reflectionMethods.length );
+			final List<MethodDetails> built = new ArrayList<>();
 			for ( int i = 0; i < reflectionMethods.length; i++ ) {
 				if ( reflectionMethods[i].isSynthetic() ) {
 					continue;
 				}
-				this.methods.add( buildMethodDetails( reflectionMethods[i], this, getModelContext() ) );
+				final MethodDetails accessorDetails = buildAccessorDetails( reflectionMethods[i], this, getModelContext() );
+				if ( accessorDetails != null ) {
+					built.add( accessorDetails );
+				}
+			}
+			synchronized ( this ) {
+				if ( this.methods != null ) {
+					// all methods were published while we were building
+					ClassDetailsSupport.super.forEachAccessorMethod( consumer );
+					return;
+				}
+				if ( this.accessorMethods == null ) {
+					this.accessorMethods = built;
+				}
+				accessorMethods = this.accessorMethods;
 			}
 		}
-		return methods;
+		accessorMethods.forEach( consumer );
 	}
 
 	@Override
 	public void addMethod(MethodDetails methodDetails) {
 		getMethods().add( methodDetails );
+		membersChanged();
+	}
+
+	private void membersChanged() {
+		final DerivedMemberState cleared = derivedMemberState.cleared();
+		derivedMemberState = cleared;
+		cleared.announceChange();
+	}
+
+	@Override
+	public PersistableMembers getPersistableMembers() {
+		return derivedMemberState.getPersistableMembers( this );
+	}
+
+	@Override
+	public ResolvedHierarchy getResolvedHierarchy() {
+		return derivedMemberState.getResolvedHierarchy( this );
+	}
+
+	@Override
+	public ModelFingerprint getFingerprint(ModelsContext modelsContext) {
+		return derivedMemberState.getFingerprint( this, modelsContext );
+	}
+
+	@Override
+	public SupertypeClosure getSupertypeClosure() {
+		return supertypeClosure.get( this, SupertypeClosure::from );
+	}
+
+	@Override
+	public EffectiveUsageCache getEffectiveUsageCache() {
+		return effectiveUsageCache;
 	}
 
 	@Override
@@ -235,14 +360,16 @@ public class JdkClassDetails extends AbstractJdkAnnotationTarget implements Clas
 		if ( !isRecord() ) {
 			return Collections.emptyList();
 		}
-		if ( recordComponents == null ) {
-			final RecordComponent[] jdkRecordComponents = managedClass.getRecordComponents();
-			recordComponents = arrayList( jdkRecordComponents.length );
-			for ( int i = 0; i < jdkRecordComponents.length; i++ ) {
-				recordComponents.add( new JdkRecordComponentDetails( jdkRecordComponents[i], this, getModelContext() ) );
-			}
+		return recordComponents.get( this, JdkClassDetails::buildRecordComponents );
+	}
+
+	private List<RecordComponentDetails> buildRecordComponents() {
+		final RecordComponent[] jdkRecordComponents = managedClass.getRecordComponents();
+		final List<RecordComponentDetails> result = arrayList( jdkRecordComponents.length );
+		for ( int i = 0; i < jdkRecordComponents.length; i++ ) {
+			result.add( new JdkRecordComponentDetails( jdkRecordComponents[i], this, getModelContext() ) );
 		}
-		return recordComponents;
+		return result;
 	}
 
 	@Override
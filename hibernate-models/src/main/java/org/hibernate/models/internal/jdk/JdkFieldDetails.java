@@ -39,7 +39,7 @@ public class JdkFieldDetails extends AbstractJdkAnnotationTarget implements Fiel
 		super( field::getAnnotations, modelsContext );
 		this.field = field;
 		this.declaringType = declaringType;
-		this.type = new JdkTrackingTypeSwitcher( modelsContext ).switchType( field.getGenericType() );
+		this.type = JdkTrackingTypeSwitcher.standardSwitchType( field.getGenericType(), modelsContext );
 
 		this.isArray = field.getType().isArray();
 		this.isPlural = isArray
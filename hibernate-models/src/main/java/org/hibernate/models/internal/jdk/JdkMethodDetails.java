@@ -41,8 +41,10 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 	private final TypeDetails type;
 	private final ClassDetails declaringType;
 
-	private final ClassDetails returnType;
-	private final List<ClassDetails> argumentTypes;
+	// resolved lazily - resolving them for every method cascades into
+	// building ClassDetails for types nobody ever looks at
+	private volatile ClassDetails returnType;
+	private volatile List<ClassDetails> argumentTypes;
 
 	private final boolean isArray;
 	private final boolean isPlural;
@@ -59,16 +61,6 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 		this.type = type;
 		this.declaringType = declaringType;
 
-		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
-
-		this.returnType = classDetailsRegistry.resolveClassDetails( method.getReturnType().getName() );
-
-		this.argumentTypes = new ArrayList<>( method.getParameterCount() );
-		for ( int i = 0; i < method.getParameterTypes().length; i++ ) {
-			argumentTypes.add( classDetailsRegistry.resolveClassDetails( method.getParameterTypes()[i].getName() ) );
-		}
-
-
 		switch ( methodKind ) {
 			case GETTER -> {
 				this.isArray = method.getReturnType().isArray();
@@ -162,11 +154,26 @@ public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements Met
 
 	@Override
 	public ClassDetails getReturnType() {
+		ClassDetails returnType = this.returnType;
+		if ( returnType == null ) {
+			returnType = getModelContext().getClassDetailsRegistry().resolveClassDetails( method.getReturnType().getName() );
+			this.returnType = returnType;
+		}
 		return returnType;
 	}
 
 	@Override
 	public List<ClassDetails> getArgumentTypes() {
+		List<ClassDetails> argumentTypes = this.argumentTypes;
+		if ( argumentTypes == null ) {
+			final ClassDetailsRegistry classDetailsRegistry = getModelContext().getClassDetailsRegistry();
+			final Class<?>[] parameterTypes = method.getParameterTypes();
+			argumentTypes = new ArrayList<>( parameterTypes.length );
+			for ( int i = 0; i < parameterTypes.length; i++ ) {
+				argumentTypes.add( classDetailsRegistry.resolveClassDetails( parameterTypes[i].getName() ) );
+			}
+			this.argumentTypes = argumentTypes;
+		}
 		return argumentTypes;
 	}
 
@@ -14,14 +14,16 @@ import org.hibernate.models.spi.ModelsContext;
  * @author Steve Ebersole
  */
 public class JdkNestedValueConverter<A extends Annotation> implements JdkValueConverter<A> {
-	private final AnnotationDescriptor<A> descriptor;
+	private final Class<A> annotationType;
 
-	public JdkNestedValueConverter(AnnotationDescriptor<A> descriptor) {
-		this.descriptor = descriptor;
+	public JdkNestedValueConverter(Class<A> annotationType) {
+		this.annotationType = annotationType;
 	}
 
 	@Override
 	public A convert(A rawValue, ModelsContext modelContext) {
+		// resolved per call, as the converter is shared by all contexts
+		final AnnotationDescriptor<A> descriptor = modelContext.getAnnotationDescriptorRegistry().getDescriptor( annotationType );
 		return descriptor.createUsage( rawValue, modelContext );
 	}
 }
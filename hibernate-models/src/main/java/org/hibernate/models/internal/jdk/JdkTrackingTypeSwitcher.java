@@ -29,10 +29,14 @@ public class JdkTrackingTypeSwitcher implements JdkTypeSwitcher {
 	private List<String> typeVariableIdentifiers;
 	private Map<String, List<TypeVariableReferenceDetailsImpl>> typeVariableRefXref;
 
+	/**
+	 * Switch the given member type, resolving it against the context's {@linkplain ModelsContext#getTypeDetailsPool() pool}.
+	 */
 	public static TypeDetails standardSwitchType(
 			Type type,
 			ModelsContext modelsContext) {
-		return new JdkTrackingTypeSwitcher( modelsContext ).switchType( type );
+		final TypeDetails switched = new JdkTrackingTypeSwitcher( modelsContext ).switchType( type );
+		return modelsContext.getTypeDetailsPool().intern( switched );
 	}
 
 	public JdkTrackingTypeSwitcher(ModelsContext modelsContext) {
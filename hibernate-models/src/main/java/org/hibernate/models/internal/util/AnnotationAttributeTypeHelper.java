@@ -29,11 +29,22 @@ import static org.hibernate.models.internal.StringTypeDescriptor.STRING_TYPE_DES
  * @author Steve Ebersole
  */
 public class AnnotationAttributeTypeHelper {
+	// the descriptors hold no context state, so one per attribute type is shared process-wide
+	private static final ClassValue<ValueTypeDescriptor<?>> TYPE_DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected ValueTypeDescriptor<?> computeValue(Class<?> attributeType) {
+			return buildTypeDescriptor( attributeType );
+		}
+	};
 
 	@SuppressWarnings("unchecked")
 	public static <T,W> ValueTypeDescriptor<W> resolveTypeDescriptor(Class<T> attributeType) {
 		assert attributeType != null;
+		return (ValueTypeDescriptor<W>) TYPE_DESCRIPTORS.get( attributeType );
+	}
 
+	@SuppressWarnings("unchecked")
+	private static <W> ValueTypeDescriptor<W> buildTypeDescriptor(Class<?> attributeType) {
 		if ( attributeType == byte.class ) {
 			return (ValueTypeDescriptor<W>) BYTE_TYPE_DESCRIPTOR;
 		}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe Set which only supports additions and which iterates in insertion order.
+ * <p/>
+ * Additions are serialized, while reads never block - iteration sees all elements added before
+ * it started (and possibly some added since) and never fails with a
+ * {@linkplain java.util.ConcurrentModificationException}.  An element is only reported as
+ * {@linkplain #contains contained} once it is visible to iteration.
+ */
+public class AppendOnlyOrderedSet<E> extends AbstractSet<E> {
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private final Set<Object> members = ConcurrentHashMap.newKeySet();
+
+	// `elements` is always written before `size`, and read after it
+	private volatile Object[] elements = NO_ELEMENTS;
+	private volatile int size;
+
+	@Override
+	public synchronized boolean add(E element) {
+		if ( members.contains( element ) ) {
+			return false;
+		}
+
+		final int size = this.size;
+		Object[] elements = this.elements;
+		if ( size == elements.length ) {
+			elements = Arrays.copyOf( elements, Math.max( 4, size * 2 ) );
+			this.elements = elements;
+		}
+		elements[size] = element;
+		this.size = size + 1;
+
+		members.add( element );
+		return true;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o != null && members.contains( o );
+	}
+
+	/**
+	 * The element at the given position, in insertion order.
+	 */
+	public E get(int index) {
+		Objects.checkIndex( index, size );
+		//noinspection unchecked
+		return (E) elements[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		final int size = this.size;
+		final Object[] elements = this.elements;
+		for ( int i = 0; i < size; i++ ) {
+			//noinspection unchecked
+			action.accept( (E) elements[i] );
+		}
+	}
+
+	@Override
+	public Object[] toArray() {
+		final int size = this.size;
+		return Arrays.copyOf( elements, size );
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		final int size = this.size;
+		final Object[] elements = this.elements;
+		return new Iterator<>() {
+			private int position;
+
+			@Override
+			public boolean hasNext() {
+				return position < size;
+			}
+
+			@Override
+			public E next() {
+				if ( position >= size ) {
+					throw new NoSuchElementException();
+				}
+				//noinspection unchecked
+				return (E) elements[position++];
+			}
+		};
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal.util;
+
+import java.util.function.Function;
+
+/**
+ * Lazily built, safely published reference.
+ * <p/>
+ * The value is built outside any lock, possibly by more than one thread at once, but only the
+ * first value built is ever published so that all callers see the same instance.  Builders are
+ * passed the owner explicitly so that callers can use non-capturing method references.
+ */
+public final class LazyReference<T> {
+	private volatile T value;
+
+	/**
+	 * The current value, or {@code null} if none was published yet.
+	 */
+	public T peek() {
+		return value;
+	}
+
+	/**
+	 * Access the value, building and publishing it if needed.
+	 */
+	public <O> T get(O owner, Function<? super O, ? extends T> builder) {
+		final T value = this.value;
+		if ( value != null ) {
+			return value;
+		}
+		return publish( null, builder.apply( owner ) );
+	}
+
+	/**
+	 * Publish {@code built} unless the value was changed from {@code expected} in the meantime.
+	 *
+	 * @return The published value
+	 */
+	public synchronized T publish(T expected, T built) {
+		if ( value == expected ) {
+			value = built;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.rendering.internal;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.hibernate.models.rendering.RenderingException;
+import org.hibernate.models.rendering.spi.AbstractRenderingTarget;
+import org.hibernate.models.rendering.spi.Renderer;
+import org.hibernate.models.rendering.spi.RenderingTarget;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+/**
+ * Renders many classes in parallel.  Each class is rendered independently into its own
+ * buffer, and the buffers are then written to the output in the order of the classes.
+ * <p/>
+ * Classes are processed in batches, so only a bounded number of rendered classes is held
+ * in memory at any time.  Rendering runs on the given {@linkplain ForkJoinPool pool}, which
+ * remains owned by the caller.
+ */
+public class ParallelRenderer {
+	/**
+	 * The number of classes per thread rendered in each batch
+	 */
+	public static final int BATCH_FACTOR = 4;
+
+	private final Function<RenderingTarget, Renderer> rendererCreator;
+	private final int indentationDepth;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Form rendering on the {@linkplain ForkJoinPool#commonPool() common pool}
+	 */
+	public ParallelRenderer() {
+		this( ForkJoinPool.commonPool() );
+	}
+
+	public ParallelRenderer(ForkJoinPool pool) {
+		this( SimpleRenderer::new, AbstractRenderingTarget.DEFAULT_INDENT_DEPTH, pool );
+	}
+
+	public ParallelRenderer(
+			Function<RenderingTarget, Renderer> rendererCreator,
+			int indentationDepth,
+			ForkJoinPool pool) {
+		this.rendererCreator = rendererCreator;
+		this.indentationDepth = indentationDepth;
+		this.pool = pool;
+	}
+
+	/**
+	 * Render the given classes to the {@code output}, in order.
+	 */
+	public void renderClasses(List<ClassDetails> classes, ModelsContext context, Appendable output) {
+		final int batchSize = Math.max( pool.getParallelism(), 1 ) * BATCH_FACTOR;
+		try {
+			for ( int start = 0; start < classes.size(); start += batchSize ) {
+				final List<ClassDetails> batch = classes.subList( start, Math.min( start + batchSize, classes.size() ) );
+				final List<String> rendered = pool.submit( () -> IntStream.range( 0, batch.size() )
+						.parallel()
+						.mapToObj( (index) -> renderClass( batch.get( index ), context ) )
+						.toList() ).join();
+				for ( int i = 0; i < rendered.size(); i++ ) {
+					output.append( rendered.get( i ) );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RenderingException( "Error writing rendered output", e );
+		}
+	}
+
+	private String renderClass(ClassDetails classDetails, ModelsContext context) {
+		final RenderingTargetCollectingImpl target = new RenderingTargetCollectingImpl( indentationDepth );
+		rendererCreator.apply( target ).renderClass( classDetails, context );
+		return target.toString();
+	}
+}
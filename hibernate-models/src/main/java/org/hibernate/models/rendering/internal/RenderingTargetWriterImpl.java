@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.rendering.internal;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+import org.hibernate.models.rendering.RenderingException;
+import org.hibernate.models.rendering.spi.AbstractRenderingTarget;
+
+/**
+ * RenderingTarget implementation which streams the rendering to a {@linkplain Writer}.
+ * <p/>
+ * Output is gathered in a reusable buffer and handed to the Writer in chunks, so the memory
+ * used is bounded by the {@linkplain #DEFAULT_BUFFER_SIZE buffer size} regardless of the size
+ * of the rendered model.  Call {@linkplain #flush()} (or {@linkplain #close()}) once rendering
+ * is complete.
+ */
+public class RenderingTargetWriterImpl extends AbstractRenderingTarget implements Flushable, Closeable {
+	public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+	private final Writer writer;
+	private final int bufferSize;
+	private final StringBuilder buffer;
+
+	public RenderingTargetWriterImpl(Writer writer) {
+		this( writer, DEFAULT_INDENT_DEPTH, DEFAULT_BUFFER_SIZE );
+	}
+
+	public RenderingTargetWriterImpl(Writer writer, int indentationDepth) {
+		this( writer, indentationDepth, DEFAULT_BUFFER_SIZE );
+	}
+
+	public RenderingTargetWriterImpl(Writer writer, int indentationDepth, int bufferSize) {
+		super( indentationDepth );
+		this.writer = writer;
+		this.bufferSize = bufferSize;
+		this.buffer = new StringBuilder( bufferSize );
+	}
+
+	/**
+	 * Create a target writing to the given channel using the given charset.
+	 */
+	public static RenderingTargetWriterImpl forChannel(WritableByteChannel channel, Charset charset) {
+		return new RenderingTargetWriterImpl( Channels.newWriter( channel, charset.newEncoder(), DEFAULT_BUFFER_SIZE ) );
+	}
+
+	@Override
+	protected void write(String chars) {
+		buffer.append( chars );
+		if ( buffer.length() >= bufferSize ) {
+			drainBuffer();
+		}
+	}
+
+	private void drainBuffer() {
+		try {
+			writer.append( buffer );
+		}
+		catch (IOException e) {
+			throw new RenderingException( "Error writing rendered output", e );
+		}
+		buffer.setLength( 0 );
+	}
+
+	@Override
+	public void flush() {
+		drainBuffer();
+		try {
+			writer.flush();
+		}
+		catch (IOException e) {
+			throw new RenderingException( "Error flushing rendered output", e );
+		}
+	}
+
+	@Override
+	public void close() {
+		flush();
+		try {
+			writer.close();
+		}
+		catch (IOException e) {
+			throw new RenderingException( "Error closing rendered output", e );
+		}
+	}
+}
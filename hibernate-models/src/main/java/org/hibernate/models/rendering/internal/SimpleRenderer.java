@@ -4,13 +4,18 @@
  */
 package org.hibernate.models.rendering.internal;
 
+import java.util.List;
+
 import org.hibernate.models.rendering.spi.AbstractRenderer;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.FieldDetails;
 import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ParameterizedTypeDetails;
 import org.hibernate.models.spi.RecordComponentDetails;
 import org.hibernate.models.rendering.spi.RenderingTarget;
 import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.WildcardTypeDetails;
 
 /**
  * A Renderer with a simplified output format.
@@ -31,18 +36,18 @@ public class SimpleRenderer extends AbstractRenderer {
 
 	@Override
 	public void renderClassDetails(ClassDetails classDetails, ModelsContext context) {
-		final String typeDeclarationPattern;
+		final String typeDeclarationKeyword;
 		if ( classDetails.isInterface() ) {
-			typeDeclarationPattern = "interface %s {";
+			typeDeclarationKeyword = "interface ";
 		}
 		else if ( classDetails.isRecord() ) {
-			typeDeclarationPattern = "record %s {";
+			typeDeclarationKeyword = "record ";
 		}
 		else {
-			typeDeclarationPattern = "class %s {";
+			typeDeclarationKeyword = "class ";
 		}
 
-		renderingTarget.addLine( typeDeclarationPattern, classDetails.getName() );
+		renderingTarget.addLine( typeDeclarationKeyword + classDetails.getName() + " {" );
 		renderingTarget.indent( 1 );
 
 		renderingTarget.addLine( "// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~" );
@@ -76,30 +81,78 @@ public class SimpleRenderer extends AbstractRenderer {
 
 	@Override
 	public void renderFieldDetails(FieldDetails fieldDetails, ModelsContext context) {
-		// todo : would be nice to render the type-details to include generics, etc
-		renderingTarget.addLine( "%s %s", fieldDetails.getType().determineRawClass().getName(), fieldDetails.getName() );
+		renderingTarget.addLine( renderType( fieldDetails.getType() ) + " " + fieldDetails.getName() );
 	}
 
 	@Override
 	public void renderMethodDetails(MethodDetails methodDetails, ModelsContext context) {
-		// todo : would be nice to render the type-details to include generics, etc
 		renderingTarget.addLine(
-				"%s %s (%s)",
-				methodDetails.getType() == null
-						? "void"
-						: methodDetails.getType().determineRawClass().getName(),
-				methodDetails.getName(),
-				methodDetails.getMethodKind().name()
+				renderType( methodDetails.getType() )
+						+ " " + methodDetails.getName()
+						+ " (" + methodDetails.getMethodKind().name() + ")"
 		);
 
 		renderingTarget.indent( 2 );
-		methodDetails.getArgumentTypes().forEach( (arg) -> renderingTarget.addLine( " - %s", arg.getName() ) );
+		methodDetails.getArgumentTypes().forEach( (arg) -> renderingTarget.addLine( " - " + arg.getName() ) );
 		renderingTarget.unindent( 2 );
 	}
 
 	@Override
 	public void renderRecordComponentDetails(RecordComponentDetails recordComponentDetails, ModelsContext context) {
-		// todo : would be nice to render the type-details to include generics, etc
-		renderingTarget.addLine( "%s %s", recordComponentDetails.getType().determineRawClass().getName(), recordComponentDetails.getName() );
+		renderingTarget.addLine( renderType( recordComponentDetails.getType() ) + " " + recordComponentDetails.getName() );
+	}
+
+	/**
+	 * Render the type, including generic details - e.g. {@code java.util.Map<java.lang.String, ? extends T>}
+	 */
+	protected String renderType(TypeDetails type) {
+		if ( type == null ) {
+			return "void";
+		}
+		final StringBuilder buffer = new StringBuilder();
+		appendType( type, buffer );
+		return buffer.toString();
+	}
+
+	private static void appendType(TypeDetails type, StringBuilder buffer) {
+		if ( type == null ) {
+			buffer.append( "?" );
+			return;
+		}
+
+		switch ( type.getTypeKind() ) {
+			case ARRAY -> {
+				appendType( type.asArrayType().getConstituentType(), buffer );
+				buffer.append( "[]" );
+			}
+			case PARAMETERIZED_TYPE -> {
+				final ParameterizedTypeDetails parameterizedType = type.asParameterizedType();
+				buffer.append( parameterizedType.getRawClassDetails().getName() );
+				final List<TypeDetails> arguments = parameterizedType.getArguments();
+				if ( !arguments.isEmpty() ) {
+					buffer.append( '<' );
+					for ( int i = 0; i < arguments.size(); i++ ) {
+						if ( i > 0 ) {
+							buffer.append( ", " );
+						}
+						appendType( arguments.get( i ), buffer );
+					}
+					buffer.append( '>' );
+				}
+			}
+			case WILDCARD_TYPE -> {
+				final WildcardTypeDetails wildcardType = type.asWildcardType();
+				final TypeDetails bound = wildcardType.getBound();
+				buffer.append( '?' );
+				if ( bound != null && !Object.class.getName().equals( bound.getName() ) ) {
+					buffer.append( wildcardType.isExtends() ? " extends " : " super " );
+					appendType( bound, buffer );
+				}
+			}
+			case TYPE_VARIABLE -> buffer.append( type.asTypeVariable().getIdentifier() );
+			case TYPE_VARIABLE_REFERENCE -> buffer.append( type.asTypeVariableReference().getIdentifier() );
+			case VOID -> buffer.append( "void" );
+			default -> buffer.append( type.determineRawClass().getName() );
+		}
 	}
 }
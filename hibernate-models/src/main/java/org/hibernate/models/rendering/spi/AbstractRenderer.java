@@ -70,10 +70,10 @@ public abstract class AbstractRenderer implements Renderer {
 		final List<AttributeDescriptor<?>> attributes = descriptor.getAttributes();
 
 		if ( attributes.isEmpty() ) {
-			getRenderingTarget().addLine( "@%s", descriptor.getAnnotationType().getName() );
+			getRenderingTarget().addLine( "@" + descriptor.getAnnotationType().getName() );
 		}
 		else {
-			getRenderingTarget().addLine( "@%s(", descriptor.getAnnotationType().getName() );
+			getRenderingTarget().addLine( "@" + descriptor.getAnnotationType().getName() + "(" );
 			getRenderingTarget().indent( 2 );
 
 			attributes.forEach( (attribute) -> attribute.getTypeDescriptor().render(
@@ -95,7 +95,7 @@ public abstract class AbstractRenderer implements Renderer {
 		final AnnotationDescriptor<A> descriptor = (AnnotationDescriptor<A>) context.getAnnotationDescriptorRegistry().getDescriptor( annotation.annotationType() );
 		final List<AttributeDescriptor<?>> attributes = descriptor.getAttributes();
 
-		getRenderingTarget().addLine( "%s = @%s(", name, descriptor.getAnnotationType().getName() );
+		getRenderingTarget().addLine( name + " = @" + descriptor.getAnnotationType().getName() + "(" );
 		getRenderingTarget().indent( 2 );
 
 		attributes.forEach( (attribute) -> attribute.getTypeDescriptor().render(
@@ -116,7 +116,7 @@ public abstract class AbstractRenderer implements Renderer {
 		final AnnotationDescriptor<A> descriptor = (AnnotationDescriptor<A>) context.getAnnotationDescriptorRegistry().getDescriptor( annotation.annotationType() );
 		final List<AttributeDescriptor<?>> attributes = descriptor.getAttributes();
 
-		getRenderingTarget().addLine( "@%s(", descriptor.getAnnotationType().getName() );
+		getRenderingTarget().addLine( "@" + descriptor.getAnnotationType().getName() + "(" );
 		getRenderingTarget().indent( 2 );
 
 		attributes.forEach( (attribute) -> attribute.getTypeDescriptor().render(
@@ -18,6 +18,7 @@ public abstract class AbstractRenderingTarget implements RenderingTarget {
 	private final int indentationDepth;
 
 	private int currentIndentation = 0;
+	private String indentation = "";
 
 	public AbstractRenderingTarget() {
 		this( DEFAULT_INDENT_DEPTH );
@@ -31,16 +32,14 @@ public abstract class AbstractRenderingTarget implements RenderingTarget {
 
 	@Override
 	public void addLine(String line) {
-		write( " " .repeat( currentIndentation ) );
+		write( indentation );
 		write( line );
 		write( "\n" );
 	}
 
 	@Override
 	public void addLine(String pattern, Object... args) {
-		write( " " .repeat( currentIndentation ) );
-		write( String.format( Locale.ROOT, pattern, args ) );
-		write( "\n" );
+		addLine( String.format( Locale.ROOT, pattern, args ) );
 	}
 
 	@Override
@@ -51,11 +50,13 @@ public abstract class AbstractRenderingTarget implements RenderingTarget {
 	@Override
 	public void indent(int depth) {
 		currentIndentation += (depth * indentationDepth);
+		indentation = " ".repeat( currentIndentation );
 	}
 
 	@Override
 	public void unindent(int depth) {
 		currentIndentation -= (depth * indentationDepth);
 		assert currentIndentation >= 0;
+		indentation = " ".repeat( currentIndentation );
 	}
 }
@@ -12,6 +12,7 @@ import java.util.Map;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.UnknownAnnotationAttributeException;
+import org.hibernate.models.internal.AnnotationHelper;
 import org.hibernate.models.internal.AnnotationProxy;
 import org.hibernate.models.serial.internal.SerialAnnotationDescriptorImpl;
 import org.hibernate.models.serial.spi.SerialAnnotationDescriptor;
@@ -67,6 +68,16 @@ public interface AnnotationDescriptor<A extends Annotation>
 		return AnnotationProxy.makeProxy( this, attributeValues );
 	}
 
+	/**
+	 * Find a creator building usages directly from the given source form of the annotation,
+	 * bypassing {@linkplain #createUsage(Map, ModelsContext) the attribute map}.
+	 *
+	 * @return The creator, or {@code null} if the source form is not supported.
+	 */
+	default <S> AnnotationUsageCreator<S, ? extends A> findUsageCreator(Class<S> sourceType) {
+		return null;
+	}
+
 	/**
 	 * The places the described annotation can be used
 	 */
@@ -90,6 +101,28 @@ public interface AnnotationDescriptor<A extends Annotation>
 	 */
 	AnnotationDescriptor<?> getRepeatableContainer();
 
+	/**
+	 * The meta-annotations of the described annotation at any depth - annotations on the
+	 * annotation class, annotations on those annotation classes, and so on.  Each
+	 * meta-annotation type is mapped to its usage nearest to the described annotation.
+	 *
+	 * @implNote The default implementation collects them on each call; implementations are
+	 * expected to compute them once.
+	 */
+	default Map<Class<? extends Annotation>, ? extends Annotation> getMetaAnnotationClosure() {
+		return AnnotationHelper.collectMetaAnnotations( getAnnotationType() );
+	}
+
+	/**
+	 * Whether the described annotation is meta-annotated with the given {@code metaAnnotationType}
+	 * at any depth.
+	 *
+	 * @see #getMetaAnnotationClosure()
+	 */
+	default boolean isMetaAnnotatedWith(Class<? extends Annotation> metaAnnotationType) {
+		return getMetaAnnotationClosure().containsKey( metaAnnotationType );
+	}
+
 	/**
 	 * The attributes of the annotation
 	 */
@@ -101,7 +134,8 @@ public interface AnnotationDescriptor<A extends Annotation>
 	 */
 	default <V> AttributeDescriptor<V> findAttribute(String name) {
 		final List<AttributeDescriptor<?>> attributeDescriptors = getAttributes();
-		for ( final AttributeDescriptor<?> attributeDescriptor : attributeDescriptors ) {
+		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
+			final AttributeDescriptor<?> attributeDescriptor = attributeDescriptors.get( i );
 			if ( attributeDescriptor.getName().equals( name ) ) {
 				//noinspection unchecked
 				return (AttributeDescriptor<V>) attributeDescriptor;
@@ -191,7 +191,10 @@ public interface AnnotationTarget {
 
 	/**
 	 * Form of {@linkplain #getAnnotationUsage} which also considers meta-annotations -
-	 * annotations on the classes of each {@linkplain #getDirectAnnotationUsages() local annotation}.
+	 * annotations on the classes of each {@linkplain #getDirectAnnotationUsages() local annotation},
+	 * at any depth (stereotypes composed of other stereotypes).
+	 *
+	 * @see AnnotationDescriptor#getMetaAnnotationClosure()
 	 */
 	<A extends Annotation> A locateAnnotationUsage(Class<A> type, ModelsContext modelContext);
 
@@ -215,6 +218,16 @@ public interface AnnotationTarget {
 		return getRepeatedAnnotationUsages( modelContext.getAnnotationDescriptorRegistry().getDescriptor( type ), modelContext );
 	}
 
+	/**
+	 * Form of {@linkplain #getRepeatedAnnotationUsages(AnnotationDescriptor, ModelsContext)} returning an
+	 * immutable list.  Implementations may share the returned list between calls.
+	 */
+	default <A extends Annotation> List<A> getRepeatedAnnotationUsageList(
+			AnnotationDescriptor<A> type,
+			ModelsContext modelContext) {
+		return List.of( getRepeatedAnnotationUsages( type, modelContext ) );
+	}
+
 	<A extends Annotation,C extends Annotation> void forEachRepeatedAnnotationUsages(
 			Class<A> repeatable,
 			Class<C> container,
@@ -288,7 +301,8 @@ public interface AnnotationTarget {
 	 *     }
 	 * </pre>
 	 * a call to this method passing {@code TheMeta} on {@code ClassDetails(TheClass)} will return
-	 * the usage of {@code @TheAnnotation} on {@code TheClass}.
+	 * the usage of {@code @TheAnnotation} on {@code TheClass}.  The same holds if {@code TheMeta} is
+	 * further removed - e.g. on an annotation which is itself used to annotate {@code TheAnnotation}.
 	 *
 	 * @apiNote This method does not check across repeatable containers.  Although the return is a List, we
 	 * are functionally wanting just the unique ones.
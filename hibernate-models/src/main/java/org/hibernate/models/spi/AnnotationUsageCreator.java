@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Creates annotation usages directly from a source-specific form of the annotation,
+ * e.g. a Jandex {@code AnnotationInstance} or a Byte Buddy {@code AnnotationDescription}.
+ * <p/>
+ * Compared to {@linkplain AnnotationDescriptor#createUsage(java.util.Map, ModelsContext)}, no
+ * intermediate map of (boxed) attribute values is built - the usage reads each attribute from
+ * the source form into its typed state.
+ *
+ * @param <S> The source form
+ * @param <A> The annotation type
+ *
+ * @see AnnotationDescriptor#findUsageCreator
+ */
+@FunctionalInterface
+public interface AnnotationUsageCreator<S, A extends Annotation> {
+	/**
+	 * Create the usage from its source form.
+	 */
+	A createUsage(S source, ModelsContext context);
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Canonicalizing pool of annotation usages.  Structurally equal usages of the same annotation -
+ * e.g. {@code @Id} on many fields - resolve to a single shared instance.
+ * <p/>
+ * Mutable usages are shared as well.  {@linkplain MutableAnnotationTarget#applyAnnotationUsage}, which
+ * hands out usages for modification, replaces a {@linkplain #isShared shared} usage with a private copy
+ * first; usages obtained otherwise must not be modified.
+ *
+ * @see ModelsContext#getAnnotationUsageInterner()
+ */
+public interface AnnotationUsageInterner {
+	/**
+	 * Interner which performs no interning at all
+	 */
+	AnnotationUsageInterner NO_INTERNING = new AnnotationUsageInterner() {
+		@Override
+		public <A extends Annotation> A intern(A usage) {
+			return usage;
+		}
+
+		@Override
+		public boolean isShared(Annotation usage) {
+			return false;
+		}
+	};
+
+	/**
+	 * Resolve the canonical instance for the given usage, registering {@code usage}
+	 * as the canonical instance if none exists yet.  Usages which cannot be shared
+	 * are returned as-is.
+	 */
+	<A extends Annotation> A intern(A usage);
+
+	/**
+	 * Whether the given usage is a canonical instance, potentially shared between targets.
+	 */
+	boolean isShared(Annotation usage);
+}
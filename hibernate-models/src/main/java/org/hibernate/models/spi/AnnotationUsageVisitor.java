@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Receives the annotation usages found by a
+ * {@linkplain ClassDetailsRegistry#scanAnnotationUsages registry-wide scan}.
+ */
+@FunctionalInterface
+public interface AnnotationUsageVisitor {
+	/**
+	 * Visit a usage of one of the scanned annotations.  Usages of a
+	 * {@linkplain AnnotationDescriptor#isRepeatable() repeatable} annotation which are part of a
+	 * container usage are visited individually, with the repeatable's descriptor.
+	 *
+	 * @param target The class or member on which the usage occurs
+	 * @param descriptor The descriptor of the annotation
+	 * @param usage The usage
+	 *
+	 * @return {@code true} to continue the scan; {@code false} to stop it
+	 */
+	boolean visit(AnnotationTarget target, AnnotationDescriptor<?> descriptor, Annotation usage);
+}
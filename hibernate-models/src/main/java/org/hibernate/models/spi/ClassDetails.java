@@ -5,14 +5,22 @@
 package org.hibernate.models.spi;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.hibernate.models.IllegalCastException;
 import org.hibernate.models.DynamicClassException;
 import org.hibernate.models.internal.AnnotationTargetHelper;
+import org.hibernate.models.internal.EffectiveUsageCache;
+import org.hibernate.models.internal.PersistableMembersImpl;
+import org.hibernate.models.internal.ResolvedHierarchyImpl;
 import org.hibernate.models.internal.SimpleClassDetails;
+import org.hibernate.models.internal.StructuralFingerprinting;
+import org.hibernate.models.internal.SupertypeClosure;
 import org.hibernate.models.internal.util.IndexedConsumer;
 import org.hibernate.models.serial.spi.SerialClassDetails;
 import org.hibernate.models.serial.spi.Storable;
@@ -191,6 +199,14 @@ public interface ClassDetails extends AnnotationTarget, TypeVariableScope, Stora
 	 */
 	boolean isImplementor(Class<?> checkType);
 
+	/**
+	 * Whether the described class is assignable to the given {@code checkType}, i.e. whether
+	 * {@code checkType} is this class or one of its super classes or interfaces.
+	 */
+	default boolean isAssignableTo(ClassDetails checkType) {
+		return checkType == this || SupertypeClosure.of( this ).contains( checkType );
+	}
+
 	/**
 	 * Get the fields for this class
 	 */
@@ -233,6 +249,22 @@ public interface ClassDetails extends AnnotationTarget, TypeVariableScope, Stora
 	 */
 	void forEachMethod(IndexedConsumer<MethodDetails> consumer);
 
+	/**
+	 * Visit each {@linkplain MethodDetails.MethodKind#GETTER getter} and
+	 * {@linkplain MethodDetails.MethodKind#SETTER setter}.
+	 *
+	 * @implNote Implementations may avoid building details for the class's other methods,
+	 * which are then only built once {@linkplain #getMethods() all methods} are requested.
+	 */
+	default void forEachAccessorMethod(Consumer<MethodDetails> consumer) {
+		forEachMethod( (i, method) -> {
+			if ( method.getMethodKind() == MethodDetails.MethodKind.GETTER
+					|| method.getMethodKind() == MethodDetails.MethodKind.SETTER ) {
+				consumer.accept( method );
+			}
+		} );
+	}
+
 	/**
 	 * Get the record components for this class
 	 */
@@ -271,23 +303,75 @@ public interface ClassDetails extends AnnotationTarget, TypeVariableScope, Stora
 		forEachRecordComponent( (i,recordComponent) -> consumer.accept( recordComponent ) );
 	}
 
+	/**
+	 * Visit each {@linkplain MemberDetails#isPersistable() persistable} member.
+	 *
+	 * @see #getPersistableMembers()
+	 */
 	default void forEachPersistableMember(Consumer<MemberDetails> consumer) {
-		forEachField( (i,field) -> {
-			if ( field.isPersistable() ) {
-				consumer.accept( field );
-			}
-		} );
-		forEachMethod( (i,method) -> {
-			if ( method.isPersistable() ) {
-				consumer.accept( method );
-			}
-		} );
-		forEachRecordComponent( (i,recordComponent) -> {
-			// can they ever not be?
-			if ( recordComponent.isPersistable() ) {
-				consumer.accept( recordComponent );
-			}
-		} );
+		getPersistableMembers().forEachMember( consumer );
+	}
+
+	/**
+	 * View of the {@linkplain MemberDetails#isPersistable() persistable} members declared
+	 * on this class, along with their {@linkplain MemberDetails#resolveAttributeName() attribute names}.
+	 *
+	 * @implNote Implementations are expected to cache the view, discarding it whenever
+	 * members are {@linkplain MutableClassDetails#addField added}.  The default
+	 * implementation builds a new view on each call.
+	 */
+	default PersistableMembers getPersistableMembers() {
+		return PersistableMembersImpl.from( this );
+	}
+
+	/**
+	 * View of all members of this class and its super classes with their types
+	 * resolved relative to this class.
+	 *
+	 * @implNote Implementations are expected to cache the view, discarding it whenever
+	 * members are {@linkplain MutableClassDetails#addField added} or the super class's
+	 * view changes.  The default implementation builds a new view on each call.
+	 */
+	default ResolvedHierarchy getResolvedHierarchy() {
+		return ResolvedHierarchyImpl.from( this );
+	}
+
+	/**
+	 * Structural fingerprint of this class - its name, kind, super types, type parameters,
+	 * annotations and members.  Two descriptions of the same class produce the same
+	 * fingerprint, regardless of the backend which created them.
+	 *
+	 * @implNote Implementations are expected to memoize the fingerprint, discarding it whenever
+	 * members are {@linkplain MutableClassDetails#addField added} or usages change.  The default
+	 * implementation computes it on each call.
+	 *
+	 * @see ModelsContext#getFingerprint()
+	 */
+	default ModelFingerprint getFingerprint(ModelsContext modelsContext) {
+		return StructuralFingerprinting.fingerprint( this, modelsContext );
+	}
+
+	/**
+	 * All annotation usages in effect for this class - those declared directly on
+	 * the class along with any {@linkplain java.lang.annotation.Inherited inherited}
+	 * usages from its super classes not hidden by a local usage.
+	 *
+	 * @implNote Implementations are expected to cache the merged usages, discarding them
+	 * whenever usages in the hierarchy are changed.  The default implementation merges
+	 * them on each call.
+	 */
+	default Collection<? extends Annotation> getEffectiveAnnotationUsages(ModelsContext modelContext) {
+		final ClassDetails superClass = getSuperClass();
+		if ( superClass == null ) {
+			return getDirectAnnotationUsages();
+		}
+		final Map<Class<? extends Annotation>, Annotation> localUsages = new HashMap<>();
+		forEachDirectAnnotationUsage( (usage) -> localUsages.put( usage.annotationType(), usage ) );
+		return EffectiveUsageCache.merge(
+				localUsages,
+				superClass.getEffectiveAnnotationUsages( modelContext ),
+				modelContext
+		).values();
 	}
 
 	/**
@@ -4,14 +4,22 @@
  */
 package org.hibernate.models.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Predicate;
 
 import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.AnnotationUsageScanner;
 
 /**
  * Registry of all {@link ClassDetails} references
+ * <p/>
+ * Resolution is safe to perform from multiple threads - concurrent resolutions of the same
+ * name all return the same ClassDetails, and the subtype / implementor views may be read
+ * while other classes are being registered.
  *
  * @implSpec Quite a few methods here are marked to ignore the fact that they
  * are unused.  The expectation is that most of these methods are used by
@@ -55,6 +63,54 @@ public interface ClassDetailsRegistry {
 	@SuppressWarnings("unused")
 	void forEachClassDetails(ClassDetailsConsumer consumer);
 
+	/**
+	 * A Spliterator over the registered class details, able to split for parallel processing.
+	 *
+	 * @implNote The default implementation copies the registrations into a list; implementations
+	 * are expected to split their backing storage directly.
+	 */
+	default Spliterator<ClassDetails> classDetailsSpliterator() {
+		final List<ClassDetails> registrations = new ArrayList<>();
+		forEachClassDetails( registrations::add );
+		return registrations.spliterator();
+	}
+
+	/**
+	 * Visit every usage of the given annotations on the registered classes and their
+	 * fields, methods and record components.  Each target's usages are processed in a
+	 * single pass, however many annotations are scanned for.
+	 *
+	 * @param descriptors The annotations to look for
+	 * @param visitor Receives each usage found, and may stop the scan
+	 *
+	 * @return {@code true} if the scan completed; {@code false} if the visitor stopped it.
+	 */
+	default boolean scanAnnotationUsages(
+			Collection<? extends AnnotationDescriptor<?>> descriptors,
+			AnnotationUsageVisitor visitor) {
+		return scanAnnotationUsages( descriptors, visitor, false );
+	}
+
+	/**
+	 * Form of {@linkplain #scanAnnotationUsages(Collection, AnnotationUsageVisitor)} which
+	 * optionally scans the classes in parallel, using the
+	 * {@linkplain #classDetailsSpliterator() spliterator}, in which case the {@code visitor}
+	 * must be thread-safe.  Once the visitor asks to stop, no further targets are scanned
+	 * by any thread.
+	 * <p/>
+	 * Scanning in parallel is opt-in; the {@linkplain #scanAnnotationUsages(Collection, AnnotationUsageVisitor)
+	 * default} is sequential.  A parallel scan builds the members and annotation usages of the
+	 * classes from several threads at once, so the {@linkplain ClassDetails} must build that state
+	 * safely under concurrent access, publishing it only once.  The details of the standard
+	 * (JDK, Jandex and Byte Buddy) backends do; custom implementations must as well.
+	 */
+	default boolean scanAnnotationUsages(
+			Collection<? extends AnnotationDescriptor<?>> descriptors,
+			AnnotationUsageVisitor visitor,
+			boolean parallel) {
+		return new AnnotationUsageScanner( descriptors, visitor ).scan( classDetailsSpliterator(), parallel );
+	}
+
 	/**
 	 * Get the list of all direct subtypes for the named managed-class.
 	 *
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Declarative query over the classes of a {@linkplain ModelsContext}, e.g.
+ * <pre>
+ * modelsContext.classes()
+ *         .annotatedWith( Entity.class )
+ *         .members()
+ *         .persistable()
+ *         .annotatedWith( Id.class )
+ *         .toList();
+ * </pre>
+ * Queries are immutable - each restriction returns a new query - and are only executed
+ * when {@linkplain #stream() streamed}.  At that point the restrictions are turned into
+ * a plan: the classes come from the registry's hierarchy index when {@linkplain #subtypesOf}
+ * is used (and from all registrations otherwise), and the restrictions are checked
+ * cheapest first, regardless of the order in which they were specified.
+ * <p/>
+ * Only classes known to the {@linkplain ClassDetailsRegistry registry} are considered.
+ *
+ * @see ModelsContext#classes()
+ */
+public interface ClassQuery {
+	/**
+	 * Restrict to classes using the given annotation, directly or through a
+	 * repeatable container.
+	 *
+	 * @see AnnotationTarget#hasAnnotationUsage
+	 */
+	ClassQuery annotatedWith(Class<? extends Annotation> annotationType);
+
+	/**
+	 * Restrict to the named type and the classes and interfaces extending or implementing it.
+	 */
+	ClassQuery subtypesOf(String typeName);
+
+	/**
+	 * Restrict to classes which are neither abstract nor interfaces.
+	 */
+	ClassQuery concrete();
+
+	/**
+	 * Restrict to classes matching the given predicate.  Such restrictions are checked after all others.
+	 */
+	ClassQuery filter(Predicate<ClassDetails> predicate);
+
+	/**
+	 * Execute the query in parallel, in which case any {@linkplain #filter filter}
+	 * must be thread-safe.
+	 */
+	ClassQuery parallel();
+
+	/**
+	 * Query over the members of the classes matching this query.
+	 */
+	MemberQuery members();
+
+	/**
+	 * Lazily execute the query.
+	 */
+	Stream<ClassDetails> stream();
+
+	/**
+	 * Execute the query, collecting the matching classes.
+	 */
+	default List<ClassDetails> toList() {
+		return stream().toList();
+	}
+}
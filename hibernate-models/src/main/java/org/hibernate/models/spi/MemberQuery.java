@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Declarative query over the members declared by the classes of a {@linkplain ClassQuery}.
+ * Like the class query, it is immutable and only executed when {@linkplain #stream() streamed}.
+ * <p/>
+ * Restricting the {@linkplain #fields() kind} of members, the {@linkplain #persistable() persistable}
+ * members and {@linkplain #attributeNamed attribute names} limits which members are read in
+ * the first place, using the {@linkplain ClassDetails#getPersistableMembers() persistable members view}
+ * for attribute name lookups; the remaining restrictions are checked cheapest first.
+ *
+ * @see ClassQuery#members()
+ */
+public interface MemberQuery {
+	/**
+	 * Restrict to fields.  Combined with {@linkplain #methods()} and {@linkplain #recordComponents()},
+	 * restricts to members of any of the requested kinds.
+	 */
+	MemberQuery fields();
+
+	/**
+	 * Restrict to methods.
+	 *
+	 * @see #fields()
+	 */
+	MemberQuery methods();
+
+	/**
+	 * Restrict to record components.
+	 *
+	 * @see #fields()
+	 */
+	MemberQuery recordComponents();
+
+	/**
+	 * Restrict to {@linkplain MemberDetails#isPersistable() persistable} members - fields,
+	 * getters and record components.
+	 *
+	 * @see ClassDetails#getPersistableMembers()
+	 */
+	MemberQuery persistable();
+
+	/**
+	 * Restrict to the persistable members exposing the given attribute.  Implies {@linkplain #persistable()}.
+	 *
+	 * @see MemberDetails#resolveAttributeName()
+	 */
+	MemberQuery attributeNamed(String attributeName);
+
+	/**
+	 * Restrict to members using the given annotation, directly or through a repeatable container.
+	 *
+	 * @see AnnotationTarget#hasAnnotationUsage
+	 */
+	MemberQuery annotatedWith(Class<? extends Annotation> annotationType);
+
+	/**
+	 * Restrict to members matching the given predicate.  Such restrictions are checked after all others.
+	 */
+	MemberQuery filter(Predicate<MemberDetails> predicate);
+
+	/**
+	 * Execute the query in parallel, in which case any filter (including those of
+	 * the class query) must be thread-safe.
+	 */
+	MemberQuery parallel();
+
+	/**
+	 * Lazily execute the query.  Members are returned class by class, in declaration
+	 * order within each kind.
+	 */
+	Stream<MemberDetails> stream();
+
+	/**
+	 * Execute the query, collecting the matching members.
+	 */
+	default List<MemberDetails> toList() {
+		return stream().toList();
+	}
+}
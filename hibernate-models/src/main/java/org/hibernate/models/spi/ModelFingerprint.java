@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.util.HexFormat;
+
+/**
+ * A 128-bit structural fingerprint of a {@linkplain ClassDetails class} or of a whole
+ * {@linkplain ModelsContext context}.  Fingerprints are stable across runs and across the
+ * different backends (reflection, Jandex, ...) - the same class described by different
+ * backends produces the same fingerprint.
+ * <p/>
+ * Useful, e.g., as a cache key for metadata derived from the model.
+ *
+ * @see ClassDetails#getFingerprint(ModelsContext)
+ * @see ModelsContext#getFingerprint()
+ *
+ * @param mostSignificantBits The high 64 bits of the fingerprint
+ * @param leastSignificantBits The low 64 bits of the fingerprint
+ */
+public record ModelFingerprint(long mostSignificantBits, long leastSignificantBits) {
+	@Override
+	public String toString() {
+		return HexFormat.of().toHexDigits( mostSignificantBits ) + HexFormat.of().toHexDigits( leastSignificantBits );
+	}
+}
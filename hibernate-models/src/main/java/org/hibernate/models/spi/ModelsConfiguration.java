@@ -9,8 +9,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.hibernate.models.internal.BasicModelsContextImpl;
+import org.hibernate.models.internal.CachingClassLoading;
 import org.hibernate.models.internal.ModelsLogging;
-import org.hibernate.models.internal.SimpleClassLoading;
 
 /**
  * Bootstrapping of {@linkplain ModelsContext}
@@ -20,7 +20,7 @@ import org.hibernate.models.internal.SimpleClassLoading;
 public class ModelsConfiguration {
 	private final Map<Object,Object> configValues = new HashMap<>();
 
-	private ClassLoading classLoading = SimpleClassLoading.SIMPLE_CLASS_LOADING;
+	private ClassLoading classLoading = new CachingClassLoading();
 	private RegistryPrimer registryPrimer;
 
 	private ModelsContextProvider explicitContextProvider;
@@ -54,7 +54,8 @@ public class ModelsConfiguration {
 	}
 
 	/**
-	 * {@linkplain ClassLoading} to use.
+	 * {@linkplain ClassLoading} to use.  Defaults to a {@linkplain CachingClassLoading} over
+	 * the ClassLoader of Hibernate Models itself.
 	 */
 	public ClassLoading getClassLoading() {
 		return classLoading;
@@ -6,6 +6,8 @@ package org.hibernate.models.spi;
 
 import java.util.Locale;
 
+import org.hibernate.models.internal.ClassQueryImpl;
+import org.hibernate.models.internal.StructuralFingerprinting;
 import org.hibernate.models.serial.spi.StorableContext;
 
 /**
@@ -33,6 +35,44 @@ public interface ModelsContext {
 	 */
 	ClassLoading getClassLoading();
 
+	/**
+	 * Canonicalizing pool for the {@linkplain TypeDetails} of members, allowing structurally
+	 * equal types to share a single instance.
+	 *
+	 * @implNote The default implementation performs no pooling.
+	 */
+	default TypeDetailsPool getTypeDetailsPool() {
+		return TypeDetailsPool.NO_POOLING;
+	}
+
+	/**
+	 * Canonicalizing pool for annotation usages read from the model sources, allowing
+	 * structurally equal usages to share a single instance.
+	 *
+	 * @implNote The default implementation performs no interning.
+	 */
+	default AnnotationUsageInterner getAnnotationUsageInterner() {
+		return AnnotationUsageInterner.NO_INTERNING;
+	}
+
+	/**
+	 * Structural fingerprint of all classes currently known to the {@linkplain #getClassDetailsRegistry() registry},
+	 * combining their {@linkplain ClassDetails#getFingerprint individual fingerprints} in name order.
+	 * <p/>
+	 * Only classes registered at the time of the call are covered.
+	 */
+	default ModelFingerprint getFingerprint() {
+		return StructuralFingerprinting.fingerprint( this );
+	}
+
+	/**
+	 * Start a {@linkplain ClassQuery query} over the classes known to the
+	 * {@linkplain #getClassDetailsRegistry() registry}.
+	 */
+	default ClassQuery classes() {
+		return new ClassQueryImpl( this );
+	}
+
 	/**
 	 * Treat support.
 	 */
@@ -31,13 +31,24 @@ public interface MutableAnnotationTarget extends AnnotationTarget {
 	/**
 	 * Applies a usage of the given {@code annotationType} to this target.  Will return
 	 * an existing usage, if one, or create a new usage.
+	 * <p/>
+	 * An existing usage which is {@linkplain AnnotationUsageInterner#isShared shared} with other
+	 * targets is replaced by a copy first, so the returned usage is always safe to modify.
 	 */
 	default <A extends Annotation> A applyAnnotationUsage(
 			AnnotationDescriptor<A> annotationType,
 			ModelsContext modelContext) {
 		final A existing = getAnnotationUsage( annotationType, modelContext );
 		if ( existing != null ) {
-			return existing;
+			if ( !modelContext.getAnnotationUsageInterner().isShared( existing ) ) {
+				return existing;
+			}
+			final A copy = annotationType.createUsage( existing, modelContext );
+			// descriptors without a mutable form hand back the (immutable) usage itself
+			if ( copy != existing ) {
+				addAnnotationUsage( copy );
+			}
+			return copy;
 		}
 
 		final A usage = annotationType.createUsage( modelContext );
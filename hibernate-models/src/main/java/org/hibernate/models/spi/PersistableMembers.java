@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Immutable view of the {@linkplain MemberDetails#isPersistable() persistable} members
+ * of a {@linkplain ClassDetails class}, along with their
+ * {@linkplain MemberDetails#resolveAttributeName() attribute names}.
+ * <p/>
+ * Only the members declared on the class itself are considered; super-classes are not walked.
+ *
+ * @see ClassDetails#getPersistableMembers()
+ */
+public interface PersistableMembers {
+	/**
+	 * The persistable fields, in declaration order.
+	 */
+	List<FieldDetails> getFields();
+
+	/**
+	 * The persistable methods (getters), in declaration order.
+	 */
+	List<MethodDetails> getGetters();
+
+	/**
+	 * The record components, in declaration order.
+	 */
+	List<RecordComponentDetails> getRecordComponents();
+
+	/**
+	 * The names of all attributes exposed by any of the persistable members.
+	 */
+	Set<String> getAttributeNames();
+
+	/**
+	 * Find the persistable field for the given attribute name, or {@code null}.
+	 */
+	FieldDetails findField(String attributeName);
+
+	/**
+	 * Find the persistable getter for the given attribute name, or {@code null}.
+	 */
+	MethodDetails findGetter(String attributeName);
+
+	/**
+	 * Find the record component for the given attribute name, or {@code null}.
+	 */
+	RecordComponentDetails findRecordComponent(String attributeName);
+
+	/**
+	 * Visit each persistable member - fields, then getters, then record components.
+	 */
+	void forEachMember(Consumer<MemberDetails> consumer);
+
+	/**
+	 * Visit each persistable member along with its (already resolved) attribute name.
+	 * Getters for which no attribute name {@linkplain MemberDetails#resolveAttributeName() resolves}
+	 * (not following the JavaBeans naming) are skipped; the name is never {@code null}.
+	 */
+	void forEachAttribute(AttributeConsumer consumer);
+
+	@FunctionalInterface
+	interface AttributeConsumer {
+		void accept(String attributeName, MemberDetails member);
+	}
+}
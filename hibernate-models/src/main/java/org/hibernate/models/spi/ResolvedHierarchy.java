@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+import java.util.List;
+
+/**
+ * View of a {@linkplain ClassDetails class} along with all members declared on it and its
+ * super classes, with the types of those members resolved relative to the class.
+ * <p/>
+ * E.g., given
+ * <pre>
+ * class {@code Item<T>} {
+ *     T id;
+ * }
+ * class Hat extends {@code Item<Integer>} {
+ *     String color;
+ * }
+ * </pre>
+ * the resolved hierarchy of {@code Hat} reports {@code id} as {@code Integer} and {@code color}
+ * as {@code String}.
+ * <p/>
+ * Only fields, getters, setters and record components are included.
+ *
+ * @see ClassDetails#getResolvedHierarchy()
+ * @see MemberDetails#resolveRelativeType(TypeVariableScope)
+ */
+public interface ResolvedHierarchy {
+	/**
+	 * The class for which the hierarchy was resolved.
+	 */
+	ClassDetails getClassDetails();
+
+	/**
+	 * The resolved hierarchy of the super class, or {@code null} for a root class.
+	 */
+	ResolvedHierarchy getSuperHierarchy();
+
+	/**
+	 * All members of the hierarchy, ordered from the root class down to this class.
+	 * Within a class, fields come first, then methods and then record components.
+	 */
+	List<ResolvedMember> getMembers();
+
+	/**
+	 * The resolved type of the given member, or {@code null} if the member is not part of the hierarchy.
+	 */
+	TypeDetails resolveMemberType(MemberDetails member);
+
+	/**
+	 * Resolve a type variable declared on this class or any of its super classes, returning
+	 * {@code null} if it is not bound within the hierarchy.
+	 */
+	TypeDetails resolveTypeVariable(TypeVariableDetails typeVariable);
+
+	/**
+	 * A member paired with its resolved type
+	 */
+	interface ResolvedMember {
+		/**
+		 * The member
+		 */
+		MemberDetails getMember();
+
+		/**
+		 * The type of the member, resolved relative to the class of the hierarchy.
+		 */
+		TypeDetails getType();
+	}
+}
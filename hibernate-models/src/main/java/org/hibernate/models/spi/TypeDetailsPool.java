@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.spi;
+
+/**
+ * Canonicalizing pool of {@linkplain TypeDetails} references.  Structurally equal types -
+ * e.g. the type of two fields both declared as {@code List<String>} - resolve to a single
+ * shared instance, which allows comparing them by reference.
+ *
+ * @see ModelsContext#getTypeDetailsPool()
+ */
+@FunctionalInterface
+public interface TypeDetailsPool {
+	/**
+	 * Pool which performs no pooling at all
+	 */
+	TypeDetailsPool NO_POOLING = (typeDetails) -> typeDetails;
+
+	/**
+	 * Resolve the canonical instance for the given type, registering {@code typeDetails}
+	 * as the canonical instance if none exists yet.  Types which cannot be safely shared
+	 * are returned as-is.
+	 * <p/>
+	 * The returned reference is always of the same {@linkplain TypeDetails#getTypeKind() kind}
+	 * as {@code typeDetails}.
+	 */
+	TypeDetails intern(TypeDetails typeDetails);
+}
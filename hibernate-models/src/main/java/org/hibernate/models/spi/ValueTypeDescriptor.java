@@ -40,7 +40,7 @@ public interface ValueTypeDescriptor<V> {
 			RenderingTarget target,
 			Renderer renderer,
 			ModelsContext modelContext) {
-		target.addLine( "%s = %s", name, "..." );
+		target.addLine( name + " = ..." );
 	}
 
 	void render(
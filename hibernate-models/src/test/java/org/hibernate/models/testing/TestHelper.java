@@ -9,10 +9,12 @@ import java.util.ServiceLoader;
 
 import org.hibernate.models.internal.BasicModelsContextImpl;
 import org.hibernate.models.internal.util.CollectionHelper;
+import org.hibernate.models.spi.ClassLoading;
 import org.hibernate.models.spi.ModelsContext;
 import org.hibernate.models.spi.RegistryPrimer;
 import org.hibernate.models.testing.intg.ModelsContextFactory;
 import org.hibernate.models.testing.orm.OrmAnnotationHelper;
+import org.hibernate.models.testing.synthetic.SyntheticModel;
 
 import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
 
@@ -42,8 +44,30 @@ public class TestHelper {
 		return builtContext;
 	}
 
+	/**
+	 * Create a context for the given synthetic model, resolving all of its classes
+	 */
+	public static ModelsContext createModelContext(SyntheticModel syntheticModel) {
+		final ModelsContext builtContext = buildModelContext(
+				null,
+				syntheticModel.getClassLoading(),
+				syntheticModel.loadClasses()
+		);
+		for ( String className : syntheticModel.getClassNames() ) {
+			builtContext.getClassDetailsRegistry().resolveClassDetails( className );
+		}
+		return builtContext;
+	}
+
+	private static ModelsContext buildModelContext(
+			RegistryPrimer additionalPrimer,
+			Class<?>... modelClasses) {
+		return buildModelContext( additionalPrimer, SIMPLE_CLASS_LOADING, modelClasses );
+	}
+
 	private static ModelsContext buildModelContext(
 			RegistryPrimer additionalPrimer,
+			ClassLoading classLoading,
 			Class<?>... modelClasses) {
 		final ServiceLoader<ModelsContextFactory> loader = ServiceLoader.load( ModelsContextFactory.class );
 		final Iterator<ModelsContextFactory> serviceImpls = loader.iterator();
@@ -60,12 +84,13 @@ public class TestHelper {
 							additionalPrimer.primeRegistries( contributions, modelsContext );
 						}
 					},
+					classLoading,
 					modelClasses
 			);
 		}
 
 		return new BasicModelsContextImpl(
-				SIMPLE_CLASS_LOADING,
+				classLoading,
 				(contributions, modelsContext) -> {
 					OrmAnnotationHelper.forEachOrmAnnotation( contributions::registerAnnotation );
 					if ( additionalPrimer != null ) {
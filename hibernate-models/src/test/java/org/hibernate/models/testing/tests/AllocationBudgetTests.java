@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.models.internal.OrmAnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.util.AllocationMeter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets, in bytes per operation, for hot paths - exceeding a budget (plus a small
+ * {@linkplain #TOLERANCE tolerance}) fails the build.
+ * <p/>
+ * The budgets assume a JIT compiling the warmed-up operations; they are not meant to hold
+ * for interpreted execution, and are skipped when running with {@code -Xint}.
+ * <p/>
+ * Like the other core tests, these are run against each backend, so the budgets hold for all of
+ * them - the Jandex registry, e.g., answers hierarchy lookups from its own sets once the index
+ * hits for a type have been merged.
+ *
+ * @see AllocationMeter
+ */
+public class AllocationBudgetTests {
+	// slack for allocations outside the operation itself - coverage agents, a not yet
+	// fully optimized compilation and similar
+	private static final long TOLERANCE = 32;
+
+	// lookups in already built structures should not allocate at all
+	private static final long RESOLVE_CLASS_DETAILS_BUDGET = 0;
+	private static final long DIRECT_USAGE_BUDGET = 0;
+	private static final long INHERITED_USAGE_BUDGET = 0;
+	private static final long SUBTYPE_WALK_BUDGET = 0;
+	private static final long ATTRIBUTE_READ_BUDGET = 0;
+	// the returned array of 2 references
+	private static final long REPEATED_USAGES_BUDGET = 32;
+	// the returned LinkedHashSet of 4 types
+	private static final long FIND_CONCRETE_TYPES_BUDGET = 384;
+
+	private ModelsContext modelsContext;
+	private ClassDetailsRegistry registry;
+	private ClassDetails baseDetails;
+	private ClassDetails leafDetails;
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue( AllocationMeter.isSupported(), "Thread allocation measurement not supported" );
+		assumeTrue( !AllocationMeter.isInterpreted(), "Allocation budgets assume JIT compilation" );
+
+		modelsContext = createModelContext( Marker.class, Base.class, Middle.class, Leaf.class, OtherLeaf.class );
+		registry = modelsContext.getClassDetailsRegistry();
+		baseDetails = registry.getClassDetails( Base.class.getName() );
+		leafDetails = registry.getClassDetails( Leaf.class.getName() );
+	}
+
+	@Test
+	void testResolveClassDetails() {
+		final String name = Leaf.class.getName();
+		assertWithinBudget( "resolveClassDetails", RESOLVE_CLASS_DETAILS_BUDGET, () -> registry.resolveClassDetails( name ) );
+	}
+
+	@Test
+	void testDirectAnnotationUsage() {
+		final FieldDetails field = baseDetails.findFieldByName( "name" );
+		assertWithinBudget( "getDirectAnnotationUsage", DIRECT_USAGE_BUDGET, () -> field.getDirectAnnotationUsage( Tagged.class ) );
+		assertWithinBudget( "getDirectAnnotationUsage", DIRECT_USAGE_BUDGET, () -> baseDetails.getDirectAnnotationUsage( Tracked.class ) );
+	}
+
+	@Test
+	void testInheritedAnnotationUsage() {
+		assertThat( leafDetails.getAnnotationUsage( Tracked.class, modelsContext ) ).isNotNull();
+		assertWithinBudget(
+				"getAnnotationUsage (inherited)",
+				INHERITED_USAGE_BUDGET,
+				() -> leafDetails.getAnnotationUsage( Tracked.class, modelsContext )
+		);
+	}
+
+	@Test
+	void testRepeatedAnnotationUsages() {
+		final AnnotationDescriptor<Label> descriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Label.class );
+		assertThat( baseDetails.getRepeatedAnnotationUsages( descriptor, modelsContext ) ).hasSize( 2 );
+		assertWithinBudget(
+				"getRepeatedAnnotationUsages",
+				REPEATED_USAGES_BUDGET,
+				() -> baseDetails.getRepeatedAnnotationUsages( descriptor, modelsContext )
+		);
+	}
+
+	@Test
+	void testFindConcreteTypes() {
+		final String name = Base.class.getName();
+		assertThat( registry.findConcreteTypes( name, true ) ).hasSize( 4 );
+		assertWithinBudget( "findConcreteTypes", FIND_CONCRETE_TYPES_BUDGET, () -> registry.findConcreteTypes( name, true ) );
+	}
+
+	@Test
+	void testSubtypeWalk() {
+		final String name = Base.class.getName();
+		final ClassDetailsRegistry.ClassDetailsConsumer consumer = (subtype) -> {};
+		assertWithinBudget( "getDirectSubtypes", SUBTYPE_WALK_BUDGET, () -> registry.getDirectSubtypes( name ) );
+		assertWithinBudget( "forEachDirectSubtype", SUBTYPE_WALK_BUDGET, () -> {
+			registry.forEachDirectSubtype( name, consumer );
+			return null;
+		} );
+
+		final String interfaceName = Marker.class.getName();
+		assertThat( registry.getDirectImplementors( interfaceName ) ).containsExactly( baseDetails );
+		assertWithinBudget( "getDirectImplementors", SUBTYPE_WALK_BUDGET, () -> registry.getDirectImplementors( interfaceName ) );
+	}
+
+	@Test
+	void testAnnotationProxyAttributeRead() {
+		final AnnotationDescriptor<Tagged> descriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Tagged.class );
+		final Tagged usage = descriptor.createUsage( Map.of( "value", "proxied" ), modelsContext );
+		assertThat( usage.value() ).isEqualTo( "proxied" );
+		assertWithinBudget( "AnnotationProxy attribute read", ATTRIBUTE_READ_BUDGET, usage::value );
+	}
+
+	@Test
+	void testOrmUsageAttributeRead() {
+		final OrmAnnotationDescriptor<Tracked, TrackedAnnotation> descriptor = new OrmAnnotationDescriptor<>(
+				Tracked.class,
+				TrackedAnnotation.class
+		);
+		final TrackedAnnotation usage = descriptor.createUsage( modelsContext );
+		assertThat( usage.value() ).isEqualTo( "default" );
+		assertWithinBudget( "ORM usage attribute read", ATTRIBUTE_READ_BUDGET, usage::value );
+	}
+
+	private static void assertWithinBudget(String operation, long budget, Supplier<?> action) {
+		AllocationMeter.warmUp( action );
+		final long allocated = AllocationMeter.bytesPerOperation( action );
+		assertThat( allocated )
+				.describedAs( "%s allocated %s bytes per call, the budget is %s (+%s)", operation, allocated, budget, TOLERANCE )
+				.isLessThanOrEqualTo( budget + TOLERANCE );
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Tracked {
+		String value() default "default";
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	public @interface Tagged {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Labels {
+		Label[] value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Repeatable(Labels.class)
+	public @interface Label {
+		String value();
+	}
+
+	@SuppressWarnings({ "ClassExplicitlyAnnotation", "unused" })
+	public static class TrackedAnnotation implements Tracked {
+		private String value;
+
+		public TrackedAnnotation(ModelsContext modelsContext) {
+			value = "default";
+		}
+
+		public TrackedAnnotation(Tracked usage, ModelsContext modelsContext) {
+			value = usage.value();
+		}
+
+		public TrackedAnnotation(Map<String,Object> attributeValues, ModelsContext modelsContext) {
+			value = (String) attributeValues.get( "value" );
+		}
+
+		@Override
+		public String value() {
+			return value;
+		}
+
+		@Override
+		public Class<? extends Annotation> annotationType() {
+			return Tracked.class;
+		}
+	}
+
+	@Tracked
+	@Label("first")
+	@Label("second")
+	@SuppressWarnings("unused")
+	public static class Base implements Marker {
+		@Tagged("name")
+		private String name;
+	}
+
+	public interface Marker {
+	}
+
+	public static class Middle extends Base {
+	}
+
+	public static class Leaf extends Middle {
+	}
+
+	public static class OtherLeaf extends Base {
+	}
+}
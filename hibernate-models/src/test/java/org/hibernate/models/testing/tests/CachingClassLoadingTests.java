@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.CachingClassLoading;
+import org.hibernate.models.spi.ModelsConfiguration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CachingClassLoadingTests {
+	@Test
+	void testClassCaching() {
+		final CachingClassLoading classLoading = new CachingClassLoading();
+
+		assertThat( classLoading.<Object>classForName( CachingClassLoadingTests.class.getName() ) )
+				.isSameAs( CachingClassLoadingTests.class );
+		assertThat( classLoading.<Object>findClassForName( CachingClassLoadingTests.class.getName() ) )
+				.isSameAs( CachingClassLoadingTests.class );
+
+		final CachingClassLoading.Statistics statistics = classLoading.getStatistics();
+		assertThat( statistics.classLookups() ).isEqualTo( 2 );
+		assertThat( statistics.classCacheHits() ).isEqualTo( 1 );
+		assertThat( statistics.classLoaderCalls() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testMissingClassCaching() {
+		final CachingClassLoading classLoading = new CachingClassLoading();
+		final String missingName = "org.hibernate.models.testing.tests.package-info";
+
+		assertThat( classLoading.<Object>findClassForName( missingName ) ).isNull();
+		assertThat( classLoading.<Object>findClassForName( missingName ) ).isNull();
+		try {
+			classLoading.classForName( missingName );
+			fail( "Expecting UnknownClassException" );
+		}
+		catch (UnknownClassException expected) {
+		}
+
+		final CachingClassLoading.Statistics statistics = classLoading.getStatistics();
+		assertThat( statistics.classLookups() ).isEqualTo( 3 );
+		assertThat( statistics.missingClassHits() ).isEqualTo( 2 );
+		assertThat( statistics.classLoaderCalls() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testMissingNamesAreBounded() {
+		final CachingClassLoading classLoading = new CachingClassLoading(
+				List.of( CachingClassLoadingTests.class.getClassLoader() ),
+				1
+		);
+
+		assertThat( classLoading.<Object>findClassForName( "com.acme.First" ) ).isNull();
+		assertThat( classLoading.<Object>findClassForName( "com.acme.Second" ) ).isNull();
+		// `First` was evicted
+		assertThat( classLoading.<Object>findClassForName( "com.acme.First" ) ).isNull();
+
+		assertThat( classLoading.getStatistics().missingClassHits() ).isEqualTo( 0 );
+		assertThat( classLoading.getStatistics().classLoaderCalls() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void testPackageRouting() throws IOException {
+		final Path directory = Files.createTempDirectory( "caching-class-loading" );
+		final Path packageDirectory = Files.createDirectories( directory.resolve( "com/acme" ) );
+		Files.writeString( packageDirectory.resolve( "thing.txt" ), "thing" );
+
+		try ( URLClassLoader acmeLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, null ) ) {
+			final CachingClassLoading classLoading = new CachingClassLoading(
+					CachingClassLoadingTests.class.getClassLoader(),
+					acmeLoader
+			);
+
+			final URL resource = classLoading.locateResource( "com/acme/thing.txt" );
+			assertThat( resource ).isNotNull();
+			assertThat( classLoading.locateResource( "com/acme/thing.txt" ) ).isEqualTo( resource );
+
+			final CachingClassLoading.Statistics statistics = classLoading.getStatistics();
+			assertThat( statistics.resourceLookups() ).isEqualTo( 2 );
+			assertThat( statistics.resourceCacheHits() ).isEqualTo( 1 );
+			// routed straight to the owning loader
+			assertThat( statistics.classLoaderCalls() ).isEqualTo( 1 );
+		}
+		finally {
+			Files.delete( packageDirectory.resolve( "thing.txt" ) );
+			Files.delete( packageDirectory );
+			Files.delete( packageDirectory.getParent() );
+			Files.delete( directory );
+		}
+	}
+
+	@Test
+	void testClassLoadersNotPinned() throws IOException {
+		final Path directory = Files.createTempDirectory( "caching-class-loading" );
+		try {
+			URLClassLoader loader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, null );
+			final WeakReference<ClassLoader> loaderReference = new WeakReference<>( loader );
+			final CachingClassLoading classLoading = new CachingClassLoading(
+					CachingClassLoadingTests.class.getClassLoader(),
+					loader
+			);
+			assertThat( classLoading.<Object>findClassForName( "java.lang.Object" ) ).isSameAs( Object.class );
+
+			loader.close();
+			//noinspection UnusedAssignment
+			loader = null;
+			for ( int i = 0; i < 50 && loaderReference.get() != null; i++ ) {
+				System.gc();
+			}
+			assertThat( loaderReference.get() ).isNull();
+
+			// the collected loader is simply skipped
+			assertThat( classLoading.<Object>findClassForName( "com.acme.Missing" ) ).isNull();
+			assertThat( classLoading.getStatistics().classLoaderCalls() ).isEqualTo( 2 );
+		}
+		finally {
+			Files.delete( directory );
+		}
+	}
+
+	@Test
+	void testBootstrapDefault() {
+		assertThat( new ModelsConfiguration().getClassLoading() ).isInstanceOf( CachingClassLoading.class );
+		assertThat( new ModelsConfiguration().bootstrap().getClassLoading() ).isInstanceOf( CachingClassLoading.class );
+	}
+}
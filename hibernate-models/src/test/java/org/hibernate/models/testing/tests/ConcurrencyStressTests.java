@@ -0,0 +1,355 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.hibernate.models.internal.AnnotationTargetSupport;
+import org.hibernate.models.internal.ClassDetailsSupport;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Hammers the lazily initialized parts of the model from many threads at once, verifying
+ * every thread observes the same state - the same ClassDetails, member and annotation usage
+ * instances, and complete subtype registrations.
+ * <p/>
+ * Each round uses a fresh ModelsContext so that all threads race on first-time initialization.
+ */
+public class ConcurrencyStressTests {
+	private static final int THREADS = 8;
+	private static final int ROUNDS = 50;
+
+	private static final List<Class<?>> HIERARCHY = List.of(
+			Root.class,
+			Branch1.class,
+			Branch2.class,
+			Leaf11.class,
+			Leaf12.class,
+			Leaf21.class,
+			Leaf22.class
+	);
+
+	@Test
+	void testConcurrentResolution() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext();
+			final List<List<Object>> results = race( (thread) -> {
+				final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+				final List<Object> observed = new ArrayList<>();
+				// vary the order in which the threads resolve the classes
+				for ( int i = 0; i < HIERARCHY.size(); i++ ) {
+					final Class<?> type = HIERARCHY.get( ( i + thread ) % HIERARCHY.size() );
+					registry.resolveClassDetails( type.getName() );
+				}
+				for ( Class<?> type : HIERARCHY ) {
+					final ClassDetails classDetails = registry.resolveClassDetails( type.getName() );
+					observed.add( classDetails );
+					observed.add( classDetails.getSuperClass() );
+					observed.add( classDetails.getFields() );
+					observed.addAll( classDetails.getFields() );
+					observed.add( classDetails.getMethods() );
+					observed.addAll( classDetails.getMethods() );
+				}
+				return observed;
+			} );
+			assertSameInstances( results );
+		}
+	}
+
+	@Test
+	void testConcurrentDerivedViews() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext();
+			final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+			for ( Class<?> type : HIERARCHY ) {
+				registry.resolveClassDetails( type.getName() );
+			}
+			final List<List<Object>> results = race( (thread) -> {
+				final List<Object> observed = new ArrayList<>();
+				for ( int i = 0; i < HIERARCHY.size(); i++ ) {
+					final ClassDetails classDetails = registry.getClassDetails( HIERARCHY.get( ( i + thread ) % HIERARCHY.size() ).getName() );
+					classDetails.getResolvedHierarchy();
+				}
+				for ( Class<?> type : HIERARCHY ) {
+					final ClassDetails classDetails = registry.getClassDetails( type.getName() );
+					observed.add( classDetails.getPersistableMembers() );
+					observed.add( classDetails.getResolvedHierarchy() );
+					observed.add( ( (ClassDetailsSupport) classDetails ).getSupertypeClosure() );
+				}
+				return observed;
+			} );
+			assertSameInstances( results );
+		}
+	}
+
+	@Test
+	void testConcurrentAccessorMethods() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext( Leaf11.class );
+			final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Leaf11.class.getName() );
+			final List<List<Object>> results = race( (thread) -> {
+				final List<Object> observed = new ArrayList<>();
+				// half the threads ask for the accessors only, racing the others building all methods
+				if ( thread % 2 == 0 ) {
+					classDetails.forEachAccessorMethod( observed::add );
+				}
+				else {
+					classDetails.getMethods();
+					classDetails.forEachAccessorMethod( observed::add );
+				}
+				return observed;
+			} );
+			assertSameInstances( results );
+
+			final List<MethodDetails> methods = classDetails.getMethods();
+			for ( Object accessor : results.get( 0 ) ) {
+				assertThat( methods.contains( (MethodDetails) accessor ) ).isTrue();
+			}
+		}
+	}
+
+	@Test
+	void testConcurrentUsageMaps() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext( Root.class );
+			final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Root.class.getName() );
+			final FieldDetails field = classDetails.findFieldByName( "name" );
+			final List<List<Object>> results = race( (thread) -> {
+				final List<Object> observed = new ArrayList<>();
+				observed.add( classDetails.getDirectAnnotationUsage( Marker.class ) );
+				observed.add( field.getDirectAnnotationUsage( Tagged.class ) );
+				final AnnotationDescriptor<Tagged> descriptor = modelsContext.getAnnotationDescriptorRegistry()
+						.getDescriptor( Tagged.class );
+				observed.add( descriptor );
+				observed.add( ( (AnnotationTargetSupport) descriptor ).getUsageMap() );
+				observed.add( descriptor.getDirectAnnotationUsage( Marker.class ) );
+				return observed;
+			} );
+			assertSameInstances( results );
+
+			final List<Object> observed = results.get( 0 );
+			assertThat( ( (Tagged) observed.get( 1 ) ).value() ).isEqualTo( "name" );
+			assertThat( (Map<?, ?>) observed.get( 3 ) ).hasSize( 1 );
+		}
+	}
+
+	@Test
+	void testConcurrentDescriptorCreation() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext();
+			final List<List<Object>> results = race( (thread) -> {
+				final List<Object> observed = new ArrayList<>();
+				observed.add( modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Tagged.class ) );
+				observed.add( modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Marker.class ) );
+				observed.add( modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Labels.class ) );
+				observed.add( modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Label.class ) );
+				return observed;
+			} );
+			assertSameInstances( results );
+
+			final AnnotationDescriptor<Label> labelDescriptor = modelsContext.getAnnotationDescriptorRegistry()
+					.getDescriptor( Label.class );
+			assertThat( labelDescriptor.getRepeatableContainer() ).isSameAs(
+					modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Labels.class )
+			);
+		}
+	}
+
+	@Test
+	void testConcurrentHierarchyRegistration() throws Exception {
+		for ( int round = 0; round < ROUNDS; round++ ) {
+			final ModelsContext modelsContext = createModelContext();
+			final ClassDetailsRegistry registry = modelsContext.getClassDetailsRegistry();
+			race( (thread) -> {
+				if ( thread % 2 == 0 ) {
+					// register the leaves, in different orders
+					for ( int i = 0; i < HIERARCHY.size(); i++ ) {
+						registry.resolveClassDetails( HIERARCHY.get( HIERARCHY.size() - 1 - ( i + thread ) % HIERARCHY.size() ).getName() );
+					}
+				}
+				else {
+					// read the subtypes while they are being registered
+					for ( int i = 0; i < 100; i++ ) {
+						for ( Class<?> type : HIERARCHY ) {
+							for ( ClassDetails subtype : registry.getDirectSubtypes( type.getName() ) ) {
+								assertThat( subtype.getSuperClass().getName() ).isEqualTo( type.getName() );
+							}
+							registry.forEachDirectSubtype( type.getName(), (subtype) -> {} );
+						}
+					}
+				}
+				return List.of();
+			} );
+
+			assertSubtypes( registry, Root.class, Branch1.class, Branch2.class );
+			assertSubtypes( registry, Branch1.class, Leaf11.class, Leaf12.class );
+			assertSubtypes( registry, Branch2.class, Leaf21.class, Leaf22.class );
+			assertThat( registry.findConcreteTypes( Root.class.getName(), true ) ).hasSize( HIERARCHY.size() );
+		}
+	}
+
+	private static void assertSubtypes(ClassDetailsRegistry registry, Class<?> type, Class<?>... expected) {
+		final Set<ClassDetails> subtypes = registry.getDirectSubtypes( type.getName() );
+		assertThat( subtypes ).hasSize( expected.length );
+		for ( Class<?> subtype : expected ) {
+			assertThat( subtypes.contains( registry.getClassDetails( subtype.getName() ) ) ).isTrue();
+		}
+	}
+
+	/**
+	 * Run the action from {@value #THREADS} threads released at the same time, collecting
+	 * what each thread observed.
+	 */
+	private static List<List<Object>> race(IntFunction<List<Object>> action) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final CyclicBarrier barrier = new CyclicBarrier( THREADS );
+			final List<Future<List<Object>>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				final int thread = i;
+				futures.add( executor.submit( () -> {
+					barrier.await();
+					return action.apply( thread );
+				} ) );
+			}
+
+			final List<List<Object>> results = new ArrayList<>();
+			for ( Future<List<Object>> future : futures ) {
+				results.add( future.get( 1, TimeUnit.MINUTES ) );
+			}
+			return results;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void assertSameInstances(List<List<Object>> results) {
+		final List<Object> first = results.get( 0 );
+		for ( List<Object> observed : results ) {
+			assertThat( observed ).hasSize( first.size() );
+			for ( int i = 0; i < first.size(); i++ ) {
+				assertThat( observed.get( i ) ).isSameAs( first.get( i ) );
+			}
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+	public @interface Marker {
+	}
+
+	@Marker
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	public @interface Tagged {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Labels {
+		Label[] value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Repeatable(Labels.class)
+	public @interface Label {
+		String value();
+	}
+
+	@Marker
+	@Label("root")
+	@SuppressWarnings("unused")
+	public static class Root {
+		@Tagged("name")
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void process() {
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class Branch1 extends Root {
+		private Integer size;
+
+		public Integer getSize() {
+			return size;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class Branch2 extends Root {
+		private Long count;
+
+		public Long getCount() {
+			return count;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class Leaf11 extends Branch1 {
+		private String code;
+		private boolean active;
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void activate() {
+			active = true;
+		}
+	}
+
+	public static class Leaf12 extends Branch1 {
+	}
+
+	public static class Leaf21 extends Branch2 {
+	}
+
+	public static class Leaf22 extends Branch2 {
+	}
+}
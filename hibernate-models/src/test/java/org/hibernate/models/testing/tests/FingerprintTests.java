@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.BasicModelsContextImpl;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.ModifierUtils;
+import org.hibernate.models.internal.dynamic.DynamicFieldDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelFingerprint;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.MutableMemberDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ModelFingerprint structural fingerprints}
+ */
+public class FingerprintTests {
+	@Test
+	void testStableAcrossBackends() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Derived.class, Pair.class );
+		final ModelsContext reflectionContext = new BasicModelsContextImpl( SIMPLE_CLASS_LOADING, null );
+
+		for ( Class<?> modelClass : List.of( Base.class, Derived.class, Pair.class, Kind.class ) ) {
+			final ClassDetails classDetails = modelsContext.getClassDetailsRegistry()
+					.resolveClassDetails( modelClass.getName() );
+			final ClassDetails reflectionClassDetails = reflectionContext.getClassDetailsRegistry()
+					.resolveClassDetails( modelClass.getName() );
+			assertThat( classDetails.getFingerprint( modelsContext ) )
+					.describedAs( modelClass.getName() )
+					.isEqualTo( reflectionClassDetails.getFingerprint( reflectionContext ) );
+		}
+	}
+
+	@Test
+	void testStableAcrossContexts() {
+		final ModelsContext first = createModelContext( Base.class, Derived.class, Pair.class );
+		final ModelsContext second = createModelContext( Pair.class, Derived.class, Base.class );
+
+		assertThat( first.getFingerprint() ).isEqualTo( second.getFingerprint() );
+		assertThat( first.getFingerprint().toString().length() ).isEqualTo( 32 );
+	}
+
+	@Test
+	void testDistinguishesClasses() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Derived.class );
+		final ClassDetails base = modelsContext.getClassDetailsRegistry().resolveClassDetails( Base.class.getName() );
+		final ClassDetails derived = modelsContext.getClassDetailsRegistry().resolveClassDetails( Derived.class.getName() );
+
+		assertThat( base.getFingerprint( modelsContext ) ).isNotEqualTo( derived.getFingerprint( modelsContext ) );
+	}
+
+	@Test
+	void testChangesWithAnnotations() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Derived.class, Pair.class );
+		final ClassDetails derived = modelsContext.getClassDetailsRegistry().resolveClassDetails( Derived.class.getName() );
+		final ModelFingerprint classBefore = derived.getFingerprint( modelsContext );
+		final ModelFingerprint contextBefore = modelsContext.getFingerprint();
+
+		final Weight weight = derived.getSuperClass().findFieldByName( "value" ).getDirectAnnotationUsage( Weight.class );
+		( (MutableMemberDetails) derived.findFieldByName( "count" ) ).addAnnotationUsage( weight );
+
+		assertThat( derived.getFingerprint( modelsContext ) ).isNotEqualTo( classBefore );
+		assertThat( modelsContext.getFingerprint() ).isNotEqualTo( contextBefore );
+	}
+
+	@Test
+	void testMemoized() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Derived.class, Pair.class );
+		final MutableClassDetails derived = (MutableClassDetails) modelsContext.getClassDetailsRegistry()
+				.resolveClassDetails( Derived.class.getName() );
+		final ModelFingerprint before = derived.getFingerprint( modelsContext );
+		assertThat( derived.getFingerprint( modelsContext ) ).isSameAs( before );
+
+		final ClassDetails stringDetails = modelsContext.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		derived.addField( new DynamicFieldDetails(
+				"extra",
+				new ClassTypeDetailsImpl( stringDetails, TypeDetails.Kind.CLASS ),
+				derived,
+				ModifierUtils.DYNAMIC_ATTRIBUTE_MODIFIERS,
+				false,
+				false,
+				modelsContext
+		) );
+
+		final ModelFingerprint after = derived.getFingerprint( modelsContext );
+		assertThat( after ).isNotEqualTo( before );
+		assertThat( derived.getFingerprint( modelsContext ) ).isSameAs( after );
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Tagged {
+		String value();
+		Kind kind() default Kind.PLAIN;
+		Class<?>[] related() default {};
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface Weight {
+		int[] value();
+	}
+
+	public enum Kind { PLAIN, SPECIAL }
+
+	@Tagged(value = "base", kind = Kind.SPECIAL, related = { Pair.class, String.class })
+	@SuppressWarnings("unused")
+	static abstract class Base<T extends Comparable<T>> {
+		@Weight({ 1, 2 })
+		protected T value;
+		private List<? extends Number> numbers;
+
+		public abstract T getValue();
+
+		public void setValue(T value) {
+			this.value = value;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Derived extends Base<String> implements Comparable<Derived> {
+		int count;
+		Map<String, List<Integer>>[] lookups;
+
+		@Override
+		@Weight(3)
+		public String getValue() {
+			return value;
+		}
+
+		@Override
+		public int compareTo(Derived o) {
+			return 0;
+		}
+	}
+
+	record Pair<K, V>(@Weight(4) K key, V value) {
+	}
+}
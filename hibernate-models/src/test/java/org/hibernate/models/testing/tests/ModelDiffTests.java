@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.models.diff.internal.ModelDiffer;
+import org.hibernate.models.diff.spi.ModelChange;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.internal.dynamic.DynamicFieldDetails;
+import org.hibernate.models.serial.spi.StorableContext;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.util.SerializationHelper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ModelDiffer}
+ */
+public class ModelDiffTests {
+	@Test
+	void testRestoredSnapshot() {
+		final ModelsContext modelsContext = createModelContext( Book.class );
+		final StorableContext storableContext = SerializationHelper.clone( modelsContext.toStorableForm() );
+		final ModelsContext restored = storableContext.fromStorableForm( SIMPLE_CLASS_LOADING );
+
+		final ModelDiffer differ = new ModelDiffer( restored, modelsContext );
+		assertThat( differ.diffClass( Book.class.getName() ).count() ).isEqualTo( 0L );
+	}
+
+	@Test
+	void testChanges() {
+		final ModelsContext previous = createModelContext( Book.class );
+		final ModelsContext current = createModelContext( Book.class );
+
+		final DynamicClassDetails previousThing = registerDynamic( "Thing", previous );
+		applyAttribute( previousThing, "name", String.class, "first", previous );
+		applyAttribute( previousThing, "code", String.class, null, previous );
+		registerDynamic( "Gone", previous );
+
+		final DynamicClassDetails currentThing = registerDynamic( "Thing", current );
+		applyAttribute( currentThing, "name", String.class, "second", current );
+		applyAttribute( currentThing, "code", Integer.class, null, current );
+		applyAttribute( currentThing, "id", Long.class, null, current );
+		registerDynamic( "Added", current );
+
+		final List<ModelChange> changes = new ModelDiffer( previous, current ).diff()
+				.filter( (change) -> !change.className().equals( Book.class.getName() ) )
+				.collect( Collectors.toList() );
+
+		assertThat( changes.size() ).isEqualTo( 5 );
+		assertThat( changes.get( 0 ) ).isInstanceOf( ModelChange.ClassAdded.class );
+		assertThat( changes.get( 0 ).className() ).isEqualTo( "Added" );
+		assertThat( changes.get( 1 ) ).isInstanceOf( ModelChange.ClassRemoved.class );
+		assertThat( changes.get( 1 ).className() ).isEqualTo( "Gone" );
+
+		final ModelChange.AnnotationChanged annotationChanged = (ModelChange.AnnotationChanged) changes.get( 2 );
+		assertThat( annotationChanged.className() ).isEqualTo( "Thing" );
+		assertThat( annotationChanged.attributeChanges().size() ).isEqualTo( 1 );
+		assertThat( annotationChanged.attributeChanges().get( 0 ).name() ).isEqualTo( "value" );
+		assertThat( annotationChanged.attributeChanges().get( 0 ).previousValue() ).isEqualTo( "first" );
+		assertThat( annotationChanged.attributeChanges().get( 0 ).currentValue() ).isEqualTo( "second" );
+
+		final ModelChange.MemberChanged memberChanged = (ModelChange.MemberChanged) changes.get( 3 );
+		assertThat( memberChanged.current().getName() ).isEqualTo( "code" );
+
+		final ModelChange.MemberAdded memberAdded = (ModelChange.MemberAdded) changes.get( 4 );
+		assertThat( memberAdded.current().getName() ).isEqualTo( "id" );
+	}
+
+	private static DynamicClassDetails registerDynamic(String name, ModelsContext modelsContext) {
+		final DynamicClassDetails classDetails = new DynamicClassDetails( name, modelsContext );
+		modelsContext.getClassDetailsRegistry()
+				.as( MutableClassDetailsRegistry.class )
+				.addClassDetails( name, classDetails );
+		return classDetails;
+	}
+
+	private static void applyAttribute(
+			DynamicClassDetails classDetails,
+			String name,
+			Class<?> type,
+			String label,
+			ModelsContext modelsContext) {
+		final ClassDetails typeDetails = modelsContext.getClassDetailsRegistry().resolveClassDetails( type.getName() );
+		final DynamicFieldDetails attribute = classDetails.applyAttribute( name, typeDetails, false, false, modelsContext );
+		if ( label != null ) {
+			final ClassDetails book = modelsContext.getClassDetailsRegistry().resolveClassDetails( Book.class.getName() );
+			attribute.addAnnotationUsage( book.findFieldByName( label ).getDirectAnnotationUsage( Label.class ) );
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	public @interface Label {
+		String value();
+	}
+
+	@SuppressWarnings("unused")
+	public static class Book {
+		@Label("first")
+		String first;
+		@Label("second")
+		String second;
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassQuery;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ModelsContext#classes()} queries
+ */
+public class ModelQueryTests {
+	@Test
+	void testClassQueries() {
+		final ModelsContext modelsContext = createModelContext( Vehicle.class, Car.class, Truck.class, Garage.class );
+
+		assertThat( names( modelsContext.classes().annotatedWith( Stored.class ).toList() ) )
+				.containsExactlyInAnyOrder( "Vehicle", "Car", "Garage" );
+
+		assertThat( names( modelsContext.classes().subtypesOf( Vehicle.class.getName() ).toList() ) )
+				.containsExactlyInAnyOrder( "Vehicle", "Car", "Truck" );
+
+		assertThat( names( modelsContext.classes().subtypesOf( Vehicle.class.getName() ).concrete().toList() ) )
+				.containsExactlyInAnyOrder( "Car", "Truck" );
+
+		// restrictions combine, whatever their order
+		final ClassQuery storedVehicles = modelsContext.classes()
+				.annotatedWith( Stored.class )
+				.concrete()
+				.subtypesOf( Vehicle.class.getName() );
+		assertThat( names( storedVehicles.toList() ) ).containsExactly( "Car" );
+
+		final ClassQuery abstractVehicles = modelsContext.classes()
+				.filter( ClassDetails::isAbstract )
+				.subtypesOf( Vehicle.class.getName() );
+		assertThat( names( abstractVehicles.toList() ) ).containsExactly( "Vehicle" );
+	}
+
+	@Test
+	void testQueriesAreImmutable() {
+		final ModelsContext modelsContext = createModelContext( Vehicle.class, Car.class, Truck.class, Garage.class );
+
+		final ClassQuery all = modelsContext.classes();
+		final ClassQuery stored = all.annotatedWith( Stored.class );
+		stored.concrete();
+
+		assertThat( stored.toList() ).hasSize( 3 );
+		assertThat( all.toList().size() ).isGreaterThanOrEqualTo( 4 );
+	}
+
+	@Test
+	void testMemberQueries() {
+		final ModelsContext modelsContext = createModelContext( Vehicle.class, Car.class, Truck.class, Garage.class );
+
+		final List<MemberDetails> ids = modelsContext.classes()
+				.annotatedWith( Stored.class )
+				.members()
+				.persistable()
+				.annotatedWith( Key.class )
+				.toList();
+		assertThat( describe( ids ) ).containsExactlyInAnyOrder( "Vehicle.id", "Garage.getCode" );
+
+		final List<MemberDetails> fields = modelsContext.classes()
+				.subtypesOf( Vehicle.class.getName() )
+				.members()
+				.fields()
+				.toList();
+		assertThat( describe( fields ) ).containsExactlyInAnyOrder( "Vehicle.id", "Car.seats", "Truck.payload", "Truck.counter" );
+
+		final List<MemberDetails> persistableFields = modelsContext.classes()
+				.subtypesOf( Vehicle.class.getName() )
+				.members()
+				.fields()
+				.persistable()
+				.toList();
+		assertThat( describe( persistableFields ) ).containsExactlyInAnyOrder( "Vehicle.id", "Car.seats", "Truck.payload" );
+
+		final List<MemberDetails> codes = modelsContext.classes()
+				.members()
+				.attributeNamed( "code" )
+				.toList();
+		assertThat( describe( codes ) ).containsExactly( "Garage.getCode" );
+
+		final List<MemberDetails> methods = modelsContext.classes()
+				.subtypesOf( Garage.class.getName() )
+				.members()
+				.methods()
+				.filter( (member) -> member.getName().startsWith( "open" ) )
+				.toList();
+		assertThat( describe( methods ) ).containsExactly( "Garage.open" );
+	}
+
+	@Test
+	void testParallelQueries() {
+		final ModelsContext modelsContext = createModelContext( Vehicle.class, Car.class, Truck.class, Garage.class );
+
+		final ClassQuery stored = modelsContext.classes().annotatedWith( Stored.class );
+		assertThat( stored.parallel().toList() ).containsExactlyInAnyOrderElementsOf( stored.toList() );
+
+		final List<MemberDetails> sequential = stored.members().persistable().toList();
+		final List<MemberDetails> parallel = stored.members().persistable().parallel().toList();
+		assertThat( parallel ).containsExactlyInAnyOrderElementsOf( sequential );
+	}
+
+	@Test
+	void testSubtypesReachedTwice() {
+		final ModelsContext modelsContext = createModelContext( Powered.class, Electric.class, Hybrid.class, Plugin.class );
+
+		// Plugin implements Powered through both Electric and Hybrid
+		final ClassQuery powered = modelsContext.classes().subtypesOf( Powered.class.getName() ).concrete();
+		assertThat( names( powered.toList() ) ).containsExactly( "Plugin" );
+		assertThat( names( powered.parallel().toList() ) ).containsExactly( "Plugin" );
+	}
+
+	@Test
+	void testNoMatches() {
+		final ModelsContext modelsContext = createModelContext( Vehicle.class );
+
+		assertThat( modelsContext.classes().annotatedWith( Key.class ).toList() ).isEmpty();
+		assertThat( modelsContext.classes().members().attributeNamed( "missing" ).toList() ).isEmpty();
+		assertThat( modelsContext.classes().members().attributeNamed( "id" ).attributeNamed( "other" ).toList() ).isEmpty();
+	}
+
+	private static List<String> names(List<ClassDetails> classes) {
+		return classes.stream().map( (classDetails) -> simpleName( classDetails.getName() ) ).toList();
+	}
+
+	private static List<String> describe(List<MemberDetails> members) {
+		return members.stream()
+				.map( (member) -> simpleName( member.getDeclaringType().getName() ) + "." + member.getName() )
+				.toList();
+	}
+
+	private static String simpleName(String className) {
+		return className.substring( className.lastIndexOf( '$' ) + 1 );
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Stored {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface Key {
+	}
+
+	@Stored
+	@SuppressWarnings("unused")
+	public static abstract class Vehicle {
+		@Key
+		private Integer id;
+	}
+
+	@Stored
+	@SuppressWarnings("unused")
+	public static class Car extends Vehicle {
+		private int seats;
+	}
+
+	@SuppressWarnings("unused")
+	public static class Truck extends Vehicle {
+		private double payload;
+		private static int counter;
+	}
+
+	public interface Powered {
+	}
+
+	public interface Electric extends Powered {
+	}
+
+	public interface Hybrid extends Powered {
+	}
+
+	public static class Plugin implements Electric, Hybrid {
+	}
+
+	@Stored
+	@SuppressWarnings("unused")
+	public static class Garage {
+		@Key
+		public String getCode() {
+			return null;
+		}
+
+		public void open() {
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hibernate.models.rendering.internal.ParallelRenderer;
+import org.hibernate.models.rendering.internal.RenderingTargetCollectingImpl;
+import org.hibernate.models.rendering.internal.RenderingTargetWriterImpl;
+import org.hibernate.models.rendering.internal.SimpleRenderer;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+public class RenderingTests {
+	@Test
+	void testGenericTypeRendering() {
+		final ModelsContext modelsContext = createModelContext( GenericThing.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().resolveClassDetails( GenericThing.class.getName() );
+
+		final StringWriter writer = new StringWriter();
+		final RenderingTargetWriterImpl target = new RenderingTargetWriterImpl( writer, 2, 16 );
+		new SimpleRenderer( target ).renderClass( classDetails, modelsContext );
+		target.flush();
+
+		final String rendered = writer.toString();
+		assertThat( rendered ).contains( "class " + GenericThing.class.getName() + " {" );
+		assertThat( rendered ).contains( "java.util.List<java.lang.String> names" );
+		assertThat( rendered ).contains( "java.util.Map<java.lang.String, ? extends T> values" );
+		assertThat( rendered ).contains( "T[] items" );
+		assertThat( rendered ).contains( "java.util.List<?> anything" );
+		assertThat( rendered ).contains( "int count" );
+	}
+
+	@Test
+	void testParallelRendering() {
+		// render in parallel first, on a fresh context, so the members are built concurrently
+		final ModelsContext parallelContext = createModelContext( GenericThing.class, OtherThing.class, ThirdThing.class );
+		final StringBuilder parallelOutput = new StringBuilder();
+		final ForkJoinPool pool = new ForkJoinPool( 2 );
+		try {
+			new ParallelRenderer( pool ).renderClasses( resolveClasses( parallelContext ), parallelContext, parallelOutput );
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		assertThat( parallelOutput.toString() ).isEqualTo( renderSequentially() );
+	}
+
+	@Test
+	void testParallelRenderingOnCommonPool() {
+		final ModelsContext parallelContext = createModelContext( GenericThing.class, OtherThing.class, ThirdThing.class );
+		final StringBuilder parallelOutput = new StringBuilder();
+		new ParallelRenderer().renderClasses( resolveClasses( parallelContext ), parallelContext, parallelOutput );
+
+		assertThat( parallelOutput.toString() ).isEqualTo( renderSequentially() );
+	}
+
+	private static String renderSequentially() {
+		final ModelsContext sequentialContext = createModelContext( GenericThing.class, OtherThing.class, ThirdThing.class );
+		final RenderingTargetCollectingImpl sequentialTarget = new RenderingTargetCollectingImpl();
+		final SimpleRenderer sequentialRenderer = new SimpleRenderer( sequentialTarget );
+		resolveClasses( sequentialContext ).forEach( (classDetails) -> sequentialRenderer.renderClass( classDetails, sequentialContext ) );
+		return sequentialTarget.toString();
+	}
+
+	private static List<ClassDetails> resolveClasses(ModelsContext modelsContext) {
+		return List.of(
+				modelsContext.getClassDetailsRegistry().resolveClassDetails( ThirdThing.class.getName() ),
+				modelsContext.getClassDetailsRegistry().resolveClassDetails( GenericThing.class.getName() ),
+				modelsContext.getClassDetailsRegistry().resolveClassDetails( OtherThing.class.getName() )
+		);
+	}
+
+	@SuppressWarnings("unused")
+	static class GenericThing<T extends Number> {
+		List<String> names;
+		Map<String, ? extends T> values;
+		T[] items;
+		List<?> anything;
+		int count;
+	}
+
+	@SuppressWarnings("unused")
+	static class OtherThing {
+		String name;
+	}
+
+	@SuppressWarnings("unused")
+	static class ThirdThing {
+		Integer id;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests;
+
+import java.util.List;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.synthetic.SyntheticModel;
+import org.hibernate.models.testing.synthetic.SyntheticModelGenerator;
+import org.hibernate.models.testing.synthetic.SyntheticModelSpec;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Smoke tests for {@linkplain SyntheticModelGenerator synthetic models}
+ */
+public class SyntheticModelTests {
+	@Test
+	void testSyntheticModel() {
+		final SyntheticModelSpec spec = new SyntheticModelSpec()
+				.classCount( 200 )
+				.hierarchyDepth( 3 )
+				.fanOut( 3 )
+				.membersPerClass( 6 );
+		final SyntheticModel syntheticModel = SyntheticModelGenerator.generate( spec );
+		final List<String> classNames = syntheticModel.getClassNames();
+		assertThat( classNames ).hasSize( 200 );
+
+		final ModelsContext modelsContext = createModelContext( syntheticModel );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+
+		int genericRoots = 0;
+		for ( int i = 0; i < classNames.size(); i++ ) {
+			final ClassDetails classDetails = classDetailsRegistry.getClassDetails( classNames.get( i ) );
+			assertThat( classDetails.getDirectAnnotationUsage( Entity.class ).name() ).isEqualTo( "Synthetic" + i );
+			assertThat( classDetails.getFields().size() ).isGreaterThanOrEqualTo( spec.getMembersPerClass() );
+
+			// hierarchies of 1 + 3 + 9 classes
+			if ( i % 13 == 0 ) {
+				assertThat( classDetails.findFieldByName( "id" ).hasDirectAnnotationUsage( Id.class ) ).isTrue();
+				if ( !classDetails.getTypeParameters().isEmpty() ) {
+					genericRoots++;
+					verifyTypeVariableBinding( classDetails, classDetailsRegistry );
+				}
+			}
+			else {
+				assertThat( classDetails.findFieldByName( "id" ) ).isNull();
+			}
+		}
+		assertThat( genericRoots ).isGreaterThan( 0 );
+
+		assertThat( classDetailsRegistry.getDirectSubtypes( classNames.get( 0 ) ) )
+				.extracting( ClassDetails::getName )
+				.containsExactlyInAnyOrder( classNames.get( 1 ), classNames.get( 2 ), classNames.get( 3 ) );
+		assertThat( classDetailsRegistry.getClassDetails( classNames.get( 12 ) ).getSuperClass().getName() )
+				.isEqualTo( classNames.get( 3 ) );
+		// the last, partial, hierarchy
+		assertThat( classDetailsRegistry.getDirectSubtypes( classNames.get( 196 ) ) )
+				.extracting( ClassDetails::getName )
+				.containsExactly( classNames.get( 199 ) );
+	}
+
+	private static void verifyTypeVariableBinding(ClassDetails root, ClassDetailsRegistry classDetailsRegistry) {
+		final FieldDetails genericValue = root.findFieldByName( "genericValue" );
+		assertThat( genericValue ).isNotNull();
+		classDetailsRegistry.forEachDirectSubtype( root.getName(), (subType) -> assertThat(
+				genericValue.resolveRelativeClassType( subType ).getClassDetails().getName()
+		).isEqualTo( String.class.getName() ) );
+	}
+
+	@Test
+	void testStableGeneration() {
+		final SyntheticModelSpec spec = new SyntheticModelSpec().classCount( 50 );
+		final SyntheticModel first = SyntheticModelGenerator.generate( spec );
+		final SyntheticModel second = SyntheticModelGenerator.generate( spec );
+		first.forEachClassFile( (className, classFile) -> assertThat( second.getClassFile( className ) ).isEqualTo( classFile ) );
+
+		final SyntheticModel reseeded = SyntheticModelGenerator.generate( new SyntheticModelSpec().classCount( 50 ).seed( 7 ) );
+		assertThat( reseeded.getClassNames() ).isEqualTo( first.getClassNames() );
+	}
+}
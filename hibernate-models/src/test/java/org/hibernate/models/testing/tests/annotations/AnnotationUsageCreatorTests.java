@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
+import org.hibernate.models.internal.OrmAnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationUsageCreator;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain org.hibernate.models.spi.AnnotationDescriptor#findUsageCreator}
+ */
+public class AnnotationUsageCreatorTests {
+	@Test
+	void testSourceCreator() {
+		final ModelsContext modelsContext = createModelContext();
+		final OrmAnnotationDescriptor<Label, LabelAnnotation> descriptor = new OrmAnnotationDescriptor<>(
+				Label.class,
+				LabelAnnotation.class
+		);
+
+		final AnnotationUsageCreator<LabelSource, LabelAnnotation> creator = descriptor.findUsageCreator( LabelSource.class );
+		assertThat( creator ).isNotNull();
+		assertThat( descriptor.findUsageCreator( LabelSource.class ) ).isSameAs( creator );
+
+		final LabelAnnotation usage = creator.createUsage( new LabelSource( "first", 2 ), modelsContext );
+		assertThat( usage.value() ).isEqualTo( "first" );
+		assertThat( usage.priority() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testUnsupportedSource() {
+		final OrmAnnotationDescriptor<Label, LabelAnnotation> descriptor = new OrmAnnotationDescriptor<>(
+				Label.class,
+				LabelAnnotation.class
+		);
+		assertThat( descriptor.findUsageCreator( String.class ) ).isNull();
+		assertThat( descriptor.findUsageCreator( String.class ) ).isNull();
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Label {
+		String value();
+		int priority() default 0;
+	}
+
+	/**
+	 * Stand-in for a source-specific form such as a Jandex {@code AnnotationInstance}
+	 */
+	public record LabelSource(String value, int priority) {
+	}
+
+	@SuppressWarnings({ "ClassExplicitlyAnnotation", "unused" })
+	public static class LabelAnnotation implements Label {
+		private String value;
+		private int priority;
+
+		public LabelAnnotation(ModelsContext modelsContext) {
+			priority = 0;
+		}
+
+		public LabelAnnotation(Label usage, ModelsContext modelsContext) {
+			value = usage.value();
+			priority = usage.priority();
+		}
+
+		public LabelAnnotation(Map<String,Object> attributeValues, ModelsContext modelsContext) {
+			value = (String) attributeValues.get( "value" );
+			priority = (int) attributeValues.get( "priority" );
+		}
+
+		public LabelAnnotation(LabelSource source, ModelsContext modelsContext) {
+			value = source.value();
+			priority = source.priority();
+		}
+
+		@Override
+		public String value() {
+			return value;
+		}
+
+		@Override
+		public int priority() {
+			return priority;
+		}
+
+		@Override
+		public Class<? extends Annotation> annotationType() {
+			return Label.class;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.models.internal.AbstractModelsContext;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableMemberDetails;
+import org.hibernate.models.testing.orm.ColumnAnnotation;
+import org.hibernate.models.testing.orm.JpaAnnotations;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain org.hibernate.models.spi.AnnotationUsageInterner}
+ */
+public class AnnotationUsageInterningTests {
+	@Test
+	void testNoInterningByDefault() {
+		final ModelsContext modelsContext = createModelContext( SimpleEntity.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( SimpleEntity.class.getName() );
+
+		final Column nameColumn = classDetails.findFieldByName( "name" ).getDirectAnnotationUsage( Column.class );
+		final Column codeColumn = classDetails.findFieldByName( "code" ).getDirectAnnotationUsage( Column.class );
+		assertThat( nameColumn ).isNotSameAs( codeColumn );
+		assertThat( modelsContext.getAnnotationUsageInterner().isShared( nameColumn ) ).isFalse();
+	}
+
+	@Test
+	void testInterning() {
+		final ModelsContext modelsContext = createInterningContext();
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( SimpleEntity.class.getName() );
+
+		final Tracked idTracked = classDetails.findFieldByName( "id" ).getDirectAnnotationUsage( Tracked.class );
+		final Tracked otherIdTracked = classDetails.findFieldByName( "otherId" ).getDirectAnnotationUsage( Tracked.class );
+		assertThat( idTracked ).isSameAs( otherIdTracked );
+		assertThat( modelsContext.getAnnotationUsageInterner().isShared( idTracked ) ).isTrue();
+	}
+
+	@Test
+	void testMutableUsagesCopiedOnWrite() {
+		final ModelsContext modelsContext = createInterningContext();
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( SimpleEntity.class.getName() );
+		final FieldDetails nameField = classDetails.findFieldByName( "name" );
+		final FieldDetails codeField = classDetails.findFieldByName( "code" );
+
+		final Column nameColumn = nameField.getDirectAnnotationUsage( Column.class );
+		final Column codeColumn = codeField.getDirectAnnotationUsage( Column.class );
+		assertThat( nameColumn ).isSameAs( codeColumn );
+		assertThat( modelsContext.getAnnotationUsageInterner().isShared( nameColumn ) ).isTrue();
+		assertThat( classDetails.findFieldByName( "description" ).getDirectAnnotationUsage( Column.class ) )
+				.isNotSameAs( nameColumn );
+		assertThat( classDetails.findFieldByName( "id" ).getDirectAnnotationUsage( Id.class ) )
+				.isSameAs( classDetails.findFieldByName( "otherId" ).getDirectAnnotationUsage( Id.class ) );
+
+		final ColumnAnnotation applied = (ColumnAnnotation) ( (MutableMemberDetails) nameField )
+				.applyAnnotationUsage( JpaAnnotations.COLUMN, modelsContext );
+		assertThat( applied ).isNotSameAs( nameColumn );
+		assertThat( applied.nullable() ).isFalse();
+		assertThat( modelsContext.getAnnotationUsageInterner().isShared( applied ) ).isFalse();
+		assertThat( nameField.getDirectAnnotationUsage( Column.class ) ).isSameAs( applied );
+
+		applied.name( "the_name" );
+		assertThat( codeColumn.name() ).isEmpty();
+		assertThat( codeField.getDirectAnnotationUsage( Column.class ) ).isSameAs( codeColumn );
+
+		// the private copy is handed out as-is from then on
+		assertThat( ( (MutableMemberDetails) nameField ).applyAnnotationUsage( JpaAnnotations.COLUMN, modelsContext ) )
+				.isSameAs( applied );
+	}
+
+	private static ModelsContext createInterningContext() {
+		final ModelsContext modelsContext = createModelContext();
+		modelsContext.as( AbstractModelsContext.class ).enableAnnotationUsageInterning();
+		modelsContext.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() );
+		return modelsContext;
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.FIELD)
+	public @interface Tracked {
+	}
+
+	@SuppressWarnings("unused")
+	public static class SimpleEntity {
+		@Id
+		@Tracked
+		private Integer id;
+		@Id
+		@Tracked
+		private Integer otherId;
+		@Column(nullable = false)
+		private String name;
+		@Column(nullable = false)
+		private String code;
+		@Column(length = 1024)
+		private String description;
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain org.hibernate.models.spi.ClassDetailsRegistry#scanAnnotationUsages}
+ */
+public class AnnotationUsageScanTests {
+	@Test
+	void testScan() {
+		final ModelsContext modelsContext = createModelContext( Order.class, Item.class );
+		final AnnotationDescriptorRegistry descriptors = modelsContext.getAnnotationDescriptorRegistry();
+
+		final List<String> found = new ArrayList<>();
+		final boolean completed = modelsContext.getClassDetailsRegistry().scanAnnotationUsages(
+				List.of( descriptors.getDescriptor( Marked.class ), descriptors.getDescriptor( Note.class ) ),
+				(target, descriptor, usage) -> {
+					assertThat( usage.annotationType() ).isSameAs( descriptor.getAnnotationType() );
+					found.add( describe( target ) + "@" + descriptor.getAnnotationType().getSimpleName() + "(" + value( usage ) + ")" );
+					return true;
+				}
+		);
+
+		assertThat( completed ).isTrue();
+		assertThat( found ).containsExactlyInAnyOrder(
+				"Order@Marked(order)",
+				"Order.id@Marked(id)",
+				"Order.getTotal@Marked(total)",
+				// the repetitions, from within the container
+				"Order@Note(first)",
+				"Order@Note(second)",
+				"Item@Note(single)",
+				"Item.name@Marked(name)"
+		);
+	}
+
+	@Test
+	void testParallelScan() {
+		final ModelsContext modelsContext = createModelContext( Order.class, Item.class );
+		final AnnotationDescriptorRegistry descriptors = modelsContext.getAnnotationDescriptorRegistry();
+		final List<AnnotationDescriptor<?>> scanned = List.of(
+				descriptors.getDescriptor( Marked.class ),
+				descriptors.getDescriptor( Note.class )
+		);
+
+		final List<String> sequential = new ArrayList<>();
+		modelsContext.getClassDetailsRegistry().scanAnnotationUsages( scanned, (target, descriptor, usage) -> {
+			sequential.add( describe( target ) + "@" + value( usage ) );
+			return true;
+		} );
+
+		final Set<String> parallel = ConcurrentHashMap.newKeySet();
+		final boolean completed = modelsContext.getClassDetailsRegistry().scanAnnotationUsages(
+				scanned,
+				(target, descriptor, usage) -> {
+					parallel.add( describe( target ) + "@" + value( usage ) );
+					return true;
+				},
+				true
+		);
+
+		assertThat( completed ).isTrue();
+		assertThat( parallel ).containsExactlyInAnyOrder( sequential.toArray() );
+	}
+
+	@Test
+	void testEarlyTermination() {
+		final ModelsContext modelsContext = createModelContext( Order.class, Item.class );
+		final AnnotationDescriptorRegistry descriptors = modelsContext.getAnnotationDescriptorRegistry();
+
+		final AtomicInteger visits = new AtomicInteger();
+		final boolean completed = modelsContext.getClassDetailsRegistry().scanAnnotationUsages(
+				List.of( descriptors.getDescriptor( Marked.class ) ),
+				(target, descriptor, usage) -> {
+					visits.incrementAndGet();
+					return false;
+				}
+		);
+		assertThat( completed ).isFalse();
+		assertThat( visits.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testNoDescriptors() {
+		final ModelsContext modelsContext = createModelContext( Order.class );
+		final boolean completed = modelsContext.getClassDetailsRegistry().scanAnnotationUsages(
+				List.of(),
+				(target, descriptor, usage) -> {
+					throw new AssertionError( "Unexpected visit" );
+				}
+		);
+		assertThat( completed ).isTrue();
+	}
+
+	private static String describe(Object target) {
+		if ( target instanceof ClassDetails classDetails ) {
+			return simpleName( classDetails.getName() );
+		}
+		final MemberDetails member = (MemberDetails) target;
+		return simpleName( member.getDeclaringType().getName() ) + "." + member.getName();
+	}
+
+	private static String simpleName(String className) {
+		return className.substring( className.lastIndexOf( '$' ) + 1 );
+	}
+
+	private static String value(Object usage) {
+		if ( usage instanceof Marked marked ) {
+			return marked.value();
+		}
+		return ( (Note) usage ).value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
+	public @interface Marked {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.FIELD})
+	public @interface Ignored {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Notes {
+		Note[] value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Repeatable(Notes.class)
+	public @interface Note {
+		String value();
+	}
+
+	@Marked("order")
+	@Ignored
+	@Note("first")
+	@Note("second")
+	@SuppressWarnings("unused")
+	public static class Order {
+		@Marked("id")
+		private Integer id;
+		@Ignored
+		private String reference;
+
+		@Marked("total")
+		public double getTotal() {
+			return 0;
+		}
+	}
+
+	@Note("single")
+	@SuppressWarnings("unused")
+	public static class Item {
+		@Marked("name")
+		@Ignored
+		private String name;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.models.internal.AbstractModelsContext;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ClassDetails#getEffectiveAnnotationUsages}
+ * and lookups of {@linkplain Inherited inherited} annotations.
+ */
+public class InheritedUsageTests {
+	@Test
+	void testEffectiveUsages() {
+		final ModelsContext modelsContext = createModelContext( Root.class, Middle.class, Leaf.class );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails leaf = classDetailsRegistry.getClassDetails( Leaf.class.getName() );
+
+		final Marker marker = leaf.getAnnotationUsage( Marker.class, modelsContext );
+		assertThat( marker ).isNotNull();
+		assertThat( marker.value() ).isEqualTo( "root" );
+		assertThat( leaf.getAnnotationUsage( LocalOnly.class, modelsContext ) ).isNull();
+
+		final Collection<? extends Annotation> effectiveUsages = leaf.getEffectiveAnnotationUsages( modelsContext );
+		assertThat( effectiveUsages ).hasSize( 2 );
+		assertThat( effectiveUsages.stream().map( Annotation::annotationType ) )
+				.containsExactlyInAnyOrder( Marker.class, Other.class );
+		// served from the cached snapshot while nothing changes
+		assertThat( leaf.getEffectiveAnnotationUsages( modelsContext ) ).isSameAs( effectiveUsages );
+	}
+
+	@Test
+	void testHierarchyChanges() {
+		final ModelsContext modelsContext = createModelContext( Root.class, Replacement.class );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final AnnotationDescriptor<Marker> markerDescriptor = modelsContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Marker.class );
+		final Marker rootMarker = classDetailsRegistry
+				.getClassDetails( Root.class.getName() )
+				.getDirectAnnotationUsage( Marker.class );
+		final Marker replacementMarker = classDetailsRegistry
+				.getClassDetails( Replacement.class.getName() )
+				.getDirectAnnotationUsage( Marker.class );
+
+		final DynamicClassDetails root = new DynamicClassDetails( "DynamicRoot", modelsContext );
+		final DynamicClassDetails middle = new DynamicClassDetails( "DynamicMiddle", root, null, modelsContext );
+		final DynamicClassDetails leaf = new DynamicClassDetails( "DynamicLeaf", middle, null, modelsContext );
+		root.addAnnotationUsage( rootMarker );
+
+		assertThat( leaf.getAnnotationUsage( markerDescriptor, modelsContext ) ).isSameAs( rootMarker );
+		assertThat( leaf.getEffectiveAnnotationUsages( modelsContext ) ).hasSize( 1 );
+
+		// changes to a super class are visible to sub classes
+		root.removeAnnotationUsage( markerDescriptor );
+		assertThat( leaf.getAnnotationUsage( markerDescriptor, modelsContext ) ).isNull();
+		assertThat( leaf.getEffectiveAnnotationUsages( modelsContext ) ).isEmpty();
+
+		middle.addAnnotationUsage( replacementMarker );
+		assertThat( leaf.getAnnotationUsage( markerDescriptor, modelsContext ) ).isSameAs( replacementMarker );
+
+		// local usages hide inherited ones
+		leaf.addAnnotationUsage( rootMarker );
+		assertThat( leaf.getAnnotationUsage( markerDescriptor, modelsContext ) ).isSameAs( rootMarker );
+		leaf.clearAnnotationUsages();
+		assertThat( leaf.getAnnotationUsage( markerDescriptor, modelsContext ) ).isSameAs( replacementMarker );
+	}
+
+	@Test
+	void testModificationsPerContext() {
+		final ModelsContext modelsContext = createModelContext( Root.class );
+		final ModelsContext otherContext = createModelContext( Root.class );
+		final Marker rootMarker = otherContext.getClassDetailsRegistry()
+				.getClassDetails( Root.class.getName() )
+				.getDirectAnnotationUsage( Marker.class );
+
+		final AtomicInteger modifications = ( (AbstractModelsContext) modelsContext ).getUsageModifications();
+		final AtomicInteger otherModifications = ( (AbstractModelsContext) otherContext ).getUsageModifications();
+		final int before = modifications.get();
+		final int otherBefore = otherModifications.get();
+
+		final DynamicClassDetails other = new DynamicClassDetails( "Other", otherContext );
+		other.addAnnotationUsage( rootMarker );
+
+		// only the owning context's caches have to re-check their hierarchy
+		assertThat( otherModifications.get() ).isGreaterThan( otherBefore );
+		assertThat( modifications.get() ).isEqualTo( before );
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Marker {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface LocalOnly {
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Other {
+	}
+
+	@Marker("root")
+	@LocalOnly
+	public static class Root {
+	}
+
+	public static class Middle extends Root {
+	}
+
+	@Other
+	public static class Leaf extends Middle {
+	}
+
+	@Marker("replacement")
+	public static class Replacement {
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for the flattened view of {@linkplain Repeatable repeatable} usages
+ */
+public class RepeatedUsageListTests {
+	@Test
+	void testFlattenedUsages() {
+		final ModelsContext modelsContext = createModelContext( Tagged.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Tagged.class.getName() );
+		final AnnotationDescriptor<Tag> tagDescriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Tag.class );
+
+		final List<Tag> tags = classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext );
+		assertThat( tags ).hasSize( 2 );
+		assertThat( tags.get( 0 ).value() ).isEqualTo( "first" );
+		assertThat( tags.get( 1 ).value() ).isEqualTo( "second" );
+
+		// the view is shared
+		assertThat( classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext ) ).isSameAs( tags );
+
+		// arrays are copies
+		final Tag[] tagArray = classDetails.getRepeatedAnnotationUsages( tagDescriptor, modelsContext );
+		assertThat( tagArray ).hasSize( 2 );
+		tagArray[0] = null;
+		assertThat( classDetails.getRepeatedAnnotationUsages( tagDescriptor, modelsContext )[0] ).isNotNull();
+
+		final List<String> values = new ArrayList<>();
+		classDetails.forEachRepeatedAnnotationUsages( Tag.class, Tags.class, modelsContext, (tag) -> values.add( tag.value() ) );
+		assertThat( values ).containsExactly( "first", "second" );
+
+		// the container form is still available
+		assertThat( classDetails.getDirectAnnotationUsage( Tags.class ) ).isNotNull();
+		assertThat( classDetails.getDirectAnnotationUsage( Tag.class ) ).isNull();
+	}
+
+	@Test
+	void testChangedUsages() {
+		final ModelsContext modelsContext = createModelContext( Tagged.class, SingleTagged.class );
+		final MutableClassDetails classDetails = (MutableClassDetails) modelsContext
+				.getClassDetailsRegistry()
+				.getClassDetails( Tagged.class.getName() );
+		final AnnotationDescriptor<Tag> tagDescriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Tag.class );
+
+		final List<Tag> before = classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext );
+		assertThat( before ).hasSize( 2 );
+
+		final Tag single = modelsContext.getClassDetailsRegistry()
+				.getClassDetails( SingleTagged.class.getName() )
+				.getDirectAnnotationUsage( Tag.class );
+		classDetails.addAnnotationUsage( single );
+
+		final List<Tag> withSingle = classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext );
+		assertThat( withSingle ).hasSize( 3 );
+		assertThat( withSingle.get( 0 ) ).isSameAs( single );
+
+		classDetails.removeAnnotationUsage( modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Tags.class ) );
+		final List<Tag> singleOnly = classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext );
+		assertThat( singleOnly ).hasSize( 1 );
+
+		classDetails.clearAnnotationUsages();
+		assertThat( classDetails.getRepeatedAnnotationUsageList( tagDescriptor, modelsContext ) ).isEmpty();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Repeatable(Tags.class)
+	public @interface Tag {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Tags {
+		Tag[] value();
+	}
+
+	@Tag("first")
+	@Tag("second")
+	public static class Tagged {
+	}
+
+	@Tag("single")
+	public static class SingleTagged {
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AnnotationTarget;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests that annotation type metadata is shared by the descriptors of different contexts
+ */
+public class SharedDescriptorMetadataTests {
+	@Test
+	void testSharedAttributes() {
+		final AnnotationDescriptor<Mapping> first = createModelContext( Mapped.class )
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Mapping.class );
+		final AnnotationDescriptor<Mapping> second = createModelContext( Mapped.class )
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Mapping.class );
+		assertThat( first ).isNotSameAs( second );
+
+		assertThat( first.getAttributes() ).hasSize( 4 );
+		assertThat( second.getAttributes() ).isSameAs( first.getAttributes() );
+		for ( String name : new String[] { "name", "kind", "details", "nested" } ) {
+			final AttributeDescriptor<?> firstAttribute = first.getAttribute( name );
+			assertThat( second.getAttribute( name ) ).isSameAs( firstAttribute );
+			assertThat( firstAttribute.getTypeDescriptor().getValueType() ).isSameAs( firstAttribute.getAttributeMethod().getReturnType() );
+		}
+
+		assertThat( first.isInherited() ).isTrue();
+		assertThat( first.getAllowableTargets() ).containsExactlyInAnyOrder( AnnotationTarget.Kind.CLASS );
+		// each descriptor has its own copy of the targets
+		assertThat( first.getAllowableTargets() ).isNotSameAs( second.getAllowableTargets() );
+	}
+
+	@Test
+	void testNestedValuesPerContext() {
+		for ( int i = 0; i < 2; i++ ) {
+			final ModelsContext modelsContext = createModelContext( Mapped.class );
+			final AnnotationDescriptor<Mapping> descriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( Mapping.class );
+			final Mapping usage = modelsContext.getClassDetailsRegistry()
+					.getClassDetails( Mapped.class.getName() )
+					.getDirectAnnotationUsage( Mapping.class );
+
+			final AttributeDescriptor<Detail> nested = descriptor.getAttribute( "nested" );
+			final Detail nestedValue = nested.getTypeDescriptor()
+					.createJdkValueExtractor( modelsContext )
+					.extractValue( usage, nested, modelsContext );
+			assertThat( nestedValue.value() ).isEqualTo( "main" );
+
+			final AttributeDescriptor<Detail[]> details = descriptor.getAttribute( "details" );
+			final Detail[] detailValues = details.getTypeDescriptor()
+					.createJdkValueExtractor( modelsContext )
+					.extractValue( usage, details, modelsContext );
+			assertThat( detailValues ).hasSize( 2 );
+			assertThat( detailValues[1].value() ).isEqualTo( "second" );
+		}
+	}
+
+	public enum Kind { BASIC, EMBEDDED }
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	public @interface Detail {
+		String value();
+	}
+
+	@Inherited
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	public @interface Mapping {
+		String name();
+		Kind kind() default Kind.BASIC;
+		Detail[] details() default {};
+		Detail nested();
+	}
+
+	@Mapping(name = "mapped", details = { @Detail("first"), @Detail("second") }, nested = @Detail("main"))
+	public static class Mapped {
+	}
+}
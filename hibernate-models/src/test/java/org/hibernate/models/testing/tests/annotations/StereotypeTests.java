@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for meta-annotations nested multiple levels deep (stereotypes)
+ */
+public class StereotypeTests {
+	@Test
+	void testMetaAnnotationClosure() {
+		final ModelsContext modelsContext = createModelContext( Service.class );
+		final AnnotationDescriptor<Composed> descriptor = modelsContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Composed.class );
+
+		assertThat( descriptor.isMetaAnnotatedWith( Stereotype.class ) ).isTrue();
+		assertThat( descriptor.isMetaAnnotatedWith( Marker.class ) ).isTrue();
+		assertThat( descriptor.isMetaAnnotatedWith( Retention.class ) ).isTrue();
+		assertThat( descriptor.isMetaAnnotatedWith( Unused.class ) ).isFalse();
+
+		final Marker marker = (Marker) descriptor.getMetaAnnotationClosure().get( Marker.class );
+		assertThat( marker.value() ).isEqualTo( "stereotype" );
+
+		// cycles are fine
+		final AnnotationDescriptor<Cyclic> cyclic = modelsContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Cyclic.class );
+		assertThat( cyclic.isMetaAnnotatedWith( Cyclic.class ) ).isTrue();
+	}
+
+	@Test
+	void testLocateUsage() {
+		final ModelsContext modelsContext = createModelContext( Service.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Service.class.getName() );
+
+		final Stereotype stereotype = classDetails.locateAnnotationUsage( Stereotype.class, modelsContext );
+		assertThat( stereotype ).isNotNull();
+
+		final Marker marker = classDetails.locateAnnotationUsage( Marker.class, modelsContext );
+		assertThat( marker ).isNotNull();
+		assertThat( marker.value() ).isEqualTo( "stereotype" );
+
+		assertThat( classDetails.locateAnnotationUsage( Unused.class, modelsContext ) ).isNull();
+	}
+
+	@Test
+	void testMetaAnnotated() {
+		final ModelsContext modelsContext = createModelContext( Service.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Service.class.getName() );
+
+		final List<? extends Annotation> markerAnnotated = classDetails.getMetaAnnotated( Marker.class, modelsContext );
+		assertThat( markerAnnotated ).hasSize( 1 );
+		assertThat( markerAnnotated.get( 0 ).annotationType() ).isEqualTo( Composed.class );
+
+		assertThat( classDetails.getMetaAnnotated( Unused.class, modelsContext ) ).isEmpty();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Marker {
+		String value();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Unused {
+	}
+
+	@Marker("stereotype")
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Stereotype {
+	}
+
+	@Stereotype
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Composed {
+	}
+
+	@Cyclic
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface Cyclic {
+	}
+
+	@Composed
+	public static class Service {
+	}
+}
@@ -267,4 +267,59 @@ public class ImplementorTests {
 				CustomerImpl.class.getName()
 		);
 	}
+
+	@Test
+	void testAssignability() {
+		final ModelsContext modelsContext = buildModelContext(
+				PersonImpl.class,
+				CustomerImpl.class,
+				EmployeeImpl.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails thing = classDetailsRegistry.getClassDetails( Thing.class.getName() );
+		final ClassDetails person = classDetailsRegistry.getClassDetails( Person.class.getName() );
+		final ClassDetails personImpl = classDetailsRegistry.getClassDetails( PersonImpl.class.getName() );
+		final ClassDetails customer = classDetailsRegistry.getClassDetails( Customer.class.getName() );
+		final ClassDetails customerImpl = classDetailsRegistry.getClassDetails( CustomerImpl.class.getName() );
+		final ClassDetails employeeImpl = classDetailsRegistry.getClassDetails( EmployeeImpl.class.getName() );
+
+		assertThat( customerImpl.isAssignableTo( customerImpl ) ).isTrue();
+		assertThat( customerImpl.isAssignableTo( customer ) ).isTrue();
+		assertThat( customerImpl.isAssignableTo( personImpl ) ).isTrue();
+		assertThat( customerImpl.isAssignableTo( person ) ).isTrue();
+		assertThat( customerImpl.isAssignableTo( thing ) ).isTrue();
+		assertThat( customerImpl.isAssignableTo( employeeImpl ) ).isFalse();
+
+		assertThat( customer.isAssignableTo( thing ) ).isTrue();
+		assertThat( customer.isAssignableTo( personImpl ) ).isFalse();
+		assertThat( person.isAssignableTo( customer ) ).isFalse();
+
+		assertThat( customerImpl.isImplementor( Thing.class ) ).isTrue();
+		assertThat( customerImpl.isImplementor( EmployeeImpl.class ) ).isFalse();
+	}
+
+	@Test
+	void testImplementorChecks() {
+		final ModelsContext modelsContext = buildModelContext(
+				PersonImpl.class,
+				ContractorImpl.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails thing = classDetailsRegistry.getClassDetails( Thing.class.getName() );
+		final ClassDetails person = classDetailsRegistry.getClassDetails( Person.class.getName() );
+		final ClassDetails contractorImpl = classDetailsRegistry.getClassDetails( ContractorImpl.class.getName() );
+
+		// everything, interfaces included, is an Object
+		assertThat( contractorImpl.isImplementor( Object.class ) ).isTrue();
+		assertThat( person.isImplementor( Object.class ) ).isTrue();
+		assertThat( thing.isImplementor( Object.class ) ).isTrue();
+
+		// interfaces implemented only by the super class
+		assertThat( contractorImpl.isImplementor( Person.class ) ).isTrue();
+		assertThat( contractorImpl.isImplementor( Thing.class ) ).isTrue();
+		assertThat( contractorImpl.isImplementor( Customer.class ) ).isFalse();
+	}
+
+	public static class ContractorImpl extends PersonImpl {
+	}
 }
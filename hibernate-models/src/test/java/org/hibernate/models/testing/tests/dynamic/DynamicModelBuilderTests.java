@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.dynamic;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.UnknownClassException;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.internal.dynamic.DynamicModelBuilder;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.testing.orm.EntityAnnotation;
+import org.hibernate.models.testing.orm.JpaAnnotations;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@linkplain DynamicModelBuilder}
+ */
+public class DynamicModelBuilderTests {
+	@Test
+	void testBuild() {
+		final ModelsContext modelsContext = createModelContext();
+		final DynamicModelBuilder builder = new DynamicModelBuilder( modelsContext );
+
+		// defined before its super class and the class it refers to
+		final DynamicModelBuilder.ClassBuilder orderBuilder = builder.defineClass( "Order" ).superClass( "Base" );
+		( (EntityAnnotation) orderBuilder.applyAnnotationUsage( JpaAnnotations.ENTITY ) ).name( "Orders" );
+		orderBuilder.applyAttribute( "total", BigDecimal.class.getName() );
+		orderBuilder.applyAttribute( "customer", "Customer" );
+
+		final DynamicModelBuilder.ClassBuilder customerBuilder = builder.defineClass( "Customer" ).superClass( "Base" );
+		customerBuilder.applyAnnotationUsage( JpaAnnotations.ENTITY );
+		customerBuilder.applyAttribute( "orders", "Order" ).isPlural( true );
+
+		final DynamicModelBuilder.ClassBuilder baseBuilder = builder.defineClass( "Base" ).isAbstract( true );
+		baseBuilder.applyAttribute( "id", Long.class.getName() ).applyAnnotationUsage( JpaAnnotations.ID );
+
+		final List<DynamicClassDetails> built = builder.build();
+		assertThat( built ).extracting( ClassDetails::getName ).containsExactly( "Order", "Customer", "Base" );
+
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails order = classDetailsRegistry.getClassDetails( "Order" );
+		final ClassDetails customer = classDetailsRegistry.getClassDetails( "Customer" );
+		final ClassDetails base = classDetailsRegistry.getClassDetails( "Base" );
+		assertThat( built ).containsExactly( order, customer, base );
+
+		assertThat( order.getSuperClass() ).isSameAs( base );
+		assertThat( order.getDirectAnnotationUsage( Entity.class ).name() ).isEqualTo( "Orders" );
+		assertThat( order.getFields() ).extracting( FieldDetails::getName ).containsExactly( "total", "customer" );
+		assertThat( order.findFieldByName( "customer" ).getType().determineRawClass() ).isSameAs( customer );
+
+		assertThat( customer.findFieldByName( "orders" ).isPlural() ).isTrue();
+		assertThat( customer.findFieldByName( "orders" ).getType().determineRawClass() ).isSameAs( order );
+
+		assertThat( base.isAbstract() ).isTrue();
+		assertThat( base.getDirectAnnotationUsages() ).isEmpty();
+		assertThat( base.findFieldByName( "id" ).hasDirectAnnotationUsage( Id.class ) ).isTrue();
+
+		assertThat( classDetailsRegistry.getDirectSubtypes( "Base" ) ).containsExactlyInAnyOrder( order, customer );
+	}
+
+	@Test
+	void testSuperClassReferencingSubclass() {
+		final ModelsContext modelsContext = createModelContext();
+		final DynamicModelBuilder builder = new DynamicModelBuilder( modelsContext );
+
+		// the subclass is defined first, so building it builds the super class whose attribute refers back to it
+		builder.defineClass( "Employee" ).superClass( "Person" );
+		builder.defineClass( "Person" ).applyAttribute( "manager", "Employee" );
+
+		builder.build();
+
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails employee = classDetailsRegistry.getClassDetails( "Employee" );
+		final ClassDetails person = classDetailsRegistry.getClassDetails( "Person" );
+		assertThat( employee.getSuperClass() ).isSameAs( person );
+		assertThat( person.findFieldByName( "manager" ).getType().determineRawClass() ).isSameAs( employee );
+	}
+
+	@Test
+	void testCircularSuperClasses() {
+		final ModelsContext modelsContext = createModelContext();
+		final DynamicModelBuilder builder = new DynamicModelBuilder( modelsContext );
+		builder.defineClass( "First" ).superClass( "Second" );
+		builder.defineClass( "Second" ).superClass( "First" );
+
+		try {
+			builder.build();
+			fail( "Expecting ModelsException" );
+		}
+		catch (ModelsException expected) {
+			assertThat( expected.getMessage() ).contains( "First", "Second" );
+		}
+
+		assertThat( modelsContext.getClassDetailsRegistry().findClassDetails( "First" ) ).isNull();
+	}
+
+	@Test
+	void testUnknownTypes() {
+		final ModelsContext modelsContext = createModelContext();
+		final DynamicModelBuilder builder = new DynamicModelBuilder( modelsContext );
+		builder.defineClass( "Thing" ).superClass( "com.acme.Missing" );
+		builder.defineClass( "Other" ).applyAttribute( "value", "com.acme.AlsoMissing" );
+
+		try {
+			builder.build();
+			fail( "Expecting UnknownClassException" );
+		}
+		catch (UnknownClassException expected) {
+			assertThat( expected.getMessage() ).contains( "com.acme.Missing", "com.acme.AlsoMissing" );
+		}
+
+		// nothing was registered
+		assertThat( modelsContext.getClassDetailsRegistry().findClassDetails( "Thing" ) ).isNull();
+		assertThat( modelsContext.getClassDetailsRegistry().findClassDetails( "Other" ) ).isNull();
+	}
+}
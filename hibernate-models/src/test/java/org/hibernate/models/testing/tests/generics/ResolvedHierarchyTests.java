@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.generics;
+
+import java.util.List;
+
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.ModifierUtils;
+import org.hibernate.models.internal.dynamic.DynamicFieldDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.ResolvedHierarchy;
+import org.hibernate.models.spi.TypeDetails;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ClassDetails#getResolvedHierarchy()}
+ */
+public class ResolvedHierarchyTests {
+	@Test
+	void testSimpleHierarchy() {
+		final ModelsContext modelsContext = createModelContext( Item.class, Hat.class );
+		final ClassDetails item = modelsContext.getClassDetailsRegistry().getClassDetails( Item.class.getName() );
+		final ClassDetails hat = modelsContext.getClassDetailsRegistry().getClassDetails( Hat.class.getName() );
+
+		final ResolvedHierarchy hierarchy = hat.getResolvedHierarchy();
+		assertThat( hierarchy.getClassDetails() ).isSameAs( hat );
+		assertThat( hierarchy.getSuperHierarchy() ).isSameAs( item.getResolvedHierarchy() );
+		assertThat( hat.getResolvedHierarchy() ).isSameAs( hierarchy );
+		assertThat( hierarchy.getMembers() ).hasSize( 3 );
+
+		final FieldDetails id = item.findFieldByName( "id" );
+		final TypeDetails idType = hierarchy.resolveMemberType( id );
+		assertThat( idType.getTypeKind() ).isEqualTo( TypeDetails.Kind.CLASS );
+		assertThat( idType.determineRawClass().toJavaClass() ).isEqualTo( Integer.class );
+		assertThat( item.getResolvedHierarchy().resolveMemberType( id ).getTypeKind() )
+				.isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+
+		final TypeDetails tagsType = hierarchy.resolveMemberType( item.findFieldByName( "tags" ) );
+		assertThat( tagsType.getTypeKind() ).isEqualTo( TypeDetails.Kind.PARAMETERIZED_TYPE );
+		assertThat( tagsType.asParameterizedType().getRawClassDetails().toJavaClass() ).isEqualTo( List.class );
+		assertThat( tagsType.asParameterizedType().getArguments().get( 0 ).determineRawClass().toJavaClass() )
+				.isEqualTo( Integer.class );
+
+		final FieldDetails color = hat.findFieldByName( "color" );
+		assertThat( hierarchy.resolveMemberType( color ).determineRawClass().toJavaClass() ).isEqualTo( String.class );
+
+		assertThat( hierarchy.resolveTypeVariable( id.getType().asTypeVariable() ).determineRawClass().toJavaClass() )
+				.isEqualTo( Integer.class );
+	}
+
+	@Test
+	void testNestedHierarchy() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Mid.class, Leaf.class );
+		final ClassDetails base = modelsContext.getClassDetailsRegistry().getClassDetails( Base.class.getName() );
+		final ClassDetails mid = modelsContext.getClassDetailsRegistry().getClassDetails( Mid.class.getName() );
+		final ClassDetails leaf = modelsContext.getClassDetailsRegistry().getClassDetails( Leaf.class.getName() );
+
+		final ResolvedHierarchy hierarchy = leaf.getResolvedHierarchy();
+		assertThat( hierarchy.getMembers() ).hasSize( 3 );
+
+		final TypeDetails aType = hierarchy.resolveMemberType( base.findFieldByName( "a" ) );
+		assertThat( aType.getTypeKind() ).isEqualTo( TypeDetails.Kind.PARAMETERIZED_TYPE );
+		assertThat( aType.asParameterizedType().getRawClassDetails().toJavaClass() ).isEqualTo( List.class );
+		assertThat( aType.asParameterizedType().getArguments().get( 0 ).determineRawClass().toJavaClass() )
+				.isEqualTo( String.class );
+
+		final TypeDetails bType = hierarchy.resolveMemberType( mid.findFieldByName( "b" ) );
+		assertThat( bType.determineRawClass().toJavaClass() ).isEqualTo( String.class );
+
+		// members unaffected by the bindings are shared
+		final ResolvedHierarchy.ResolvedMember count = hierarchy.getMembers().get( 1 );
+		assertThat( count.getMember().getName() ).isEqualTo( "count" );
+		assertThat( count ).isSameAs( mid.getResolvedHierarchy().getMembers().get( 1 ) );
+
+		assertThat( hierarchy.resolveTypeVariable( base.getTypeParameters().get( 0 ) ).getTypeKind() )
+				.isEqualTo( TypeDetails.Kind.PARAMETERIZED_TYPE );
+		assertThat( hierarchy.resolveTypeVariable( mid.getTypeParameters().get( 0 ) ).determineRawClass().toJavaClass() )
+				.isEqualTo( String.class );
+	}
+
+	@Test
+	void testSuperClassChanges() {
+		final ModelsContext modelsContext = createModelContext( Base.class, Mid.class, Leaf.class );
+		final MutableClassDetails base = (MutableClassDetails) modelsContext.getClassDetailsRegistry().getClassDetails( Base.class.getName() );
+		final ClassDetails leaf = modelsContext.getClassDetailsRegistry().getClassDetails( Leaf.class.getName() );
+
+		final ResolvedHierarchy before = leaf.getResolvedHierarchy();
+		assertThat( leaf.getResolvedHierarchy() ).isSameAs( before );
+
+		final ClassDetails stringDetails = modelsContext.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		final DynamicFieldDetails extra = new DynamicFieldDetails(
+				"extra",
+				new ClassTypeDetailsImpl( stringDetails, TypeDetails.Kind.CLASS ),
+				base,
+				ModifierUtils.DYNAMIC_ATTRIBUTE_MODIFIERS,
+				false,
+				false,
+				modelsContext
+		);
+		base.addField( extra );
+
+		final ResolvedHierarchy after = leaf.getResolvedHierarchy();
+		assertThat( after ).isNotSameAs( before );
+		assertThat( after.getMembers() ).hasSize( 4 );
+		assertThat( after.resolveMemberType( extra ).determineRawClass().toJavaClass() ).isEqualTo( String.class );
+		assertThat( leaf.getResolvedHierarchy() ).isSameAs( after );
+	}
+
+	@SuppressWarnings("unused")
+	static class Item<T> {
+		T id;
+		List<T> tags;
+	}
+
+	@SuppressWarnings("unused")
+	static class Hat extends Item<Integer> {
+		String color;
+	}
+
+	@SuppressWarnings("unused")
+	static class Base<A> {
+		A a;
+		int count;
+	}
+
+	@SuppressWarnings("unused")
+	static class Mid<B> extends Base<List<B>> {
+		B b;
+	}
+
+	@SuppressWarnings("unused")
+	static class Leaf extends Mid<String> {
+	}
+}
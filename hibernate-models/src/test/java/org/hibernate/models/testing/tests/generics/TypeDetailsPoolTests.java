@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.generics;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.TypeDetails;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+
+/**
+ * Tests for {@linkplain ModelsContext#getTypeDetailsPool()}
+ */
+public class TypeDetailsPoolTests {
+	@Test
+	void testSharedMemberTypes() {
+		final ModelsContext modelsContext = createModelContext( Thing.class, OtherThing.class );
+		final ClassDetails thing = modelsContext.getClassDetailsRegistry().getClassDetails( Thing.class.getName() );
+		final ClassDetails otherThing = modelsContext.getClassDetailsRegistry().getClassDetails( OtherThing.class.getName() );
+
+		assertThat( thing.findFieldByName( "name" ).getType() )
+				.isSameAs( thing.findFieldByName( "description" ).getType() );
+		assertThat( thing.findFieldByName( "name" ).getType() )
+				.isSameAs( otherThing.findFieldByName( "name" ).getType() );
+
+		final TypeDetails tags = thing.findFieldByName( "tags" ).getType();
+		assertThat( tags.getTypeKind() ).isEqualTo( TypeDetails.Kind.PARAMETERIZED_TYPE );
+		assertThat( tags ).isSameAs( otherThing.findFieldByName( "tags" ).getType() );
+		assertThat( tags ).isNotSameAs( thing.findFieldByName( "numbers" ).getType() );
+
+		assertThat( thing.findFieldByName( "values" ).getType() )
+				.isSameAs( otherThing.findFieldByName( "values" ).getType() );
+		assertThat( thing.findFieldByName( "names" ).getType() )
+				.isSameAs( otherThing.findFieldByName( "names" ).getType() );
+	}
+
+	@Test
+	void testRecursiveTypeVariables() {
+		final ModelsContext modelsContext = createModelContext( Recursive.class );
+		final ClassDetails recursive = modelsContext.getClassDetailsRegistry().getClassDetails( Recursive.class.getName() );
+
+		final TypeDetails first = recursive.findFieldByName( "first" ).getType();
+		final TypeDetails second = recursive.findFieldByName( "second" ).getType();
+		assertThat( first.getTypeKind() ).isEqualTo( TypeDetails.Kind.TYPE_VARIABLE );
+		assertThat( second ).isSameAs( first );
+		assertThat( first.isImplementor( Comparable.class ) ).isTrue();
+	}
+
+	@SuppressWarnings("unused")
+	static class Thing {
+		String name;
+		String description;
+		List<String> tags;
+		List<Integer> numbers;
+		Map<String, ? extends Number> values;
+		String[] names;
+	}
+
+	@SuppressWarnings("unused")
+	static class OtherThing {
+		String name;
+		List<String> tags;
+		Map<String, ? extends Number> values;
+		String[] names;
+	}
+
+	@SuppressWarnings("unused")
+	static class Recursive<T extends Comparable<T>> {
+		T first;
+		T second;
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.tests.members;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.ModifierUtils;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.internal.dynamic.DynamicFieldDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.ModelsContext;
+import org.hibernate.models.spi.MutableClassDetails;
+import org.hibernate.models.spi.PersistableMembers;
+import org.hibernate.models.spi.TypeDetails;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.testing.TestHelper.createModelContext;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@linkplain ClassDetails#getPersistableMembers()}
+ */
+public class PersistableMembersTests {
+	@Test
+	void testPersistableMembers() {
+		final ModelsContext modelsContext = createModelContext( Thing.class );
+		final ClassDetails classDetails = modelsContext.getClassDetailsRegistry().getClassDetails( Thing.class.getName() );
+
+		final PersistableMembers persistableMembers = classDetails.getPersistableMembers();
+		assertThat( persistableMembers.getFields() ).hasSize( 2 );
+		assertThat( persistableMembers.getGetters() ).hasSize( 2 );
+		assertThat( persistableMembers.getRecordComponents() ).isEmpty();
+		assertThat( persistableMembers.getAttributeNames() ).containsExactlyInAnyOrder( "id", "name", "active" );
+
+		assertThat( persistableMembers.findField( "id" ) ).isSameAs( classDetails.findFieldByName( "id" ) );
+		assertThat( persistableMembers.findField( "active" ) ).isNull();
+		assertThat( persistableMembers.findField( "transientValue" ) ).isNull();
+		assertThat( persistableMembers.findField( "staticValue" ) ).isNull();
+		assertThat( persistableMembers.findGetter( "id" ).getName() ).isEqualTo( "getId" );
+		assertThat( persistableMembers.findGetter( "active" ).getName() ).isEqualTo( "isActive" );
+		assertThat( persistableMembers.findGetter( "name" ) ).isNull();
+
+		final List<String> attributeNames = new ArrayList<>();
+		persistableMembers.forEachAttribute( (attributeName, member) -> {
+			assertThat( member.resolveAttributeName() ).isEqualTo( attributeName );
+			attributeNames.add( attributeName );
+		} );
+		assertThat( attributeNames ).hasSize( 4 );
+
+		final List<MemberDetails> visited = new ArrayList<>();
+		classDetails.forEachPersistableMember( visited::add );
+		assertThat( visited ).hasSize( 4 );
+
+		// the view is cached
+		assertThat( classDetails.getPersistableMembers() ).isSameAs( persistableMembers );
+	}
+
+	@Test
+	void testInvalidation() {
+		final ModelsContext modelsContext = createModelContext( Thing.class );
+		final MutableClassDetails classDetails = (MutableClassDetails) modelsContext
+				.getClassDetailsRegistry()
+				.getClassDetails( Thing.class.getName() );
+
+		final PersistableMembers before = classDetails.getPersistableMembers();
+		assertThat( before.findField( "extra" ) ).isNull();
+
+		final ClassDetails stringDetails = modelsContext.getClassDetailsRegistry().resolveClassDetails( String.class.getName() );
+		final DynamicFieldDetails extra = new DynamicFieldDetails(
+				"extra",
+				new ClassTypeDetailsImpl( stringDetails, TypeDetails.Kind.CLASS ),
+				classDetails,
+				ModifierUtils.DYNAMIC_ATTRIBUTE_MODIFIERS,
+				false,
+				false,
+				modelsContext
+		);
+		classDetails.addField( extra );
+
+		final PersistableMembers after = classDetails.getPersistableMembers();
+		assertThat( after ).isNotSameAs( before );
+		assertThat( after.findField( "extra" ) ).isSameAs( extra );
+		assertThat( after.getFields() ).hasSize( 3 );
+	}
+
+	@Test
+	void testGetterWithoutAttributeName() {
+		final ModelsContext modelsContext = createModelContext( Thing.class );
+		final DynamicClassDetails classDetails = new DynamicClassDetails( "Labeled", modelsContext );
+		// a getter as some custom ClassDetails might report it, not following the JavaBeans naming
+		final MethodDetails label = (MethodDetails) Proxy.newProxyInstance(
+				MethodDetails.class.getClassLoader(),
+				new Class<?>[] { MethodDetails.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "getName" -> "label";
+					case "getMethodKind" -> MethodDetails.MethodKind.GETTER;
+					case "getModifiers" -> Modifier.PUBLIC;
+					case "toString" -> "label()";
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					default -> InvocationHandler.invokeDefault( proxy, method, args );
+				}
+		);
+		classDetails.addMethod( label );
+
+		final PersistableMembers persistableMembers = classDetails.getPersistableMembers();
+		assertThat( persistableMembers.getGetters() ).containsExactly( label );
+		assertThat( persistableMembers.getAttributeNames() ).isEmpty();
+		persistableMembers.forEachAttribute( (attributeName, member) -> fail( "Not expecting attribute " + attributeName ) );
+	}
+
+	@Test
+	void testOtherMethodsNotBuilt() {
+		final ModelsContext modelsContext = createModelContext( Worker.class );
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final ClassDetails classDetails = classDetailsRegistry.getClassDetails( Worker.class.getName() );
+
+		final PersistableMembers persistableMembers = classDetails.getPersistableMembers();
+		assertThat( persistableMembers.getAttributeNames() ).containsExactly( "id" );
+		// only referenced from a non-accessor method
+		assertThat( classDetailsRegistry.findClassDetails( Helper.class.getName() ) ).isNull();
+
+		// the accessors already handed out are reused
+		final MethodDetails getter = persistableMembers.findGetter( "id" );
+		assertThat( classDetails.getMethods() ).hasSize( 2 ).contains( getter );
+
+		final MethodDetails work = classDetails.getMethods().stream()
+				.filter( (method) -> method.getMethodKind() == MethodDetails.MethodKind.OTHER )
+				.findFirst()
+				.orElseThrow();
+		assertThat( work.getReturnType().getClassName() ).isEqualTo( Helper.class.getName() );
+		assertThat( classDetailsRegistry.findClassDetails( Helper.class.getName() ) ).isNotNull();
+	}
+
+	@SuppressWarnings("unused")
+	public static class Helper {
+	}
+
+	@SuppressWarnings("unused")
+	public static class Worker {
+		private Integer id;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Helper work(Helper helper) {
+			return helper;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class Thing {
+		private Integer id;
+		private String name;
+		private transient String transientValue;
+		private static String staticValue;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public boolean isActive() {
+			return true;
+		}
+
+		public void doSomething() {
+		}
+	}
+}
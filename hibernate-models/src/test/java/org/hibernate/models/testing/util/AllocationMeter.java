@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.testing.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated, by the calling thread, per execution of an operation.
+ * <p/>
+ * Callers {@linkplain #warmUp warm up} the operation first, running it often enough for the JIT
+ * to compile it, so that measurements reflect steady-state allocation (including the effect of
+ * escape analysis).  The smallest of a few samples is reported, which filters out one-off
+ * allocations such as class initialization.
+ * <p/>
+ * The results of the operation are kept reachable, so that the JIT cannot eliminate their
+ * allocation - callers see them, after all.
+ */
+public class AllocationMeter {
+	private static final int WARMUP_ITERATIONS = 50_000;
+	private static final int ITERATIONS = 10_000;
+	private static final int SAMPLES = 5;
+
+	private static final ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+	@SuppressWarnings("unused")
+	private static volatile Object sink;
+
+	private static ThreadMXBean resolveThreadMXBean() {
+		if ( ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported() ) {
+			if ( !threadMXBean.isThreadAllocatedMemoryEnabled() ) {
+				threadMXBean.setThreadAllocatedMemoryEnabled( true );
+			}
+			return threadMXBean;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether the JVM is able to report per-thread allocations.
+	 */
+	public static boolean isSupported() {
+		return THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * Whether the JVM runs interpreted only ({@code -Xint}), in which case nothing is compiled
+	 * and escape analysis never removes allocations.
+	 */
+	public static boolean isInterpreted() {
+		return System.getProperty( "java.vm.info", "" ).contains( "interpreted mode" );
+	}
+
+	/**
+	 * Run the operation often enough for the JIT to compile it.
+	 */
+	public static void warmUp(Supplier<?> operation) {
+		for ( int i = 0; i < WARMUP_ITERATIONS; i++ ) {
+			sink = operation.get();
+		}
+	}
+
+	/**
+	 * The bytes allocated per execution of the operation, which should have been
+	 * {@linkplain #warmUp warmed up} already.
+	 */
+	public static long bytesPerOperation(Supplier<?> operation) {
+		if ( THREAD_MX_BEAN == null ) {
+			throw new UnsupportedOperationException( "Thread allocation measurement is not supported by this JVM" );
+		}
+
+		long lowest = Long.MAX_VALUE;
+		for ( int sample = 0; sample < SAMPLES; sample++ ) {
+			final long start = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+			for ( int i = 0; i < ITERATIONS; i++ ) {
+				sink = operation.get();
+			}
+			final long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - start;
+			lowest = Math.min( lowest, allocated / ITERATIONS );
+		}
+		return lowest;
+	}
+}